@@ -0,0 +1,32 @@
+package dev.kurtyoon.pretest.adapter.in.actuator;
+
+import dev.kurtyoon.pretest.adapter.out.lock.LockContentionRegistry;
+import dev.kurtyoon.pretest.adapter.out.lock.LockContentionRegistry.LockContention;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 경합이 심한 Lock 키(상품) 조회
+ * - GET /actuator/locks?limit=10
+ */
+@Component
+@Endpoint(id = "locks")
+public class LockContentionEndpoint {
+
+    private static final int DEFAULT_LIMIT = 10;
+
+    private final LockContentionRegistry lockContentionRegistry;
+
+    public LockContentionEndpoint(LockContentionRegistry lockContentionRegistry) {
+        this.lockContentionRegistry = lockContentionRegistry;
+    }
+
+    @ReadOperation
+    public List<LockContention> topContendedKeys(@Nullable Integer limit) {
+        return lockContentionRegistry.getTopContendedKeys(limit != null ? limit : DEFAULT_LIMIT);
+    }
+}
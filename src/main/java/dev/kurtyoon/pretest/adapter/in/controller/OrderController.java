@@ -2,9 +2,16 @@ package dev.kurtyoon.pretest.adapter.in.controller;
 
 import dev.kurtyoon.pretest.application.dto.request.OrderCommand;
 import dev.kurtyoon.pretest.application.dto.response.BulkOrderResult;
+import dev.kurtyoon.pretest.application.dto.response.OrderListResult;
 import dev.kurtyoon.pretest.application.dto.response.SingleOrderResult;
+import dev.kurtyoon.pretest.application.dto.response.StockReservationResult;
+import dev.kurtyoon.pretest.application.port.in.usecase.ConfirmStockReservationUseCase;
 import dev.kurtyoon.pretest.application.port.in.usecase.CreateBulkOrderUseCase;
 import dev.kurtyoon.pretest.application.port.in.usecase.CreateSingleOrderUseCase;
+import dev.kurtyoon.pretest.application.port.in.usecase.ReadOrderListUseCase;
+import dev.kurtyoon.pretest.application.port.in.usecase.ReadOrderUseCase;
+import dev.kurtyoon.pretest.application.port.in.usecase.ReleaseStockReservationUseCase;
+import dev.kurtyoon.pretest.application.port.in.usecase.ReserveStockUseCase;
 import dev.kurtyoon.pretest.core.dto.ResponseDto;
 import jakarta.validation.Valid;
 import org.springframework.http.MediaType;
@@ -19,13 +26,28 @@ public class OrderController {
 
     private final CreateSingleOrderUseCase createSingleOrderUseCase;
     private final CreateBulkOrderUseCase createBulkOrderUseCase;
+    private final ReadOrderUseCase readOrderUseCase;
+    private final ReadOrderListUseCase readOrderListUseCase;
+    private final ReserveStockUseCase reserveStockUseCase;
+    private final ConfirmStockReservationUseCase confirmStockReservationUseCase;
+    private final ReleaseStockReservationUseCase releaseStockReservationUseCase;
 
     public OrderController(
             CreateSingleOrderUseCase createSingleOrderUseCase,
-            CreateBulkOrderUseCase createBulkOrderUseCase
+            CreateBulkOrderUseCase createBulkOrderUseCase,
+            ReadOrderUseCase readOrderUseCase,
+            ReadOrderListUseCase readOrderListUseCase,
+            ReserveStockUseCase reserveStockUseCase,
+            ConfirmStockReservationUseCase confirmStockReservationUseCase,
+            ReleaseStockReservationUseCase releaseStockReservationUseCase
     ) {
         this.createSingleOrderUseCase = createSingleOrderUseCase;
         this.createBulkOrderUseCase = createBulkOrderUseCase;
+        this.readOrderUseCase = readOrderUseCase;
+        this.readOrderListUseCase = readOrderListUseCase;
+        this.reserveStockUseCase = reserveStockUseCase;
+        this.confirmStockReservationUseCase = confirmStockReservationUseCase;
+        this.releaseStockReservationUseCase = releaseStockReservationUseCase;
     }
 
     @PostMapping("/single")
@@ -37,4 +59,34 @@ public class OrderController {
     public ResponseDto<BulkOrderResult> createBulkOrder(@RequestPart("file") MultipartFile file) throws IOException {
         return ResponseDto.ok(createBulkOrderUseCase.execute(file.getBytes()));
     }
+
+    @PostMapping("/reservations")
+    public ResponseDto<StockReservationResult> reserveStock(@RequestBody @Valid OrderCommand command) {
+        return ResponseDto.created(reserveStockUseCase.execute(command));
+    }
+
+    @PostMapping("/reservations/{reservationId}/confirm")
+    public ResponseDto<SingleOrderResult> confirmStockReservation(@PathVariable("reservationId") Long reservationId) {
+        return ResponseDto.created(confirmStockReservationUseCase.execute(reservationId));
+    }
+
+    @DeleteMapping("/reservations/{reservationId}")
+    public ResponseDto<Void> releaseStockReservation(@PathVariable("reservationId") Long reservationId) {
+        releaseStockReservationUseCase.execute(reservationId);
+        return ResponseDto.ok(null);
+    }
+
+    @GetMapping("/{orderId}")
+    public ResponseDto<SingleOrderResult> readOrder(@PathVariable("orderId") Long orderId) {
+        return ResponseDto.ok(readOrderUseCase.execute(orderId));
+    }
+
+    @GetMapping
+    public ResponseDto<OrderListResult> readOrderList(
+            @RequestParam("customer") String customerName,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        return ResponseDto.ok(readOrderListUseCase.execute(customerName, cursor, size));
+    }
 }
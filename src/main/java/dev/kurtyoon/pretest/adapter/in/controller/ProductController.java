@@ -0,0 +1,22 @@
+package dev.kurtyoon.pretest.adapter.in.controller;
+
+import dev.kurtyoon.pretest.application.dto.response.ProductStockResult;
+import dev.kurtyoon.pretest.application.port.in.usecase.ReadProductStockUseCase;
+import dev.kurtyoon.pretest.core.dto.ResponseDto;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/products")
+public class ProductController {
+
+    private final ReadProductStockUseCase readProductStockUseCase;
+
+    public ProductController(ReadProductStockUseCase readProductStockUseCase) {
+        this.readProductStockUseCase = readProductStockUseCase;
+    }
+
+    @GetMapping("/{productId}/stock")
+    public ResponseDto<ProductStockResult> readProductStock(@PathVariable("productId") Long productId) {
+        return ResponseDto.ok(readProductStockUseCase.execute(productId));
+    }
+}
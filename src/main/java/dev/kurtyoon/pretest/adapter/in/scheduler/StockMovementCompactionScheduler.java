@@ -0,0 +1,37 @@
+package dev.kurtyoon.pretest.adapter.in.scheduler;
+
+import dev.kurtyoon.pretest.application.port.in.usecase.CompactStockMovementUseCase;
+import dev.kurtyoon.pretest.common.logging.LoggerUtils;
+import org.slf4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 변동 이력 압축 주기 실행
+ * - 실패하면 로깅만 하고 다음 주기에 다시 시도 (압축은 하나의 트랜잭션이므로 부분 반영되지 않음)
+ */
+@Component
+@ConditionalOnProperty(name = "stock.ledger.compaction.enabled", havingValue = "true", matchIfMissing = true)
+public class StockMovementCompactionScheduler {
+
+    private static final Logger log = LoggerUtils.getLogger(StockMovementCompactionScheduler.class);
+
+    private final CompactStockMovementUseCase compactStockMovementUseCase;
+
+    public StockMovementCompactionScheduler(CompactStockMovementUseCase compactStockMovementUseCase) {
+        this.compactStockMovementUseCase = compactStockMovementUseCase;
+    }
+
+    @Scheduled(
+            initialDelayString = "${stock.ledger.compaction.interval:10m}",
+            fixedDelayString = "${stock.ledger.compaction.interval:10m}"
+    )
+    public void compact() {
+        try {
+            compactStockMovementUseCase.execute();
+        } catch (Exception e) {
+            log.error("Failed to compact stock movements: {}", e.getMessage());
+        }
+    }
+}
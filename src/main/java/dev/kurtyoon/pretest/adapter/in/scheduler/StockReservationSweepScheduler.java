@@ -0,0 +1,37 @@
+package dev.kurtyoon.pretest.adapter.in.scheduler;
+
+import dev.kurtyoon.pretest.application.port.in.usecase.ReleaseExpiredStockReservationUseCase;
+import dev.kurtyoon.pretest.common.logging.LoggerUtils;
+import org.slf4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료된 재고 예약 반환 주기 실행
+ * - 여러 노드에서 동시에 실행되어도 예약 삭제에 성공한 노드만 재고를 반환함
+ */
+@Component
+@ConditionalOnProperty(name = "stock.reservation.sweep.enabled", havingValue = "true", matchIfMissing = true)
+public class StockReservationSweepScheduler {
+
+    private static final Logger log = LoggerUtils.getLogger(StockReservationSweepScheduler.class);
+
+    private final ReleaseExpiredStockReservationUseCase releaseExpiredStockReservationUseCase;
+
+    public StockReservationSweepScheduler(ReleaseExpiredStockReservationUseCase releaseExpiredStockReservationUseCase) {
+        this.releaseExpiredStockReservationUseCase = releaseExpiredStockReservationUseCase;
+    }
+
+    @Scheduled(
+            initialDelayString = "${stock.reservation.sweep.interval:10s}",
+            fixedDelayString = "${stock.reservation.sweep.interval:10s}"
+    )
+    public void sweep() {
+        try {
+            releaseExpiredStockReservationUseCase.execute();
+        } catch (Exception e) {
+            log.error("Failed to release expired stock reservations: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package dev.kurtyoon.pretest.adapter.out.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * JVM 내부 상품 캐시 무효화
+ * - 단일 노드 배포에서는 다른 노드가 없으므로 아무에게도 전달되지 않음
+ * - join 으로 같은 채널에 참여한 인스턴스끼리는 Redis 없이 메시지를 주고받으므로 여러 노드를 흉내 낼 수 있음
+ */
+public class LocalProductCacheInvalidationBus implements ProductCacheInvalidationBus {
+
+    private final List<LocalProductCacheInvalidationBus> channelMemberList;
+    private final List<Listener> listenerList = new CopyOnWriteArrayList<>();
+
+    public LocalProductCacheInvalidationBus() {
+        this(new CopyOnWriteArrayList<>());
+    }
+
+    private LocalProductCacheInvalidationBus(List<LocalProductCacheInvalidationBus> channelMemberList) {
+        this.channelMemberList = channelMemberList;
+        this.channelMemberList.add(this);
+    }
+
+    /**
+     * 같은 채널에 참여하는 새 인스턴스(다른 노드)를 만듭니다.
+     * @return 같은 채널의 무효화 버스
+     */
+    public LocalProductCacheInvalidationBus join() {
+        return new LocalProductCacheInvalidationBus(channelMemberList);
+    }
+
+    @Override
+    public void publish(Collection<Long> productIdList) {
+        if (productIdList.isEmpty()) {
+            return;
+        }
+
+        List<Long> message = List.copyOf(productIdList);
+
+        for (LocalProductCacheInvalidationBus member : channelMemberList) {
+            if (member != this) {
+                member.listenerList.forEach(listener -> listener.invalidate(message));
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Listener listener) {
+        listenerList.add(listener);
+    }
+}
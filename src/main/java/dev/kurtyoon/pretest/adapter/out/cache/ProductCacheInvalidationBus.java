@@ -0,0 +1,37 @@
+package dev.kurtyoon.pretest.adapter.out.cache;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 노드 간 상품 캐시 무효화 메시지 전달
+ * - 자신이 발행한 메시지는 자신에게 전달되지 않음
+ */
+public interface ProductCacheInvalidationBus {
+
+    /**
+     * 다른 노드에 상품 캐시 무효화를 알립니다.
+     * @param productIdList 변경된 상품 ID 목록
+     */
+    void publish(Collection<Long> productIdList);
+
+    /**
+     * 다른 노드가 발행한 무효화 메시지를 구독합니다.
+     * @param listener 무효화 리스너
+     */
+    void subscribe(Listener listener);
+
+    interface Listener {
+
+        /**
+         * 다른 노드에서 변경된 상품을 무효화합니다.
+         * @param productIdList 상품 ID 목록
+         */
+        void invalidate(List<Long> productIdList);
+
+        /**
+         * 메시지를 놓쳤을 수 있을 때(재구독 등) 전체를 무효화합니다.
+         */
+        void invalidateAll();
+    }
+}
@@ -0,0 +1,84 @@
+package dev.kurtyoon.pretest.adapter.out.cache;
+
+import dev.kurtyoon.pretest.common.logging.LoggerUtils;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.BaseStatusListener;
+import org.redisson.client.codec.StringCodec;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Redis pub/sub 기반 상품 캐시 무효화
+ * - 메시지 형식: "{발행 노드 ID}|{상품 ID},{상품 ID},..." (StringCodec)
+ * - pub/sub 은 전달을 보장하지 않으므로 (재)구독 시점에는 전체를 무효화하고, 그 외의 유실은 캐시 ttl 로 제한
+ * - 발행 실패는 주문 처리를 막지 않도록 로깅만 함
+ */
+public class RedissonProductCacheInvalidationBus implements ProductCacheInvalidationBus {
+
+    private static final Logger log = LoggerUtils.getLogger(RedissonProductCacheInvalidationBus.class);
+
+    private static final String SEPARATOR = "|";
+
+    private final RTopic topic;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public RedissonProductCacheInvalidationBus(RedissonClient redissonClient, String topicName) {
+        this.topic = redissonClient.getTopic(topicName, StringCodec.INSTANCE);
+    }
+
+    @Override
+    public void publish(Collection<Long> productIdList) {
+        if (productIdList.isEmpty()) {
+            return;
+        }
+
+        String message = nodeId + SEPARATOR + productIdList.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+
+        try {
+            topic.publish(message);
+        } catch (Exception e) {
+            log.warn("Failed to publish product cache invalidation: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Listener listener) {
+        topic.addListener(String.class, (channel, message) -> {
+            int separatorIndex = message.indexOf(SEPARATOR);
+
+            if (separatorIndex < 0 || nodeId.equals(message.substring(0, separatorIndex))) {
+                return;
+            }
+
+            listener.invalidate(parseProductIdList(message.substring(separatorIndex + 1)));
+        });
+
+        topic.addListener(new BaseStatusListener() {
+            @Override
+            public void onSubscribe(String channel) {
+                log.info("Subscribed to product cache invalidation: {}", channel);
+                listener.invalidateAll();
+            }
+        });
+    }
+
+    private List<Long> parseProductIdList(String payload) {
+        List<Long> productIdList = new ArrayList<>();
+
+        for (String productId : payload.split(",")) {
+            if (!productId.isEmpty()) {
+                productIdList.add(Long.parseLong(productId));
+            }
+        }
+
+        return productIdList;
+    }
+}
@@ -0,0 +1,62 @@
+package dev.kurtyoon.pretest.adapter.out.lock;
+
+import dev.kurtyoon.pretest.application.port.out.LockPort;
+import dev.kurtyoon.pretest.core.exception.CommonException;
+import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
+
+import java.time.Duration;
+
+/**
+ * JVM 로컬 Lock 을 먼저 획득한 뒤 분산 Lock 을 획득하는 2단계 LockPort 데코레이터
+ * - 같은 노드 내 경합은 메모리에서 흡수되고, 상품 당 노드 별로 한 스레드만 Redis 에서 대기
+ * - 로컬 Lock 은 유스케이스 간에 공유되는 LocalLockRegistry 에서 관리
+ * - 로컬 Lock 대기에 쓴 시간은 Redis Lock 대기 시간에서 차감하여 전체 대기가 waitTime 을 넘지 않도록 함
+ */
+public class LocalFirstLockAdapter implements LockPort {
+
+    private final RedissonLockAdapter delegate;
+    private final LocalLockRegistry localLockRegistry;
+    private final Duration waitTime;
+
+    public LocalFirstLockAdapter(
+            RedissonLockAdapter delegate,
+            LocalLockRegistry localLockRegistry,
+            Duration waitTime
+    ) {
+        this.delegate = delegate;
+        this.localLockRegistry = localLockRegistry;
+        this.waitTime = waitTime;
+    }
+
+    @Override
+    public void lock(String key) {
+        long startedAt = System.nanoTime();
+
+        try {
+            if (!localLockRegistry.tryLock(key, waitTime)) {
+                throw new CommonException(ErrorCode.LOCK_ACQUIRE_FAILED);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommonException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+
+        Duration remainingWaitTime = waitTime.minusNanos(System.nanoTime() - startedAt);
+
+        try {
+            delegate.lock(key, remainingWaitTime.isNegative() ? Duration.ZERO : remainingWaitTime);
+        } catch (RuntimeException e) {
+            localLockRegistry.unlock(key);
+            throw e;
+        }
+    }
+
+    @Override
+    public void unlock(String key) {
+        try {
+            delegate.unlock(key);
+        } finally {
+            localLockRegistry.unlock(key);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package dev.kurtyoon.pretest.adapter.out.lock;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 노드 내 키 별 로컬 Lock 저장소
+ * - 유스케이스 별 LockPort 가 같은 키(상품)에 대해 같은 로컬 Lock 을 사용하도록 하나의 인스턴스를 공유
+ * - 로컬 Lock 은 참조 카운트가 0 이 되면 제거
+ */
+public class LocalLockRegistry {
+
+    private final Map<String, LocalLock> localLockMap = new ConcurrentHashMap<>();
+
+    /**
+     * 로컬 Lock 획득을 시도합니다. 실패하면 참조를 바로 반환합니다.
+     * @param key Lock 키
+     * @param waitTime 최대 대기 시간 (0 이하이면 대기하지 않음)
+     * @return 획득 여부
+     */
+    public boolean tryLock(String key, Duration waitTime) throws InterruptedException {
+        LocalLock localLock = retain(key);
+
+        boolean acquired = false;
+        try {
+            acquired = (waitTime.isZero() || waitTime.isNegative())
+                    ? localLock.lock.tryLock()
+                    : localLock.lock.tryLock(waitTime.toMillis(), TimeUnit.MILLISECONDS);
+        } finally {
+            if (!acquired) {
+                release(key);
+            }
+        }
+
+        return acquired;
+    }
+
+    /**
+     * 현재 스레드가 점유한 로컬 Lock 을 해제합니다.
+     * @param key Lock 키
+     */
+    public void unlock(String key) {
+        LocalLock localLock = localLockMap.get(key);
+
+        if (localLock != null && localLock.lock.isHeldByCurrentThread()) {
+            localLock.lock.unlock();
+            release(key);
+        }
+    }
+
+    /**
+     * 참조 중인 로컬 Lock 수를 반환합니다.
+     */
+    public int size() {
+        return localLockMap.size();
+    }
+
+    private LocalLock retain(String key) {
+        return localLockMap.compute(key, (k, localLock) -> {
+            LocalLock retained = (localLock != null) ? localLock : new LocalLock();
+            retained.references++;
+            return retained;
+        });
+    }
+
+    private void release(String key) {
+        localLockMap.computeIfPresent(key, (k, localLock) -> --localLock.references == 0 ? null : localLock);
+    }
+
+    private static class LocalLock {
+        private final ReentrantLock lock = new ReentrantLock();
+
+        // compute 내부에서만 변경
+        private int references;
+    }
+}
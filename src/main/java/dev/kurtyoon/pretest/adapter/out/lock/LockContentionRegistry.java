@@ -0,0 +1,98 @@
+package dev.kurtyoon.pretest.adapter.out.lock;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock 키 별 경합 통계
+ * - 키 개수가 상한을 넘으면 사용 빈도가 낮은 키부터 제거 (메모리 보호)
+ * - 대량 주문이 한 번 건드린 키들이 자리를 차지해도, 이후 자주 잠기는 키가 그 자리를 대신함
+ */
+public class LockContentionRegistry {
+
+    private final Cache<String, KeyStats> statsCache;
+
+    public LockContentionRegistry(int maxKeys) {
+        // 제거를 호출 스레드에서 바로 처리 (상한을 넘는 동안 키가 쌓이지 않도록)
+        this.statsCache = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .executor(Runnable::run)
+                .build();
+    }
+
+    public void recordAcquired(String key, long waitNanos) {
+        KeyStats stats = getStats(key);
+        stats.acquiredCount.increment();
+        stats.totalWaitNanos.add(waitNanos);
+        stats.maxWaitNanos.accumulate(waitNanos);
+    }
+
+    public void recordFailed(String key, long waitNanos) {
+        KeyStats stats = getStats(key);
+        stats.failedCount.increment();
+        stats.totalWaitNanos.add(waitNanos);
+        stats.maxWaitNanos.accumulate(waitNanos);
+    }
+
+    public void recordHeld(String key, long holdNanos) {
+        getStats(key).totalHoldNanos.add(holdNanos);
+    }
+
+    /**
+     * 누적 대기 시간이 가장 긴 Lock 키 목록을 반환합니다.
+     * @param limit 최대 개수
+     * @return 경합 통계 목록
+     */
+    public List<LockContention> getTopContendedKeys(int limit) {
+        return statsCache.asMap().entrySet().stream()
+                .map(entry -> entry.getValue().toContention(entry.getKey()))
+                .sorted(Comparator.comparingDouble(LockContention::totalWaitMillis).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private KeyStats getStats(String key) {
+        return statsCache.get(key, k -> new KeyStats());
+    }
+
+    private static class KeyStats {
+        private final LongAdder acquiredCount = new LongAdder();
+        private final LongAdder failedCount = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0L);
+        private final LongAdder totalHoldNanos = new LongAdder();
+
+        private LockContention toContention(String key) {
+            long acquired = acquiredCount.sum();
+
+            return new LockContention(
+                    key,
+                    acquired,
+                    failedCount.sum(),
+                    toMillis(totalWaitNanos.sum()),
+                    toMillis(maxWaitNanos.get()),
+                    acquired == 0 ? 0 : toMillis(totalHoldNanos.sum()) / acquired
+            );
+        }
+
+        private static double toMillis(long nanos) {
+            return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+
+    public record LockContention(
+            String key,
+            long acquiredCount,
+            long failedCount,
+            double totalWaitMillis,
+            double maxWaitMillis,
+            double averageHoldMillis
+    ) {
+    }
+}
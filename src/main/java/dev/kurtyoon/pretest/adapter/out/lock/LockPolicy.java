@@ -0,0 +1,36 @@
+package dev.kurtyoon.pretest.adapter.out.lock;
+
+import java.time.Duration;
+
+/**
+ * Lock 획득 대기 / 점유(lease) 정책
+ * - waitTime 이 0 이면 대기 없이 즉시 실패 (fail-fast)
+ * - watchdog 모드에서는 leaseTime 을 사용하지 않고 점유 중인 동안 lease 가 자동 연장됨
+ */
+public record LockPolicy(
+        Duration waitTime,
+        Duration leaseTime,
+        boolean watchdog
+) {
+
+    public boolean isFailFast() {
+        return waitTime.isZero() || waitTime.isNegative();
+    }
+
+    /**
+     * 설정값으로 Lock 정책을 만듭니다. watchdog 이면 leaseTime 은 무시됩니다.
+     */
+    public static LockPolicy of(Duration waitTime, Duration leaseTime, boolean watchdog) {
+        return watchdog
+                ? watchdog(waitTime)
+                : fixedLease(waitTime, leaseTime);
+    }
+
+    public static LockPolicy fixedLease(Duration waitTime, Duration leaseTime) {
+        return new LockPolicy(waitTime, leaseTime, false);
+    }
+
+    public static LockPolicy watchdog(Duration waitTime) {
+        return new LockPolicy(waitTime, Duration.ZERO, true);
+    }
+}
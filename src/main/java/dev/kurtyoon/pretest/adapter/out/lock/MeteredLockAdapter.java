@@ -0,0 +1,111 @@
+package dev.kurtyoon.pretest.adapter.out.lock;
+
+import dev.kurtyoon.pretest.application.port.out.LockPort;
+import dev.kurtyoon.pretest.core.exception.CommonException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lock 획득 대기 시간, 점유 시간, 획득 실패 횟수를 기록하는 LockPort 데코레이터
+ * - 모든 지표는 use_case 태그로 구분
+ * - 상품(키) 별 통계는 카디널리티 문제로 LockContentionRegistry 에 별도로 집계
+ */
+public class MeteredLockAdapter implements LockPort {
+
+    private final LockPort delegate;
+    private final String useCase;
+    private final MeterRegistry meterRegistry;
+    private final LockContentionRegistry contentionRegistry;
+
+    private final Timer acquiredWaitTimer;
+    private final Timer failedWaitTimer;
+    private final Timer holdTimer;
+
+    // 하나의 키는 동시에 한 곳에서만 점유되므로 키 기준으로 획득 시각을 기록
+    private final Map<String, Long> acquiredAtMap = new ConcurrentHashMap<>();
+
+    public MeteredLockAdapter(
+            LockPort delegate,
+            String useCase,
+            MeterRegistry meterRegistry,
+            LockContentionRegistry contentionRegistry
+    ) {
+        this.delegate = delegate;
+        this.useCase = useCase;
+        this.meterRegistry = meterRegistry;
+        this.contentionRegistry = contentionRegistry;
+
+        this.acquiredWaitTimer = waitTimer("acquired");
+        this.failedWaitTimer = waitTimer("failed");
+        this.holdTimer = Timer.builder("lock.hold")
+                .description("Lock 점유 시간")
+                .tag("use_case", useCase)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void lock(String key) {
+        long startedAt = System.nanoTime();
+
+        try {
+            delegate.lock(key);
+        } catch (RuntimeException e) {
+            long waitNanos = System.nanoTime() - startedAt;
+
+            failedWaitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+            failureCounter(e).increment();
+            contentionRegistry.recordFailed(key, waitNanos);
+            throw e;
+        }
+
+        long acquiredAt = System.nanoTime();
+        long waitNanos = acquiredAt - startedAt;
+
+        acquiredWaitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+        contentionRegistry.recordAcquired(key, waitNanos);
+        acquiredAtMap.put(key, acquiredAt);
+    }
+
+    @Override
+    public void unlock(String key) {
+        Long acquiredAt = acquiredAtMap.remove(key);
+
+        try {
+            delegate.unlock(key);
+        } finally {
+            if (acquiredAt != null) {
+                long holdNanos = System.nanoTime() - acquiredAt;
+
+                holdTimer.record(holdNanos, TimeUnit.NANOSECONDS);
+                contentionRegistry.recordHeld(key, holdNanos);
+            }
+        }
+    }
+
+    private Timer waitTimer(String result) {
+        return Timer.builder("lock.acquire.wait")
+                .description("Lock 획득 대기 시간")
+                .tag("use_case", useCase)
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Counter failureCounter(RuntimeException e) {
+        String reason = (e instanceof CommonException commonException)
+                ? commonException.getErrorCode().name()
+                : e.getClass().getSimpleName();
+
+        return Counter.builder("lock.acquire.failures")
+                .description("Lock 획득 실패 횟수")
+                .tag("use_case", useCase)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -1,29 +1,46 @@
 package dev.kurtyoon.pretest.adapter.out.lock;
 
 import dev.kurtyoon.pretest.application.port.out.LockPort;
-import dev.kurtyoon.pretest.core.annotation.Adapter;
 import dev.kurtyoon.pretest.core.exception.CommonException;
 import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
-@Adapter
+/**
+ * Redisson 기반 분산 Lock
+ * - 유스케이스 별 Bean 구성은 LockConfig 참고
+ */
 public class RedissonLockAdapter implements LockPort {
 
     private final RedissonClient redissonClient;
+    private final LockPolicy lockPolicy;
 
-    public RedissonLockAdapter(RedissonClient redissonClient) {
+    public RedissonLockAdapter(
+            RedissonClient redissonClient,
+            LockPolicy lockPolicy
+    ) {
         this.redissonClient = redissonClient;
+        this.lockPolicy = lockPolicy;
     }
 
     @Override
     public void lock(String key) {
+        lock(key, lockPolicy.waitTime());
+    }
+
+    /**
+     * 정책의 waitTime 대신 남은 대기 시간으로 Lock 을 획득합니다. (앞 단계에서 대기한 시간을 차감할 때 사용)
+     * @param key Lock 키
+     * @param waitTime 최대 대기 시간 (0 이하이면 대기 없이 즉시 실패)
+     */
+    public void lock(String key, Duration waitTime) {
         RLock lock = redissonClient.getLock(key);
 
         try {
-            boolean acquired = lock.tryLock(10, 60, TimeUnit.SECONDS);
+            boolean acquired = tryLock(lock, waitTime);
 
             if (!acquired) {
                 throw new CommonException(ErrorCode.LOCK_ACQUIRE_FAILED);
@@ -42,4 +59,25 @@ public class RedissonLockAdapter implements LockPort {
             lock.unlock();
         }
     }
+
+    private boolean tryLock(RLock lock, Duration waitTime) throws InterruptedException {
+
+        // 대기 없이 즉시 획득 시도 (pub/sub 구독 없음)
+        if (waitTime.isZero() || waitTime.isNegative()) {
+            return lockPolicy.watchdog()
+                    ? lock.tryLock()
+                    : lock.tryLock(0, lockPolicy.leaseTime().toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        // leaseTime 을 지정하지 않으면 Redisson watchdog 이 lease 를 연장
+        if (lockPolicy.watchdog()) {
+            return lock.tryLock(waitTime.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        return lock.tryLock(
+                waitTime.toMillis(),
+                lockPolicy.leaseTime().toMillis(),
+                TimeUnit.MILLISECONDS
+        );
+    }
 }
@@ -0,0 +1,283 @@
+package dev.kurtyoon.pretest.adapter.out.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import dev.kurtyoon.pretest.adapter.out.cache.ProductCacheInvalidationBus;
+import dev.kurtyoon.pretest.application.port.out.ProductRepositoryPort;
+import dev.kurtyoon.pretest.common.logging.LoggerUtils;
+import dev.kurtyoon.pretest.core.exception.CommonException;
+import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
+import dev.kurtyoon.pretest.domain.Product;
+import org.slf4j.Logger;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 상품 조회 결과를 캐시하는 ProductRepositoryPort 데코레이터 (read-through)
+ * - 상품 정보(이름, 가격)는 캐시에서 제공하고, stock-validation 이 켜져 있으면 재고는 product_stock 에서 다시 읽어 맞춤
+ * - 재고 저장 시 해당 상품을 즉시 무효화하고, 커밋 후에는 DB 에서 읽었던 항목에 저장한 재고만 반영하며 롤백 시에는 무효화만 유지
+ *   (저장하는 Product 의 이름 / 가격 / 생성 시각은 캐시에 반영하지 않으므로, 스냅샷으로 만든 Product 를 저장해도 캐시가 오염되지 않음)
+ * - 항목의 만료 시각은 DB 에서 읽은 시각 기준이므로, 재고 갱신이 계속되는 상품도 ttl 이 지나면 이름 / 가격을 다시 읽음
+ * - 캐시에는 불변 스냅샷을 보관하고 조회할 때마다 새 Product 를 만들어 반환 (호출 측의 재고 변경이 캐시에 섞이지 않음)
+ * - 커밋된 변경은 무효화 버스로 다른 노드에 알리고, 다른 노드의 변경은 로컬 캐시에서 무효화
+ */
+public class CachingProductRepositoryAdapter implements ProductRepositoryPort {
+
+    private static final Logger log = LoggerUtils.getLogger(CachingProductRepositoryAdapter.class);
+
+    private final ProductRepositoryPort delegate;
+    private final Cache<Long, CachedProduct> cache;
+    private final boolean stockValidation;
+    private final ProductCacheInvalidationBus invalidationBus;
+    private final Ticker ticker;
+
+    /**
+     * @param cache LoadTimeExpiry 와 같은 ticker 로 만든 캐시
+     * @param ticker 항목을 DB 에서 읽은 시각을 기록하는 ticker
+     */
+    public CachingProductRepositoryAdapter(
+            ProductRepositoryPort delegate,
+            Cache<Long, CachedProduct> cache,
+            boolean stockValidation,
+            ProductCacheInvalidationBus invalidationBus,
+            Ticker ticker
+    ) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.stockValidation = stockValidation;
+        this.invalidationBus = invalidationBus;
+        this.ticker = ticker;
+
+        invalidationBus.subscribe(new ProductCacheInvalidationBus.Listener() {
+            @Override
+            public void invalidate(List<Long> productIdList) {
+                log.debug("Products invalidated by other node: {}", productIdList.size());
+                cache.invalidateAll(productIdList);
+            }
+
+            @Override
+            public void invalidateAll() {
+                cache.invalidateAll();
+            }
+        });
+    }
+
+    @Override
+    public Product findById(Long productId) {
+        return findAllByIdList(List.of(productId)).stream()
+                .findFirst()
+                .orElseThrow(() -> new CommonException(ErrorCode.NOT_FOUND_PRODUCT));
+    }
+
+    @Override
+    public List<Product> findAllByIdList(List<Long> productIdList) {
+
+        if (productIdList.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> distinctIdList = new ArrayList<>(new LinkedHashSet<>(productIdList));
+        Map<Long, CachedProduct> hitMap = cache.getAllPresent(distinctIdList);
+
+        Map<Long, Product> productMap = new HashMap<>(distinctIdList.size() * 2);
+
+        // 1. 캐시된 상품
+        if (!hitMap.isEmpty()) {
+            Map<Long, Integer> quantityMap = stockValidation
+                    ? delegate.findQuantityMapByIdList(new ArrayList<>(hitMap.keySet()))
+                    : null;
+
+            for (CachedProduct cached : hitMap.values()) {
+                productMap.put(cached.id(), toProduct(cached, quantityMap));
+            }
+        }
+
+        // 2. 캐시에 없는 상품은 DB 에서 조회 후 캐시
+        List<Long> missIdList = distinctIdList.stream()
+                .filter(productId -> !hitMap.containsKey(productId))
+                .toList();
+
+        if (!missIdList.isEmpty()) {
+            for (Product product : delegate.findAllByIdList(missIdList)) {
+                cache.put(product.getId(), CachedProduct.of(product, ticker.read()));
+                productMap.put(product.getId(), product);
+            }
+        }
+
+        log.debug("Products found with cache: hit = {}, miss = {}", hitMap.size(), missIdList.size());
+
+        List<Product> productList = new ArrayList<>(productMap.size());
+        for (Long productId : distinctIdList) {
+            Product product = productMap.get(productId);
+
+            if (product != null) {
+                productList.add(product);
+            }
+        }
+
+        return productList;
+    }
+
+    @Override
+    public Map<Long, Integer> findQuantityMapByIdList(List<Long> productIdList) {
+        return delegate.findQuantityMapByIdList(productIdList);
+    }
+
+    @Override
+    public void saveAllProducts(List<Product> productList) {
+
+        if (productList.isEmpty()) {
+            return;
+        }
+
+        List<Long> productIdList = productList.stream()
+                .map(Product::getId)
+                .toList();
+
+        Map<Long, Integer> writtenQuantityMap = new HashMap<>(productList.size() * 2);
+        for (Product product : productList) {
+            writtenQuantityMap.put(product.getId(), product.getQuantity());
+        }
+
+        // 무효화 전에 DB 에서 읽었던 항목을 보관 (커밋 후 재고만 바꿔 다시 채움)
+        Map<Long, CachedProduct> loadedMap = cache.getAllPresent(productIdList);
+
+        cache.invalidateAll(productIdList);
+
+        try {
+            delegate.saveAllProducts(productList);
+        } catch (RuntimeException e) {
+            cache.invalidateAll(productIdList);
+            throw e;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            updateQuantities(loadedMap, writtenQuantityMap);
+            invalidationBus.publish(productIdList);
+            return;
+        }
+
+        // 호출 측 트랜잭션이 끝난 뒤에 캐시 반영 (커밋 전에는 다른 노드 / 트랜잭션이 이전 값을 볼 수 있음)
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    updateQuantities(loadedMap, writtenQuantityMap);
+                    invalidationBus.publish(productIdList);
+                } else {
+                    cache.invalidateAll(productIdList);
+                }
+            }
+        });
+    }
+
+    /**
+     * 저장한 재고만 캐시에 반영 (그 사이 다시 읽힌 항목이 있으면 그 항목을, 없으면 저장 전 항목을 갱신)
+     * - DB 에서 읽은 적 없는 상품은 캐시에 넣지 않고 다음 조회에서 읽음
+     */
+    private void updateQuantities(Map<Long, CachedProduct> loadedMap, Map<Long, Integer> writtenQuantityMap) {
+        for (Map.Entry<Long, Integer> written : writtenQuantityMap.entrySet()) {
+            CachedProduct loaded = loadedMap.get(written.getKey());
+
+            cache.asMap().compute(written.getKey(), (productId, current) -> {
+                CachedProduct base = (current != null) ? current : loaded;
+                return (base != null) ? base.withQuantity(written.getValue()) : null;
+            });
+        }
+    }
+
+    /**
+     * 캐시된 상품을 새 Product 로 변환 (재고를 다시 읽었다면 읽은 재고를 사용하고 캐시의 재고도 갱신)
+     */
+    private Product toProduct(CachedProduct cached, Map<Long, Integer> quantityMap) {
+        if (quantityMap == null) {
+            return cached.toProduct(cached.quantity());
+        }
+
+        Integer quantity = quantityMap.get(cached.id());
+
+        if (quantity == null) {
+            // 재고 행이 사라진 상품은 조회되지 않은 것으로 간주
+            cache.invalidate(cached.id());
+            return null;
+        }
+
+        if (quantity != cached.quantity()) {
+            // 그 사이 무효화된 항목은 되살리지 않음
+            cache.asMap().computeIfPresent(cached.id(), (productId, current) -> current.withQuantity(quantity));
+        }
+
+        return cached.toProduct(quantity);
+    }
+
+    /**
+     * 캐시에 보관하는 상품 스냅샷
+     */
+    public record CachedProduct(
+            Long id,
+            String name,
+            int quantity,
+            int price,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt,
+            long loadedAt
+    ) {
+
+        static CachedProduct of(Product product, long loadedAt) {
+            return new CachedProduct(
+                    product.getId(),
+                    product.getName(),
+                    product.getQuantity(),
+                    product.getPrice(),
+                    product.getCreatedAt(),
+                    product.getUpdatedAt(),
+                    loadedAt
+            );
+        }
+
+        CachedProduct withQuantity(int quantity) {
+            return new CachedProduct(id, name, quantity, price, createdAt, updatedAt, loadedAt);
+        }
+
+        Product toProduct(int quantity) {
+            return Product.create(id, name, quantity, price, createdAt, updatedAt);
+        }
+    }
+
+    /**
+     * DB 에서 읽은 시각(loadedAt)부터 ttl 이 지나면 만료
+     * - 재고만 바꿔 다시 넣어도 (expireAfterWrite 와 달리) 만료 시각이 늘어나지 않음
+     */
+    public static class LoadTimeExpiry implements Expiry<Long, CachedProduct> {
+
+        private final long ttlNanos;
+
+        public LoadTimeExpiry(Duration ttl) {
+            this.ttlNanos = ttl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(Long key, CachedProduct value, long currentTime) {
+            return remaining(value, currentTime);
+        }
+
+        @Override
+        public long expireAfterUpdate(Long key, CachedProduct value, long currentTime, long currentDuration) {
+            return remaining(value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long key, CachedProduct value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private long remaining(CachedProduct value, long currentTime) {
+            return Math.max(0L, value.loadedAt() + ttlNanos - currentTime);
+        }
+    }
+}
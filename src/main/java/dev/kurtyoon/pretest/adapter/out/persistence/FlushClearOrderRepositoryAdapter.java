@@ -0,0 +1,129 @@
+package dev.kurtyoon.pretest.adapter.out.persistence;
+
+import dev.kurtyoon.pretest.adapter.out.persistence.entity.OrderEntity;
+import dev.kurtyoon.pretest.adapter.out.persistence.entity.OrderItemEntity;
+import dev.kurtyoon.pretest.adapter.out.persistence.entity.ProductEntity;
+import dev.kurtyoon.pretest.application.port.out.OrderRepositoryPort;
+import dev.kurtyoon.pretest.common.logging.LoggerUtils;
+import dev.kurtyoon.pretest.domain.Order;
+import dev.kurtyoon.pretest.domain.OrderItem;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대량 주문 저장용 JPA 구현 (주기적 flush / clear)
+ * - batch-size 건마다 flush 후 clear 하므로 영속성 컨텍스트에 남는 엔티티 수가 batch-size 를 넘지 않음
+ * - flush 시 insert 는 엔티티 별로 정렬되어 JDBC batch 로 실행됨 (TSID, order_inserts)
+ * - Hibernate 6.6 의 StatelessSession 은 insert 를 batch 로 묶지 않으므로 사용하지 않음
+ * - clear 는 현재 트랜잭션의 영속성 컨텍스트 전체를 비우므로, 관리 엔티티를 함께 쓰는 흐름에서는 사용하지 않아야 함
+ */
+public class FlushClearOrderRepositoryAdapter implements OrderRepositoryPort {
+
+    private static final Logger log = LoggerUtils.getLogger(FlushClearOrderRepositoryAdapter.class);
+
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public FlushClearOrderRepositoryAdapter(EntityManager entityManager, int batchSize) {
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Transactional
+    public Order saveOrder(Order order) {
+        return saveAllOrder(List.of(order)).get(0);
+    }
+
+    @Override
+    @Transactional
+    public List<Order> saveAllOrder(List<Order> orderList) {
+
+        if (orderList.isEmpty()) {
+            log.debug("No orders to save");
+            return List.of();
+        }
+
+        log.debug("Saving bulk orders with flush / clear: {} total", orderList.size());
+
+        Session session = entityManager.unwrap(Session.class);
+        Integer previousBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(batchSize);
+
+        List<Order> savedOrderList = new ArrayList<>(orderList.size());
+
+        try {
+            for (int i = 0; i < orderList.size(); i++) {
+                savedOrderList.add(persistOrder(orderList.get(i)));
+
+                if ((i + 1) % batchSize == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+
+            entityManager.flush();
+            entityManager.clear();
+        } finally {
+            session.setJdbcBatchSize(previousBatchSize);
+        }
+
+        log.debug("Bulk orders saved with flush / clear: {} total", savedOrderList.size());
+
+        return savedOrderList;
+    }
+
+    /**
+     * 주문을 persist 하고 바로 도메인으로 변환 (ID 는 persist 시점에 발급됨)
+     */
+    private Order persistOrder(Order order) {
+        List<OrderItemEntity> itemEntityList = order.getItems().stream()
+                .map(this::toOrderItemEntity)
+                .toList();
+
+        OrderEntity orderEntity = OrderEntity.create(
+                order.getCustomerName(),
+                order.getCustomerAddress(),
+                order.getTotalPrice(),
+                order.getOrderedAt(),
+                itemEntityList
+        );
+
+        entityManager.persist(orderEntity);
+
+        List<OrderItem> savedItemList = itemEntityList.stream()
+                .map(item -> OrderItem.create(
+                        item.getId(),
+                        item.getProductId(),
+                        item.getProductName(),
+                        item.getQuantity(),
+                        item.getPrice()
+                ))
+                .toList();
+
+        return Order.create(
+                orderEntity.getId(),
+                orderEntity.getCustomerName(),
+                orderEntity.getCustomerAddress(),
+                savedItemList,
+                orderEntity.getOrderedAt()
+        );
+    }
+
+    private OrderItemEntity toOrderItemEntity(OrderItem orderItem) {
+        ProductEntity productReference = entityManager.getReference(ProductEntity.class, orderItem.getProductId());
+
+        return OrderItemEntity.create(
+                productReference,
+                orderItem.getProductName(),
+                orderItem.getQuantity(),
+                orderItem.getPrice(),
+                orderItem.getTotalPrice()
+        );
+    }
+}
@@ -0,0 +1,121 @@
+package dev.kurtyoon.pretest.adapter.out.persistence;
+
+import dev.kurtyoon.pretest.application.port.out.OrderRepositoryPort;
+import dev.kurtyoon.pretest.common.id.TsidGenerator;
+import dev.kurtyoon.pretest.common.logging.LoggerUtils;
+import dev.kurtyoon.pretest.domain.Order;
+import dev.kurtyoon.pretest.domain.OrderItem;
+import org.slf4j.Logger;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대량 주문 저장용 JDBC 구현
+ * - 엔티티를 만들지 않고 주문 / 주문 상품을 JDBC batch insert 로 저장하므로 영속성 컨텍스트에 아무것도 남지 않음
+ * - ID 는 TSID 로 미리 발급하여 저장 후 다시 조회하지 않음
+ * - MySQL 에서는 rewriteBatchedStatements=true 로 batch 가 multi-row insert 로 변환됨
+ */
+public class JdbcOrderRepositoryAdapter implements OrderRepositoryPort {
+
+    private static final Logger log = LoggerUtils.getLogger(JdbcOrderRepositoryAdapter.class);
+
+    private static final String INSERT_ORDER_SQL =
+            "INSERT INTO orders (id, customer_name, customer_address, total_price, ordered_at) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String INSERT_ORDER_ITEM_SQL =
+            "INSERT INTO order_items (id, order_id, product_id, product_name, quantity, price, total_price) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TsidGenerator tsidGenerator;
+    private final int batchSize;
+
+    public JdbcOrderRepositoryAdapter(
+            JdbcTemplate jdbcTemplate,
+            TsidGenerator tsidGenerator,
+            int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tsidGenerator = tsidGenerator;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Transactional
+    public Order saveOrder(Order order) {
+        return saveAllOrder(List.of(order)).get(0);
+    }
+
+    @Override
+    @Transactional
+    public List<Order> saveAllOrder(List<Order> orderList) {
+
+        if (orderList.isEmpty()) {
+            log.debug("No orders to save");
+            return List.of();
+        }
+
+        log.debug("Saving bulk orders with JDBC batch: {} total", orderList.size());
+
+        // 1. ID 발급
+        List<Order> savedOrderList = orderList.stream()
+                .map(this::assignId)
+                .toList();
+
+        List<OrderItemRow> itemRowList = new ArrayList<>();
+        for (Order order : savedOrderList) {
+            for (OrderItem item : order.getItems()) {
+                itemRowList.add(new OrderItemRow(order.getId(), item));
+            }
+        }
+
+        // 2. 주문 저장
+        jdbcTemplate.batchUpdate(INSERT_ORDER_SQL, savedOrderList, batchSize, (preparedStatement, order) -> {
+            preparedStatement.setLong(1, order.getId());
+            preparedStatement.setString(2, order.getCustomerName());
+            preparedStatement.setString(3, order.getCustomerAddress());
+            preparedStatement.setInt(4, order.getTotalPrice());
+            preparedStatement.setObject(5, order.getOrderedAt());
+        });
+
+        // 3. 주문 상품 저장
+        jdbcTemplate.batchUpdate(INSERT_ORDER_ITEM_SQL, itemRowList, batchSize, (preparedStatement, row) -> {
+            preparedStatement.setLong(1, row.item().getId());
+            preparedStatement.setLong(2, row.orderId());
+            preparedStatement.setLong(3, row.item().getProductId());
+            preparedStatement.setString(4, row.item().getProductName());
+            preparedStatement.setInt(5, row.item().getQuantity());
+            preparedStatement.setInt(6, row.item().getPrice());
+            preparedStatement.setInt(7, row.item().getTotalPrice());
+        });
+
+        log.debug("Bulk orders saved: orders = {}, items = {}", savedOrderList.size(), itemRowList.size());
+
+        return savedOrderList;
+    }
+
+    private Order assignId(Order order) {
+        List<OrderItem> itemList = order.getItems().stream()
+                .map(item -> OrderItem.create(
+                        tsidGenerator.nextId(),
+                        item.getProductId(),
+                        item.getProductName(),
+                        item.getQuantity(),
+                        item.getPrice()
+                ))
+                .toList();
+
+        return Order.create(
+                tsidGenerator.nextId(),
+                order.getCustomerName(),
+                order.getCustomerAddress(),
+                itemList,
+                order.getOrderedAt()
+        );
+    }
+
+    private record OrderItemRow(Long orderId, OrderItem item) {
+    }
+}
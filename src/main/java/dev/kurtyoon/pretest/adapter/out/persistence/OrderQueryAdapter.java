@@ -0,0 +1,105 @@
+package dev.kurtyoon.pretest.adapter.out.persistence;
+
+import dev.kurtyoon.pretest.adapter.out.persistence.projection.OrderItemProjection;
+import dev.kurtyoon.pretest.adapter.out.persistence.projection.OrderSummaryProjection;
+import dev.kurtyoon.pretest.adapter.out.persistence.repository.OrderItemJpaRepository;
+import dev.kurtyoon.pretest.adapter.out.persistence.repository.OrderJpaRepository;
+import dev.kurtyoon.pretest.application.port.out.OrderQueryPort;
+import dev.kurtyoon.pretest.common.logging.LoggerUtils;
+import dev.kurtyoon.pretest.core.annotation.Adapter;
+import dev.kurtyoon.pretest.core.exception.CommonException;
+import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
+import dev.kurtyoon.pretest.domain.Order;
+import dev.kurtyoon.pretest.domain.OrderItem;
+import dev.kurtyoon.pretest.domain.OrderSummary;
+import org.slf4j.Logger;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 조회 전용 어댑터
+ * - 엔티티 대신 DTO projection 으로 조회하므로 영속성 컨텍스트에 스냅샷이 남지 않음
+ */
+@Adapter
+public class OrderQueryAdapter implements OrderQueryPort {
+
+    private static final Logger log = LoggerUtils.getLogger(OrderQueryAdapter.class);
+
+    private final OrderJpaRepository orderJpaRepository;
+    private final OrderItemJpaRepository orderItemJpaRepository;
+
+    public OrderQueryAdapter(
+            OrderJpaRepository orderJpaRepository,
+            OrderItemJpaRepository orderItemJpaRepository
+    ) {
+        this.orderJpaRepository = orderJpaRepository;
+        this.orderItemJpaRepository = orderItemJpaRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Order findOrderById(Long orderId) {
+        log.debug("Finding order by ID: {}", orderId);
+
+        OrderSummaryProjection summary = orderJpaRepository.findSummaryById(orderId)
+                .orElseThrow(() -> {
+                    log.error("Order not found: ID: {}", orderId);
+                    return new CommonException(ErrorCode.NOT_FOUND_ORDER);
+                });
+
+        List<OrderItem> orderItemList = orderItemJpaRepository.findProjectionListByOrderId(orderId).stream()
+                .map(this::toDomainOrderItem)
+                .toList();
+
+        return Order.create(
+                summary.id(),
+                summary.customerName(),
+                summary.customerAddress(),
+                orderItemList,
+                summary.orderedAt()
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OrderSummary> findOrderSummaryList(
+            String customerName,
+            LocalDateTime cursorOrderedAt,
+            Long cursorId,
+            int limit
+    ) {
+        log.debug("Finding order summaries: Customer = {}, cursor = ({}, {}), limit = {}",
+                customerName, cursorOrderedAt, cursorId, limit);
+
+        List<OrderSummaryProjection> projectionList = (cursorOrderedAt == null || cursorId == null)
+                ? orderJpaRepository.findFirstSummaryPage(customerName, Limit.of(limit))
+                : orderJpaRepository.findSummaryPageAfter(customerName, cursorOrderedAt, cursorId, Limit.of(limit));
+
+        return projectionList.stream()
+                .map(this::toDomainSummary)
+                .toList();
+    }
+
+    private OrderItem toDomainOrderItem(OrderItemProjection projection) {
+        return OrderItem.create(
+                projection.id(),
+                projection.productId(),
+                projection.productName(),
+                projection.quantity(),
+                projection.price()
+        );
+    }
+
+    private OrderSummary toDomainSummary(OrderSummaryProjection projection) {
+        return OrderSummary.create(
+                projection.id(),
+                projection.customerName(),
+                projection.customerAddress(),
+                projection.totalPrice(),
+                projection.orderedAt()
+        );
+    }
+}
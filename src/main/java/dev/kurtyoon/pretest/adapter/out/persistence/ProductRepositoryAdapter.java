@@ -1,42 +1,91 @@
 package dev.kurtyoon.pretest.adapter.out.persistence;
 
-import dev.kurtyoon.pretest.adapter.out.persistence.entity.ProductEntity;
+import dev.kurtyoon.pretest.adapter.out.persistence.projection.ProductCatalogProjection;
+import dev.kurtyoon.pretest.adapter.out.persistence.projection.ProductStockProjection;
 import dev.kurtyoon.pretest.adapter.out.persistence.repository.ProductJpaRepository;
+import dev.kurtyoon.pretest.adapter.out.persistence.repository.ProductStockJpaRepository;
 import dev.kurtyoon.pretest.application.port.out.ProductRepositoryPort;
 import dev.kurtyoon.pretest.common.logging.LoggerUtils;
 import dev.kurtyoon.pretest.core.annotation.Adapter;
 import dev.kurtyoon.pretest.core.exception.CommonException;
 import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
 import dev.kurtyoon.pretest.domain.Product;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
-
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
-
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * 상품 정보(products)와 재고(product_stock)를 나누어 조회하고, 재고 변경은 product_stock 에만 반영
+ */
 @Adapter
 public class ProductRepositoryAdapter implements ProductRepositoryPort {
 
     private static final Logger log = LoggerUtils.getLogger(ProductRepositoryAdapter.class);
 
-    private final ProductJpaRepository productJpaRepository;
+    private static final String UPDATE_STOCK_SQL =
+            "UPDATE product_stock SET quantity = ?, version = version + 1, updated_at = ? WHERE product_id = ?";
 
-    public ProductRepositoryAdapter(ProductJpaRepository productJpaRepository) {
+    private final ProductJpaRepository productJpaRepository;
+    private final ProductStockJpaRepository productStockJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final int inChunkSize;
+    private final ExecutorService chunkFetchExecutor;
+
+    public ProductRepositoryAdapter(
+            ProductJpaRepository productJpaRepository,
+            ProductStockJpaRepository productStockJpaRepository,
+            JdbcTemplate jdbcTemplate,
+            @Value("${product.query.in-chunk-size:1000}") int inChunkSize,
+            @Value("${product.query.parallel-chunk-fetch.enabled:false}") boolean parallelChunkFetchEnabled,
+            @Value("${product.query.parallel-chunk-fetch.threads:4}") int parallelChunkFetchThreads
+    ) {
         this.productJpaRepository = productJpaRepository;
+        this.productStockJpaRepository = productStockJpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.inChunkSize = inChunkSize;
+        this.chunkFetchExecutor = parallelChunkFetchEnabled
+                ? Executors.newFixedThreadPool(parallelChunkFetchThreads, runnable -> {
+                    Thread thread = new Thread(runnable, "product-chunk-fetch");
+                    thread.setDaemon(true);
+                    return thread;
+                })
+                : null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (chunkFetchExecutor != null) {
+            chunkFetchExecutor.shutdown();
+        }
     }
 
     @Override
     public Product findById(Long productId) {
         log.debug("Finding product by ID: {}", productId);
-        return productJpaRepository.findById(productId)
-                .map(this::toDomain)
+        return findAllByIdList(List.of(productId)).stream()
+                .findFirst()
                 .orElseThrow(() -> {
                     log.error("Product not found: ID: {}", productId);
                     return new CommonException(ErrorCode.NOT_FOUND_PRODUCT);
                 });
     }
 
+    /**
+     * 상품 정보와 재고를 각각 projection 으로 조회한 뒤 ID 로 합침
+     * - IN 절은 in-chunk-size 단위로 나누어 조회하고, 설정 시 트랜잭션 밖에서는 청크를 병렬로 조회
+     * - 재고 행이 없는 상품은 조회되지 않은 것으로 간주
+     */
     @Override
     public List<Product> findAllByIdList(List<Long> productIdList) {
 
@@ -46,23 +95,65 @@ public class ProductRepositoryAdapter implements ProductRepositoryPort {
         }
 
         log.debug("Finding products in bulk: {} Id list", productIdList.size());
-        List<ProductEntity> entities = productJpaRepository.findAllById(productIdList);
 
-        if (entities.size() < productIdList.size()) {
-            List<Long> foundIdList = entities.stream()
-                    .map(ProductEntity::getId)
-                    .toList();
+        List<Long> distinctIdList = new ArrayList<>(new LinkedHashSet<>(productIdList));
+        List<List<Long>> chunkList = toChunkList(distinctIdList);
+
+        List<ProductCatalogProjection> catalogList =
+                fetchInChunks(chunkList, productJpaRepository::findCatalogListByIdIn);
+        List<ProductStockProjection> stockList =
+                fetchInChunks(chunkList, productStockJpaRepository::findStockListByProductIdIn);
+
+        Map<Long, ProductStockProjection> stockMap = new HashMap<>(stockList.size() * 2);
+        for (ProductStockProjection stock : stockList) {
+            stockMap.put(stock.productId(), stock);
+        }
+
+        List<Product> productList = new ArrayList<>(catalogList.size());
+        for (ProductCatalogProjection catalog : catalogList) {
+            ProductStockProjection stock = stockMap.get(catalog.id());
 
-            List<Long> missingIdList = productIdList.stream()
-                    .filter(id -> !foundIdList.contains(id))
+            if (stock != null) {
+                productList.add(toDomain(catalog, stock));
+            }
+        }
+
+        if (productList.size() < distinctIdList.size()) {
+            Set<Long> foundIdSet = new HashSet<>(productList.size() * 2);
+            for (Product product : productList) {
+                foundIdSet.add(product.getId());
+            }
+
+            List<Long> missingIdList = distinctIdList.stream()
+                    .filter(id -> !foundIdSet.contains(id))
                     .toList();
 
             log.debug("Some products not found: {}", missingIdList);
         }
 
-        return entities.stream()
-                .map(this::toDomain)
-                .toList();
+        return productList;
+    }
+
+    /**
+     * product_stock 만 조회하므로 상품 정보(products)를 읽지 않음
+     */
+    @Override
+    public Map<Long, Integer> findQuantityMapByIdList(List<Long> productIdList) {
+
+        if (productIdList.isEmpty()) {
+            return Map.of();
+        }
+
+        List<List<Long>> chunkList = toChunkList(new ArrayList<>(new LinkedHashSet<>(productIdList)));
+        List<ProductStockProjection> stockList =
+                fetchInChunks(chunkList, productStockJpaRepository::findStockListByProductIdIn);
+
+        Map<Long, Integer> quantityMap = new HashMap<>(stockList.size() * 2);
+        for (ProductStockProjection stock : stockList) {
+            quantityMap.put(stock.productId(), stock.quantity());
+        }
+
+        return quantityMap;
     }
 
     @Override
@@ -74,82 +165,102 @@ public class ProductRepositoryAdapter implements ProductRepositoryPort {
             return;
         }
 
-        log.debug("Saving/updating products in bulk: {} items", productList.size());
+        log.debug("Updating product stock in batch: {} items", productList.size());
+
+        // 엔티티를 조회하지 않고 product_stock 의 재고와 수정 시각만 한 번의 JDBC batch 로 반영
+        int[][] updatedCounts = jdbcTemplate.batchUpdate(
+                UPDATE_STOCK_SQL,
+                productList,
+                productList.size(),
+                (preparedStatement, product) -> {
+                    preparedStatement.setInt(1, product.getQuantity());
+                    preparedStatement.setObject(2, product.getUpdatedAt());
+                    preparedStatement.setLong(3, product.getId());
+                }
+        );
 
-        // 1. 상품 Id 리스트 추출
-        List<Long> productIdList = productList.stream()
-                .map(Product::getId)
-                .toList();
+        validateAllUpdated(productList, updatedCounts);
+        log.debug("Product stock updated successfully: {} items", productList.size());
+    }
 
-        // 2. 기존 상품 엔티티 일괄 조회
-        Map<Long, ProductEntity> existingProducts = productJpaRepository.findAllById(productIdList).stream()
-                .collect(Collectors.toMap(ProductEntity::getId, entity -> entity));
+    private void validateAllUpdated(List<Product> productList, int[][] updatedCounts) {
+        int index = 0;
 
-        // 3. 각 상품에 대해 업데이트 또는 생성
-        List<ProductEntity> entitiesToSave = productList.stream()
-                .map(product -> updateOrCreateEntity(product, existingProducts))
-                .toList();
+        for (int[] batchCounts : updatedCounts) {
+            for (int updatedCount : batchCounts) {
+                if (updatedCount == 0) {
+                    log.error("Product not found while updating stock: Id = {}", productList.get(index).getId());
+                    throw new CommonException(ErrorCode.NOT_FOUND_PRODUCT);
+                }
 
-        // 4. 일괄 저장
-        productJpaRepository.saveAll(entitiesToSave);
-        log.debug("Products saved successfully: {} items", entitiesToSave.size());
+                index++;
+            }
+        }
+    }
+
+    private List<List<Long>> toChunkList(List<Long> productIdList) {
+        List<List<Long>> chunkList = new ArrayList<>();
 
-        List<ProductEntity> entityList = productList.stream()
-                .map(product -> productJpaRepository.findById(product.getId())
-                        .map(existingEntity -> updateEntity(existingEntity, product))
-                        .orElseGet(() -> toEntity(product))
-                ).toList();
+        for (int from = 0; from < productIdList.size(); from += inChunkSize) {
+            chunkList.add(productIdList.subList(from, Math.min(from + inChunkSize, productIdList.size())));
+        }
 
-        productJpaRepository.saveAll(entityList);
+        return chunkList;
     }
 
-    private ProductEntity updateOrCreateEntity(
-            Product product,
-            Map<Long, ProductEntity> existingProducts
-    ) {
-        ProductEntity existingEntity = existingProducts.get(product.getId());
+    // 트랜잭션 안에서는 같은 커넥션에서 조회해야 하므로 병렬 조회하지 않음
+    private boolean isParallelFetchAvailable(List<List<Long>> chunkList) {
+        return chunkFetchExecutor != null
+                && chunkList.size() > 1
+                && !TransactionSynchronizationManager.isActualTransactionActive();
+    }
 
-        if (existingEntity != null) {
-            log.trace("Updating proudct: Id = {}, quantity = {} -> {}",
-                    product.getId(), existingEntity.getQuantity(), product.getQuantity());
+    private <T> List<T> fetchInChunks(List<List<Long>> chunkList, Function<List<Long>, List<T>> fetcher) {
+        return isParallelFetchAvailable(chunkList)
+                ? fetchChunksInParallel(chunkList, fetcher)
+                : fetchChunks(chunkList, fetcher);
+    }
+
+    private <T> List<T> fetchChunks(List<List<Long>> chunkList, Function<List<Long>, List<T>> fetcher) {
+        List<T> resultList = new ArrayList<>();
 
-            return updateEntity(existingEntity, product);
-        } else {
-            log.trace("Creating new product: Id = {}, quantity = {}", product.getId(), product.getQuantity());
-            return toEntity(product);
+        for (List<Long> chunk : chunkList) {
+            resultList.addAll(fetcher.apply(chunk));
         }
-    }
 
-    private Product toDomain(ProductEntity entity) {
-        return Product.create(
-                entity.getId(),
-                entity.getName(),
-                entity.getQuantity(),
-                entity.getPrice(),
-                entity.getCreatedAt(),
-                entity.getUpdatedAt()
-        );
+        return resultList;
     }
 
-    private ProductEntity toEntity(Product product) {
-        return ProductEntity.create(
-                product.getName(),
-                product.getQuantity(),
-                product.getPrice(),
-                product.getCreatedAt(),
-                product.getUpdatedAt()
-        );
-    }
+    private <T> List<T> fetchChunksInParallel(List<List<Long>> chunkList, Function<List<Long>, List<T>> fetcher) {
+        List<CompletableFuture<List<T>>> futureList = chunkList.stream()
+                .map(chunk -> CompletableFuture.supplyAsync(() -> fetcher.apply(chunk), chunkFetchExecutor))
+                .toList();
+
+        List<T> resultList = new ArrayList<>();
 
-    private ProductEntity updateEntity(ProductEntity entity, Product product) {
+        for (CompletableFuture<List<T>> future : futureList) {
+            try {
+                resultList.addAll(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
 
-        if (entity.getQuantity() != product.getQuantity()) {
-            log.debug("Product stock changed: Id = {}, name = {}, quantity = {} -> {}",
-                    entity.getId(), entity.getName(), entity.getQuantity(), product.getQuantity());
+                throw e;
+            }
         }
 
-        entity.updateQuantity(product.getQuantity(), product.getUpdatedAt());
-        return entity;
+        return resultList;
     }
 
+    private Product toDomain(ProductCatalogProjection catalog, ProductStockProjection stock) {
+        return Product.create(
+                catalog.id(),
+                catalog.name(),
+                stock.quantity(),
+                catalog.price(),
+                catalog.createdAt(),
+                stock.updatedAt()
+        );
+    }
 }
@@ -0,0 +1,79 @@
+package dev.kurtyoon.pretest.adapter.out.persistence;
+
+import dev.kurtyoon.pretest.common.logging.LoggerUtils;
+import org.slf4j.Logger;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 기존 products.quantity 를 product_stock 으로 옮기는 시작 시 데이터 이전
+ * - products 에 quantity 컬럼이 남아 있는 (재고 분리 이전) 스키마에서만 동작
+ * - 재고 행이 없는 상품만 옮기므로 여러 번 실행되어도 이미 옮긴 재고를 덮어쓰지 않음
+ */
+@Component
+@ConditionalOnProperty(name = "product.stock.migration.enabled", havingValue = "true", matchIfMissing = true)
+public class ProductStockMigration implements ApplicationRunner {
+
+    private static final Logger log = LoggerUtils.getLogger(ProductStockMigration.class);
+
+    private static final String MIGRATE_STOCK_SQL = """
+            INSERT INTO product_stock (product_id, quantity, version, updated_at)
+            SELECT p.id, COALESCE(p.quantity, 0), 0, p.updated_at
+            FROM products p
+            WHERE NOT EXISTS (SELECT 1 FROM product_stock s WHERE s.product_id = p.id)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProductStockMigration(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        migrate();
+    }
+
+    /**
+     * 재고 행이 없는 상품의 products.quantity 를 product_stock 으로 옮깁니다.
+     * @return 옮긴 상품 수
+     */
+    public int migrate() {
+        if (!hasLegacyQuantityColumn()) {
+            return 0;
+        }
+
+        int migratedCount = jdbcTemplate.update(MIGRATE_STOCK_SQL);
+
+        if (migratedCount > 0) {
+            log.info("Product stock migrated from products.quantity: {} products", migratedCount);
+        }
+
+        return migratedCount;
+    }
+
+    private boolean hasLegacyQuantityColumn() {
+        Boolean exists = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+
+            // 식별자 대소문자 저장 방식이 DB 마다 달라 두 경우 모두 확인
+            return hasColumn(metaData, "products", "quantity") || hasColumn(metaData, "PRODUCTS", "QUANTITY");
+        });
+
+        return Boolean.TRUE.equals(exists);
+    }
+
+    private boolean hasColumn(DatabaseMetaData metaData, String table, String column) throws SQLException {
+        try (ResultSet resultSet = metaData.getColumns(null, null, table, column)) {
+            return resultSet.next();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package dev.kurtyoon.pretest.adapter.out.persistence;
+
+import dev.kurtyoon.pretest.application.port.out.ProductStockShardPort;
+import dev.kurtyoon.pretest.common.logging.LoggerUtils;
+import dev.kurtyoon.pretest.core.annotation.Adapter;
+import org.slf4j.Logger;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 상품 재고 샤드 저장 (JDBC)
+ * - 차감 / 추가는 현재 값을 기준으로 한 상대 갱신이므로 상품 Lock 없이 샤드 행 Lock 만으로 직렬화됨
+ * - 전체 재고는 product_stock 과 샤드 합계를 하나의 쿼리로 읽으므로, 샤드로 옮기는 중인 재고가 중복되거나 빠지지 않음
+ */
+@Adapter
+public class ProductStockShardRepositoryAdapter implements ProductStockShardPort {
+
+    private static final Logger log = LoggerUtils.getLogger(ProductStockShardRepositoryAdapter.class);
+
+    private static final String SELECT_SHARD_SQL =
+            "SELECT shard_index, quantity FROM product_stock_shards WHERE product_id = ?";
+
+    private static final String INSERT_SHARD_SQL =
+            "INSERT INTO product_stock_shards (product_id, shard_index, quantity, updated_at) VALUES (?, ?, 0, ?)";
+
+    private static final String REDUCE_SHARD_SQL = """
+            UPDATE product_stock_shards SET quantity = quantity - ?, updated_at = ?
+            WHERE product_id = ? AND shard_index = ? AND quantity >= ?
+            """;
+
+    private static final String ADD_SHARD_SQL =
+            "UPDATE product_stock_shards SET quantity = quantity + ?, updated_at = ? WHERE product_id = ? AND shard_index = ?";
+
+    private static final String SELECT_TOTAL_QUANTITY_SQL = """
+            SELECT s.product_id, s.quantity + COALESCE(
+                (SELECT SUM(ss.quantity) FROM product_stock_shards ss WHERE ss.product_id = s.product_id), 0
+            ) AS total_quantity
+            FROM product_stock s
+            WHERE s.product_id IN (%s)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProductStockShardRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public void initialize(Long productId, int shardCount) {
+        Set<Integer> existingIndexSet = findQuantityMap(productId).keySet();
+
+        List<Integer> missingIndexList = new ArrayList<>();
+        for (int shardIndex = 0; shardIndex < shardCount; shardIndex++) {
+            if (!existingIndexSet.contains(shardIndex)) {
+                missingIndexList.add(shardIndex);
+            }
+        }
+
+        if (missingIndexList.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_SHARD_SQL, missingIndexList, missingIndexList.size(),
+                (preparedStatement, shardIndex) -> {
+                    preparedStatement.setLong(1, productId);
+                    preparedStatement.setInt(2, shardIndex);
+                    preparedStatement.setObject(3, now);
+                });
+
+        log.debug("Stock shards initialized: product = {}, created = {}", productId, missingIndexList.size());
+    }
+
+    @Override
+    public boolean reduce(Long productId, int shardIndex, int quantity) {
+        int updatedCount = jdbcTemplate.update(
+                REDUCE_SHARD_SQL,
+                quantity,
+                LocalDateTime.now(),
+                productId,
+                shardIndex,
+                quantity
+        );
+
+        return updatedCount == 1;
+    }
+
+    @Override
+    public void add(Long productId, int shardIndex, int quantity) {
+        int updatedCount = jdbcTemplate.update(ADD_SHARD_SQL, quantity, LocalDateTime.now(), productId, shardIndex);
+
+        if (updatedCount != 1) {
+            throw new IllegalStateException("Stock shard not found: " + productId + ":" + shardIndex);
+        }
+    }
+
+    @Override
+    public Map<Integer, Integer> findQuantityMap(Long productId) {
+        Map<Integer, Integer> quantityMap = new HashMap<>();
+
+        jdbcTemplate.query(SELECT_SHARD_SQL, resultSet -> {
+            quantityMap.put(resultSet.getInt("shard_index"), resultSet.getInt("quantity"));
+        }, productId);
+
+        return quantityMap;
+    }
+
+    @Override
+    public Map<Long, Integer> findTotalQuantityMap(List<Long> productIdList) {
+
+        if (productIdList.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> distinctIdList = new ArrayList<>(new LinkedHashSet<>(productIdList));
+        String placeholders = String.join(", ", Collections.nCopies(distinctIdList.size(), "?"));
+
+        Map<Long, Integer> quantityMap = new HashMap<>(distinctIdList.size() * 2);
+
+        jdbcTemplate.query(SELECT_TOTAL_QUANTITY_SQL.formatted(placeholders), resultSet -> {
+            quantityMap.put(resultSet.getLong("product_id"), resultSet.getInt("total_quantity"));
+        }, distinctIdList.toArray());
+
+        return quantityMap;
+    }
+}
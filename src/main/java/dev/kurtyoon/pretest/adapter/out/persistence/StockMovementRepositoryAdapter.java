@@ -0,0 +1,162 @@
+package dev.kurtyoon.pretest.adapter.out.persistence;
+
+import dev.kurtyoon.pretest.application.port.out.StockMovementPort;
+import dev.kurtyoon.pretest.common.id.TsidGenerator;
+import dev.kurtyoon.pretest.common.logging.LoggerUtils;
+import dev.kurtyoon.pretest.core.annotation.Adapter;
+import dev.kurtyoon.pretest.domain.StockMovement;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 재고 변동 이력 저장
+ * - 이력은 JDBC batch insert 로 추가만 하고, 압축 시 상품 별 스냅샷(stock_snapshots)으로 합친 뒤 삭제
+ * - 상품 재고 = 초기 재고 + 스냅샷 net_delta + 남은 이력 delta 합계
+ */
+@Adapter
+public class StockMovementRepositoryAdapter implements StockMovementPort {
+
+    private static final Logger log = LoggerUtils.getLogger(StockMovementRepositoryAdapter.class);
+
+    private static final String INSERT_MOVEMENT_SQL =
+            "INSERT INTO stock_movements (id, product_id, delta, order_id, occurred_at) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String SELECT_COMPACTION_SQL = """
+            SELECT product_id, SUM(delta) AS net_delta, COUNT(*) AS movement_count, MAX(occurred_at) AS last_occurred_at
+            FROM stock_movements
+            WHERE occurred_at < ?
+            GROUP BY product_id
+            """;
+
+    private static final String UPDATE_SNAPSHOT_SQL = """
+            UPDATE stock_snapshots
+            SET net_delta = net_delta + ?,
+                movement_count = movement_count + ?,
+                compacted_until = CASE WHEN compacted_until < ? THEN ? ELSE compacted_until END,
+                updated_at = ?
+            WHERE product_id = ?
+            """;
+
+    private static final String INSERT_SNAPSHOT_SQL =
+            "INSERT INTO stock_snapshots (product_id, net_delta, movement_count, compacted_until, updated_at) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String DELETE_MOVEMENT_SQL = "DELETE FROM stock_movements WHERE occurred_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TsidGenerator tsidGenerator;
+    private final int batchSize;
+
+    public StockMovementRepositoryAdapter(
+            JdbcTemplate jdbcTemplate,
+            @Value("${stock.ledger.batch-size:1000}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tsidGenerator = TsidGenerator.getDefault();
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Transactional
+    public void appendAll(List<StockMovement> movementList) {
+
+        if (movementList.isEmpty()) {
+            log.debug("No stock movements to append");
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_MOVEMENT_SQL, movementList, batchSize, (preparedStatement, movement) -> {
+            preparedStatement.setLong(1, tsidGenerator.nextId());
+            preparedStatement.setLong(2, movement.getProductId());
+            preparedStatement.setInt(3, movement.getDelta());
+            preparedStatement.setObject(4, movement.getOrderId());
+            preparedStatement.setObject(5, movement.getOccurredAt());
+        });
+
+        log.debug("Stock movements appended: {} items", movementList.size());
+    }
+
+    @Override
+    @Transactional
+    public int compactBefore(LocalDateTime threshold) {
+
+        // 1. 상품 별 누적 delta 집계
+        List<SnapshotRow> snapshotRowList = jdbcTemplate.query(
+                SELECT_COMPACTION_SQL,
+                (resultSet, rowNum) -> new SnapshotRow(
+                        resultSet.getLong("product_id"),
+                        resultSet.getLong("net_delta"),
+                        resultSet.getLong("movement_count"),
+                        resultSet.getObject("last_occurred_at", LocalDateTime.class)
+                ),
+                threshold
+        );
+
+        if (snapshotRowList.isEmpty()) {
+            log.debug("No stock movements to compact before {}", threshold);
+            return 0;
+        }
+
+        long movementCount = snapshotRowList.stream()
+                .mapToLong(SnapshotRow::movementCount)
+                .sum();
+
+        LocalDateTime now = LocalDateTime.now();
+
+        // 2. 기존 스냅샷에 합산하고, 스냅샷이 없는 상품은 새로 생성
+        int[][] updatedCounts = jdbcTemplate.batchUpdate(UPDATE_SNAPSHOT_SQL, snapshotRowList, batchSize, (preparedStatement, row) -> {
+            preparedStatement.setLong(1, row.netDelta());
+            preparedStatement.setLong(2, row.movementCount());
+            preparedStatement.setObject(3, row.lastOccurredAt());
+            preparedStatement.setObject(4, row.lastOccurredAt());
+            preparedStatement.setObject(5, now);
+            preparedStatement.setLong(6, row.productId());
+        });
+
+        List<SnapshotRow> newSnapshotRowList = new ArrayList<>();
+        int index = 0;
+
+        for (int[] batchCounts : updatedCounts) {
+            for (int updatedCount : batchCounts) {
+                if (updatedCount == 0) {
+                    newSnapshotRowList.add(snapshotRowList.get(index));
+                }
+
+                index++;
+            }
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SNAPSHOT_SQL, newSnapshotRowList, batchSize, (preparedStatement, row) -> {
+            preparedStatement.setLong(1, row.productId());
+            preparedStatement.setLong(2, row.netDelta());
+            preparedStatement.setLong(3, row.movementCount());
+            preparedStatement.setObject(4, row.lastOccurredAt());
+            preparedStatement.setObject(5, now);
+        });
+
+        // 3. 합친 이력 삭제 (집계 이후에 기준 시각 이전 이력이 추가되었다면 롤백 후 다음 주기에 다시 시도)
+        int deletedCount = jdbcTemplate.update(DELETE_MOVEMENT_SQL, threshold);
+
+        if (deletedCount != movementCount) {
+            throw new IllegalStateException(
+                    "Stock movements changed during compaction: aggregated = " + movementCount + ", deleted = " + deletedCount);
+        }
+
+        log.info("Stock movements compacted: movements = {}, products = {}", deletedCount, snapshotRowList.size());
+
+        return deletedCount;
+    }
+
+    private record SnapshotRow(
+            Long productId,
+            long netDelta,
+            long movementCount,
+            LocalDateTime lastOccurredAt
+    ) {
+    }
+}
@@ -0,0 +1,204 @@
+package dev.kurtyoon.pretest.adapter.out.persistence;
+
+import dev.kurtyoon.pretest.application.port.out.StockReservationPort;
+import dev.kurtyoon.pretest.common.id.TsidGenerator;
+import dev.kurtyoon.pretest.common.logging.LoggerUtils;
+import dev.kurtyoon.pretest.core.annotation.Adapter;
+import dev.kurtyoon.pretest.domain.OrderItem;
+import dev.kurtyoon.pretest.domain.StockReservation;
+import org.slf4j.Logger;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 재고 예약 저장 (JDBC)
+ * - 예약과 예약 상품은 TSID 로 미리 발급한 ID 로 저장
+ * - 삭제는 예약 행을 먼저 지우므로, 같은 예약을 동시에 확정 / 반환하면 행 Lock 을 먼저 잡은 쪽만 성공
+ */
+@Adapter
+public class StockReservationRepositoryAdapter implements StockReservationPort {
+
+    private static final Logger log = LoggerUtils.getLogger(StockReservationRepositoryAdapter.class);
+
+    private static final String INSERT_RESERVATION_SQL =
+            "INSERT INTO stock_reservations (id, customer_name, customer_address, reserved_at, expires_at) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String INSERT_RESERVATION_ITEM_SQL =
+            "INSERT INTO stock_reservation_items (id, reservation_id, product_id, product_name, quantity, price) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_RESERVATION_SQL =
+            "SELECT id, customer_name, customer_address, reserved_at, expires_at FROM stock_reservations WHERE id = ?";
+
+    private static final String SELECT_EXPIRED_RESERVATION_SQL = """
+            SELECT id, customer_name, customer_address, reserved_at, expires_at
+            FROM stock_reservations
+            WHERE expires_at <= ?
+            ORDER BY expires_at
+            LIMIT ?
+            """;
+
+    private static final String SELECT_RESERVATION_ITEM_SQL =
+            "SELECT id, reservation_id, product_id, product_name, quantity, price FROM stock_reservation_items WHERE reservation_id IN (%s) ORDER BY id";
+
+    private static final String DELETE_RESERVATION_SQL = "DELETE FROM stock_reservations WHERE id = ?";
+
+    private static final String DELETE_RESERVATION_ITEM_SQL = "DELETE FROM stock_reservation_items WHERE reservation_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TsidGenerator tsidGenerator;
+
+    public StockReservationRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tsidGenerator = TsidGenerator.getDefault();
+    }
+
+    @Override
+    @Transactional
+    public StockReservation save(StockReservation reservation) {
+        Long reservationId = tsidGenerator.nextId();
+
+        List<OrderItem> itemList = reservation.getItems().stream()
+                .map(item -> OrderItem.create(
+                        tsidGenerator.nextId(),
+                        item.getProductId(),
+                        item.getProductName(),
+                        item.getQuantity(),
+                        item.getPrice()
+                ))
+                .toList();
+
+        jdbcTemplate.update(
+                INSERT_RESERVATION_SQL,
+                reservationId,
+                reservation.getCustomerName(),
+                reservation.getCustomerAddress(),
+                reservation.getReservedAt(),
+                reservation.getExpiresAt()
+        );
+
+        jdbcTemplate.batchUpdate(INSERT_RESERVATION_ITEM_SQL, itemList, itemList.size(), (preparedStatement, item) -> {
+            preparedStatement.setLong(1, item.getId());
+            preparedStatement.setLong(2, reservationId);
+            preparedStatement.setLong(3, item.getProductId());
+            preparedStatement.setString(4, item.getProductName());
+            preparedStatement.setInt(5, item.getQuantity());
+            preparedStatement.setInt(6, item.getPrice());
+        });
+
+        log.debug("Stock reservation saved: id = {}, items = {}", reservationId, itemList.size());
+
+        return StockReservation.create(
+                reservationId,
+                reservation.getCustomerName(),
+                reservation.getCustomerAddress(),
+                itemList,
+                reservation.getReservedAt(),
+                reservation.getExpiresAt()
+        );
+    }
+
+    @Override
+    public StockReservation findById(Long reservationId) {
+        List<ReservationRow> rowList = jdbcTemplate.query(SELECT_RESERVATION_SQL, this::mapReservationRow, reservationId);
+
+        return toDomainList(rowList).stream()
+                .findFirst()
+                .orElse(null);
+    }
+
+    @Override
+    public List<StockReservation> findExpiredList(LocalDateTime now, int limit) {
+        List<ReservationRow> rowList = jdbcTemplate.query(SELECT_EXPIRED_RESERVATION_SQL, this::mapReservationRow, now, limit);
+
+        return toDomainList(rowList);
+    }
+
+    @Override
+    @Transactional
+    public boolean delete(Long reservationId) {
+        if (jdbcTemplate.update(DELETE_RESERVATION_SQL, reservationId) == 0) {
+            return false;
+        }
+
+        jdbcTemplate.update(DELETE_RESERVATION_ITEM_SQL, reservationId);
+
+        return true;
+    }
+
+    /**
+     * 예약 상품을 한 번에 조회하여 예약 목록으로 변환 (예약 상품이 없는 예약은 제외)
+     */
+    private List<StockReservation> toDomainList(List<ReservationRow> rowList) {
+        if (rowList.isEmpty()) {
+            return List.of();
+        }
+
+        String placeholders = rowList.stream()
+                .map(row -> "?")
+                .collect(Collectors.joining(", "));
+
+        Map<Long, List<OrderItem>> itemMap = new HashMap<>();
+
+        jdbcTemplate.query(
+                String.format(SELECT_RESERVATION_ITEM_SQL, placeholders),
+                resultSet -> {
+                    itemMap.computeIfAbsent(resultSet.getLong("reservation_id"), id -> new ArrayList<>())
+                            .add(OrderItem.create(
+                                    resultSet.getLong("id"),
+                                    resultSet.getLong("product_id"),
+                                    resultSet.getString("product_name"),
+                                    resultSet.getInt("quantity"),
+                                    resultSet.getInt("price")
+                            ));
+                },
+                rowList.stream().map(ReservationRow::id).toArray()
+        );
+
+        List<StockReservation> reservationList = new ArrayList<>(rowList.size());
+
+        for (ReservationRow row : rowList) {
+            List<OrderItem> itemList = itemMap.get(row.id());
+
+            if (itemList == null) {
+                log.warn("Stock reservation without items: {}", row.id());
+                continue;
+            }
+
+            reservationList.add(StockReservation.create(
+                    row.id(),
+                    row.customerName(),
+                    row.customerAddress(),
+                    itemList,
+                    row.reservedAt(),
+                    row.expiresAt()
+            ));
+        }
+
+        return reservationList;
+    }
+
+    private ReservationRow mapReservationRow(ResultSet resultSet, int rowNum) throws SQLException {
+        return new ReservationRow(
+                resultSet.getLong("id"),
+                resultSet.getString("customer_name"),
+                resultSet.getString("customer_address"),
+                resultSet.getObject("reserved_at", LocalDateTime.class),
+                resultSet.getObject("expires_at", LocalDateTime.class)
+        );
+    }
+
+    private record ReservationRow(
+            Long id,
+            String customerName,
+            String customerAddress,
+            LocalDateTime reservedAt,
+            LocalDateTime expiresAt
+    ) {
+    }
+}
@@ -0,0 +1,27 @@
+package dev.kurtyoon.pretest.adapter.out.persistence;
+
+import dev.kurtyoon.pretest.application.port.out.TransactionPort;
+import dev.kurtyoon.pretest.core.annotation.Adapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * 재고 저장과 주문 저장을 하나의 트랜잭션으로 묶음
+ * - 내부 어댑터의 @Transactional 은 이 트랜잭션에 참여하므로 커밋은 한 번만 발생
+ */
+@Adapter
+public class TransactionTemplateAdapter implements TransactionPort {
+
+    private final TransactionTemplate transactionTemplate;
+
+    public TransactionTemplateAdapter(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public <T> T execute(Supplier<T> action) {
+        return transactionTemplate.execute(status -> action.get());
+    }
+}
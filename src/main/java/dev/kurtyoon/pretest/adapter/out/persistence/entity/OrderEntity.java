@@ -1,5 +1,6 @@
 package dev.kurtyoon.pretest.adapter.out.persistence.entity;
 
+import dev.kurtyoon.pretest.adapter.out.persistence.id.TsidId;
 import jakarta.persistence.*;
 
 import java.time.LocalDateTime;
@@ -7,13 +8,19 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(
+        name = "orders",
+        indexes = {
+                // 고객 별 최신 주문 목록 keyset pagination 용
+                @Index(name = "idx_orders_customer_name_ordered_at_id", columnList = "customer_name, ordered_at, id")
+        }
+)
 public class OrderEntity {
     /* -------------------------------------------------- */
     /* Default Column ----------------------------------- */
     /* -------------------------------------------------- */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     private Long id;
 
     /* -------------------------------------------------- */
@@ -69,6 +76,10 @@ public class OrderEntity {
         return customerAddress;
     }
 
+    public LocalDateTime getOrderedAt() {
+        return orderedAt;
+    }
+
     public List<OrderItemEntity> getOrderItems() {
         return orderItems;
     }
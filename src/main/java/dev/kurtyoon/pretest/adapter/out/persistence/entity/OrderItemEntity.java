@@ -1,21 +1,31 @@
 package dev.kurtyoon.pretest.adapter.out.persistence.entity;
 
+import dev.kurtyoon.pretest.adapter.out.persistence.id.TsidId;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "order_items")
+@Table(
+        name = "order_items",
+        indexes = {
+                @Index(name = "idx_order_items_order_id", columnList = "order_id")
+        }
+)
 public class OrderItemEntity {
 
     /* -------------------------------------------------- */
     /* Default Column ----------------------------------- */
     /* -------------------------------------------------- */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     private Long id;
 
     /* -------------------------------------------------- */
     /* Information Column ------------------------------- */
     /* -------------------------------------------------- */
+    // 주문 시점의 상품명 (상품을 다시 조회하지 않도록 보관)
+    @Column(name = "product_name")
+    private String productName;
+
     @Column(name = "quantity")
     private Integer quantity;
 
@@ -32,11 +42,13 @@ public class OrderItemEntity {
 
     private OrderItemEntity(
         ProductEntity product,
+        String productName,
         Integer quantity,
         Integer price,
         Integer totalPrice
     ) {
         this.product = product;
+        this.productName = productName;
         this.quantity = quantity;
         this.price = price;
         this.totalPrice = totalPrice;
@@ -72,6 +84,15 @@ public class OrderItemEntity {
         return product;
     }
 
+    // 프록시의 ID 조회는 초기화를 일으키지 않음
+    public Long getProductId() {
+        return product.getId();
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
     public Integer getPrice() {
         return price;
     }
@@ -88,10 +109,11 @@ public class OrderItemEntity {
     /* -------------------------------------------------- */
     public static OrderItemEntity create(
             ProductEntity product,
+            String productName,
             Integer quantity,
             Integer price,
             Integer totalPrice
     ) {
-        return new OrderItemEntity(product, quantity, price, totalPrice);
+        return new OrderItemEntity(product, productName, quantity, price, totalPrice);
     }
 }
@@ -21,9 +21,6 @@ public class ProductEntity {
     @Column(name = "name")
     private String name;
 
-    @Column(name = "quantity")
-    private Integer quantity;
-
     @Column(name = "price")
     private Integer price;
 
@@ -40,14 +37,12 @@ public class ProductEntity {
 
     private ProductEntity(
             String name,
-            Integer quantity,
             Integer price,
             LocalDateTime createdAt,
             LocalDateTime updatedAt
     ) {
         this.name = name;
-        this.quantity = quantity;
-
+        this.price = price;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
@@ -63,10 +58,6 @@ public class ProductEntity {
         return name;
     }
 
-    public Integer getQuantity() {
-        return quantity;
-    }
-
     public Integer getPrice() {
         return price;
     }
@@ -79,28 +70,16 @@ public class ProductEntity {
         return updatedAt;
     }
 
-    /* -------------------------------------------------- */
-    /* Functions ---------------------------------------- */
-    /* -------------------------------------------------- */
-    public void updateQuantity(
-            Integer quantity,
-            LocalDateTime updatedAt
-    ) {
-        this.quantity = quantity;
-        this.updatedAt = updatedAt;
-    }
-
     /* -------------------------------------------------- */
     /* Builder ------------------------------------------ */
     /* -------------------------------------------------- */
     public static ProductEntity create(
             String name,
-            Integer quantity,
             Integer price,
             LocalDateTime createdAt,
             LocalDateTime updatedAt
     ) {
-        return new ProductEntity(name, quantity, price, createdAt, updatedAt);
+        return new ProductEntity(name, price, createdAt, updatedAt);
     }
 }
 
@@ -0,0 +1,79 @@
+package dev.kurtyoon.pretest.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 재고
+ * - 재고 변경이 상품 정보(이름, 가격) 행을 다시 쓰지 않도록 좁은 테이블로 분리
+ */
+@Entity
+@Table(name = "product_stock")
+public class ProductStockEntity {
+
+    /* -------------------------------------------------- */
+    /* Default Column ----------------------------------- */
+    /* -------------------------------------------------- */
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    /* -------------------------------------------------- */
+    /* Information Column ------------------------------- */
+    /* -------------------------------------------------- */
+    @Column(name = "quantity", nullable = false)
+    private Integer quantity;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /* -------------------------------------------------- */
+    /* Constructor -------------------------------------- */
+    /* -------------------------------------------------- */
+    protected ProductStockEntity() {}
+
+    private ProductStockEntity(
+            Long productId,
+            Integer quantity,
+            LocalDateTime updatedAt
+    ) {
+        this.productId = productId;
+        this.quantity = quantity;
+        this.updatedAt = updatedAt;
+    }
+
+    /* -------------------------------------------------- */
+    /* Getter ------------------------------------------- */
+    /* -------------------------------------------------- */
+    public Long getProductId() {
+        return productId;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    /* -------------------------------------------------- */
+    /* Factory Method ----------------------------------- */
+    /* -------------------------------------------------- */
+    public static ProductStockEntity create(
+            Long productId,
+            Integer quantity,
+            LocalDateTime updatedAt
+    ) {
+        return new ProductStockEntity(productId, quantity, updatedAt);
+    }
+}
@@ -0,0 +1,88 @@
+package dev.kurtyoon.pretest.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 상품 재고 샤드 (hot 상품의 재고를 나누어 담는 하위 카운터)
+ * - 쓰기는 JDBC 로만 수행하고, 엔티티는 스키마 정의에만 사용
+ */
+@Entity
+@Table(name = "product_stock_shards")
+@IdClass(ProductStockShardEntity.ShardId.class)
+public class ProductStockShardEntity {
+
+    /* -------------------------------------------------- */
+    /* Default Column ----------------------------------- */
+    /* -------------------------------------------------- */
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Id
+    @Column(name = "shard_index")
+    private Integer shardIndex;
+
+    /* -------------------------------------------------- */
+    /* Information Column ------------------------------- */
+    /* -------------------------------------------------- */
+    @Column(name = "quantity", nullable = false)
+    private Integer quantity;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /* -------------------------------------------------- */
+    /* Constructor -------------------------------------- */
+    /* -------------------------------------------------- */
+    protected ProductStockShardEntity() {}
+
+    /* -------------------------------------------------- */
+    /* Getter ------------------------------------------- */
+    /* -------------------------------------------------- */
+    public Long getProductId() {
+        return productId;
+    }
+
+    public Integer getShardIndex() {
+        return shardIndex;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    /* -------------------------------------------------- */
+    /* Id Class ----------------------------------------- */
+    /* -------------------------------------------------- */
+    public static class ShardId implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private Long productId;
+        private Integer shardIndex;
+
+        protected ShardId() {}
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ShardId that)) return false;
+            return Objects.equals(productId, that.productId) && Objects.equals(shardIndex, that.shardIndex);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(productId, shardIndex);
+        }
+    }
+}
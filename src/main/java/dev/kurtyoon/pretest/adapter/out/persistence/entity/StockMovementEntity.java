@@ -0,0 +1,69 @@
+package dev.kurtyoon.pretest.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 변동 이력 (append-only)
+ * - 쓰기는 JDBC batch insert 로만 수행하고, 엔티티는 스키마 정의에만 사용
+ */
+@Entity
+@Table(
+        name = "stock_movements",
+        indexes = {
+                @Index(name = "idx_stock_movements_occurred_at", columnList = "occurred_at"),
+                @Index(name = "idx_stock_movements_product_id", columnList = "product_id")
+        }
+)
+public class StockMovementEntity {
+
+    /* -------------------------------------------------- */
+    /* Default Column ----------------------------------- */
+    /* -------------------------------------------------- */
+    @Id
+    private Long id;
+
+    /* -------------------------------------------------- */
+    /* Information Column ------------------------------- */
+    /* -------------------------------------------------- */
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "delta", nullable = false)
+    private Integer delta;
+
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    /* -------------------------------------------------- */
+    /* Constructor -------------------------------------- */
+    /* -------------------------------------------------- */
+    protected StockMovementEntity() {}
+
+    /* -------------------------------------------------- */
+    /* Getter ------------------------------------------- */
+    /* -------------------------------------------------- */
+    public Long getId() {
+        return id;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public Integer getDelta() {
+        return delta;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
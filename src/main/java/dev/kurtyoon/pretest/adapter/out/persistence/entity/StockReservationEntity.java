@@ -0,0 +1,68 @@
+package dev.kurtyoon.pretest.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 예약
+ * - 쓰기는 JDBC 로만 수행하고, 엔티티는 스키마 정의에만 사용
+ */
+@Entity
+@Table(
+        name = "stock_reservations",
+        indexes = {
+                @Index(name = "idx_stock_reservations_expires_at", columnList = "expires_at")
+        }
+)
+public class StockReservationEntity {
+
+    /* -------------------------------------------------- */
+    /* Default Column ----------------------------------- */
+    /* -------------------------------------------------- */
+    @Id
+    private Long id;
+
+    /* -------------------------------------------------- */
+    /* Information Column ------------------------------- */
+    /* -------------------------------------------------- */
+    @Column(name = "customer_name", nullable = false)
+    private String customerName;
+
+    @Column(name = "customer_address", nullable = false)
+    private String customerAddress;
+
+    @Column(name = "reserved_at", nullable = false)
+    private LocalDateTime reservedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /* -------------------------------------------------- */
+    /* Constructor -------------------------------------- */
+    /* -------------------------------------------------- */
+    protected StockReservationEntity() {}
+
+    /* -------------------------------------------------- */
+    /* Getter ------------------------------------------- */
+    /* -------------------------------------------------- */
+    public Long getId() {
+        return id;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public String getCustomerAddress() {
+        return customerAddress;
+    }
+
+    public LocalDateTime getReservedAt() {
+        return reservedAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+}
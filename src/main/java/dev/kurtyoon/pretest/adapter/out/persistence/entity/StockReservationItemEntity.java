@@ -0,0 +1,73 @@
+package dev.kurtyoon.pretest.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * 재고 예약 상품 (예약 시점의 상품 이름 / 가격 포함)
+ * - 쓰기는 JDBC 로만 수행하고, 엔티티는 스키마 정의에만 사용
+ */
+@Entity
+@Table(
+        name = "stock_reservation_items",
+        indexes = {
+                @Index(name = "idx_stock_reservation_items_reservation_id", columnList = "reservation_id")
+        }
+)
+public class StockReservationItemEntity {
+
+    /* -------------------------------------------------- */
+    /* Default Column ----------------------------------- */
+    /* -------------------------------------------------- */
+    @Id
+    private Long id;
+
+    /* -------------------------------------------------- */
+    /* Information Column ------------------------------- */
+    /* -------------------------------------------------- */
+    @Column(name = "reservation_id", nullable = false)
+    private Long reservationId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "product_name", nullable = false)
+    private String productName;
+
+    @Column(name = "quantity", nullable = false)
+    private Integer quantity;
+
+    @Column(name = "price", nullable = false)
+    private Integer price;
+
+    /* -------------------------------------------------- */
+    /* Constructor -------------------------------------- */
+    /* -------------------------------------------------- */
+    protected StockReservationItemEntity() {}
+
+    /* -------------------------------------------------- */
+    /* Getter ------------------------------------------- */
+    /* -------------------------------------------------- */
+    public Long getId() {
+        return id;
+    }
+
+    public Long getReservationId() {
+        return reservationId;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public Integer getPrice() {
+        return price;
+    }
+}
@@ -0,0 +1,66 @@
+package dev.kurtyoon.pretest.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 별 재고 변동 스냅샷
+ * - 압축된 재고 변동 이력의 누적 delta 와 개수를 보관
+ * - 쓰기는 JDBC 로만 수행하고, 엔티티는 스키마 정의에만 사용
+ */
+@Entity
+@Table(name = "stock_snapshots")
+public class StockSnapshotEntity {
+
+    /* -------------------------------------------------- */
+    /* Default Column ----------------------------------- */
+    /* -------------------------------------------------- */
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    /* -------------------------------------------------- */
+    /* Information Column ------------------------------- */
+    /* -------------------------------------------------- */
+    @Column(name = "net_delta", nullable = false)
+    private Long netDelta;
+
+    @Column(name = "movement_count", nullable = false)
+    private Long movementCount;
+
+    // 스냅샷에 포함된 마지막 이력의 발생 시각
+    @Column(name = "compacted_until", nullable = false)
+    private LocalDateTime compactedUntil;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /* -------------------------------------------------- */
+    /* Constructor -------------------------------------- */
+    /* -------------------------------------------------- */
+    protected StockSnapshotEntity() {}
+
+    /* -------------------------------------------------- */
+    /* Getter ------------------------------------------- */
+    /* -------------------------------------------------- */
+    public Long getProductId() {
+        return productId;
+    }
+
+    public Long getNetDelta() {
+        return netDelta;
+    }
+
+    public Long getMovementCount() {
+        return movementCount;
+    }
+
+    public LocalDateTime getCompactedUntil() {
+        return compactedUntil;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
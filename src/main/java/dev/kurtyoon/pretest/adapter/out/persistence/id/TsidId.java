@@ -0,0 +1,17 @@
+package dev.kurtyoon.pretest.adapter.out.persistence.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * TSID 로 식별자를 발급하는 엔티티 ID
+ */
+@IdGeneratorType(TsidIdGenerator.class)
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TsidId {
+}
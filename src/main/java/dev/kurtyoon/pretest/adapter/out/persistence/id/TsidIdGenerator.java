@@ -0,0 +1,34 @@
+package dev.kurtyoon.pretest.adapter.out.persistence.id;
+
+import dev.kurtyoon.pretest.common.id.TsidGenerator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.io.Serial;
+import java.util.EnumSet;
+
+/**
+ * insert 전에 애플리케이션에서 ID 를 발급하므로 Hibernate 가 JDBC batch insert 를 사용할 수 있음
+ */
+public class TsidIdGenerator implements BeforeExecutionGenerator {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public Object generate(
+            SharedSessionContractImplementor session,
+            Object owner,
+            Object currentValue,
+            EventType eventType
+    ) {
+        return TsidGenerator.getDefault().nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,10 @@
+package dev.kurtyoon.pretest.adapter.out.persistence.projection;
+
+public record OrderItemProjection(
+        Long id,
+        Long productId,
+        String productName,
+        Integer quantity,
+        Integer price
+) {
+}
@@ -0,0 +1,12 @@
+package dev.kurtyoon.pretest.adapter.out.persistence.projection;
+
+import java.time.LocalDateTime;
+
+public record OrderSummaryProjection(
+        Long id,
+        String customerName,
+        String customerAddress,
+        Integer totalPrice,
+        LocalDateTime orderedAt
+) {
+}
@@ -0,0 +1,11 @@
+package dev.kurtyoon.pretest.adapter.out.persistence.projection;
+
+import java.time.LocalDateTime;
+
+public record ProductCatalogProjection(
+        Long id,
+        String name,
+        Integer price,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,11 @@
+package dev.kurtyoon.pretest.adapter.out.persistence.projection;
+
+import java.time.LocalDateTime;
+
+public record ProductStockProjection(
+        Long productId,
+        Integer quantity,
+        Long version,
+        LocalDateTime updatedAt
+) {
+}
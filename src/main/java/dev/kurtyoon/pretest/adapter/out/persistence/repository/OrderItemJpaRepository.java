@@ -0,0 +1,24 @@
+package dev.kurtyoon.pretest.adapter.out.persistence.repository;
+
+import dev.kurtyoon.pretest.adapter.out.persistence.entity.OrderItemEntity;
+import dev.kurtyoon.pretest.adapter.out.persistence.projection.OrderItemProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OrderItemJpaRepository extends JpaRepository<OrderItemEntity, Long> {
+
+    // 상품명은 주문 상품의 스냅샷을 사용하므로 products 와 join 하지 않음
+    @Query("""
+            select new dev.kurtyoon.pretest.adapter.out.persistence.projection.OrderItemProjection(
+                i.id, i.product.id, i.productName, i.quantity, i.price)
+            from OrderItemEntity i
+            where i.order.id = :orderId
+            order by i.id
+            """)
+    List<OrderItemProjection> findProjectionListByOrderId(@Param("orderId") Long orderId);
+}
@@ -1,9 +1,54 @@
 package dev.kurtyoon.pretest.adapter.out.persistence.repository;
 
 import dev.kurtyoon.pretest.adapter.out.persistence.entity.OrderEntity;
+import dev.kurtyoon.pretest.adapter.out.persistence.projection.OrderSummaryProjection;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface OrderJpaRepository extends JpaRepository<OrderEntity, Long> {
+
+    @Query("""
+            select new dev.kurtyoon.pretest.adapter.out.persistence.projection.OrderSummaryProjection(
+                o.id, o.customerName, o.customerAddress, o.totalPrice, o.orderedAt)
+            from OrderEntity o
+            where o.id = :orderId
+            """)
+    Optional<OrderSummaryProjection> findSummaryById(@Param("orderId") Long orderId);
+
+    @Query("""
+            select new dev.kurtyoon.pretest.adapter.out.persistence.projection.OrderSummaryProjection(
+                o.id, o.customerName, o.customerAddress, o.totalPrice, o.orderedAt)
+            from OrderEntity o
+            where o.customerName = :customerName
+            order by o.orderedAt desc, o.id desc
+            """)
+    List<OrderSummaryProjection> findFirstSummaryPage(
+            @Param("customerName") String customerName,
+            Limit limit
+    );
+
+    // (ordered_at, id) 가 커서보다 작은 주문만 조회 (keyset pagination)
+    @Query("""
+            select new dev.kurtyoon.pretest.adapter.out.persistence.projection.OrderSummaryProjection(
+                o.id, o.customerName, o.customerAddress, o.totalPrice, o.orderedAt)
+            from OrderEntity o
+            where o.customerName = :customerName
+              and (o.orderedAt < :cursorOrderedAt
+                   or (o.orderedAt = :cursorOrderedAt and o.id < :cursorId))
+            order by o.orderedAt desc, o.id desc
+            """)
+    List<OrderSummaryProjection> findSummaryPageAfter(
+            @Param("customerName") String customerName,
+            @Param("cursorOrderedAt") LocalDateTime cursorOrderedAt,
+            @Param("cursorId") Long cursorId,
+            Limit limit
+    );
 }
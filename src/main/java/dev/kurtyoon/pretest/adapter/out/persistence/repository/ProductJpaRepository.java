@@ -1,9 +1,23 @@
 package dev.kurtyoon.pretest.adapter.out.persistence.repository;
 
 import dev.kurtyoon.pretest.adapter.out.persistence.entity.ProductEntity;
+import dev.kurtyoon.pretest.adapter.out.persistence.projection.ProductCatalogProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface ProductJpaRepository extends JpaRepository<ProductEntity, Long> {
+
+    @Query("""
+            select new dev.kurtyoon.pretest.adapter.out.persistence.projection.ProductCatalogProjection(
+                p.id, p.name, p.price, p.createdAt)
+            from ProductEntity p
+            where p.id in :productIds
+            """)
+    List<ProductCatalogProjection> findCatalogListByIdIn(@Param("productIds") Collection<Long> productIds);
 }
@@ -0,0 +1,23 @@
+package dev.kurtyoon.pretest.adapter.out.persistence.repository;
+
+import dev.kurtyoon.pretest.adapter.out.persistence.entity.ProductStockEntity;
+import dev.kurtyoon.pretest.adapter.out.persistence.projection.ProductStockProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProductStockJpaRepository extends JpaRepository<ProductStockEntity, Long> {
+
+    @Query("""
+            select new dev.kurtyoon.pretest.adapter.out.persistence.projection.ProductStockProjection(
+                s.productId, s.quantity, s.version, s.updatedAt)
+            from ProductStockEntity s
+            where s.productId in :productIds
+            """)
+    List<ProductStockProjection> findStockListByProductIdIn(@Param("productIds") Collection<Long> productIds);
+}
@@ -0,0 +1,55 @@
+package dev.kurtyoon.pretest.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.kurtyoon.pretest.core.dto.SelfValidating;
+import jakarta.annotation.Nullable;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public class OrderListResult extends SelfValidating<OrderListResult> {
+
+    @JsonProperty("orders")
+    @NotNull(message = "주문 목록은 필수 입력값입니다.")
+    @Valid
+    private final List<OrderSummaryResult> orders;
+
+    @JsonProperty("has_next")
+    private final boolean hasNext;
+
+    @JsonProperty("next_cursor")
+    private final String nextCursor;
+
+    public OrderListResult(
+            List<OrderSummaryResult> orders,
+            boolean hasNext,
+            @Nullable String nextCursor
+    ) {
+        this.orders = orders;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+
+        this.validateSelf();
+    }
+
+    public List<OrderSummaryResult> getOrders() {
+        return orders;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public static OrderListResult of(
+            List<OrderSummaryResult> orders,
+            boolean hasNext,
+            @Nullable String nextCursor
+    ) {
+        return new OrderListResult(orders, hasNext, nextCursor);
+    }
+}
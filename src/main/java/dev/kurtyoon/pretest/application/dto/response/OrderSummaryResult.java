@@ -0,0 +1,64 @@
+package dev.kurtyoon.pretest.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.kurtyoon.pretest.common.date.DateUtils;
+import dev.kurtyoon.pretest.core.annotation.DateTimeValue;
+import dev.kurtyoon.pretest.core.dto.SelfValidating;
+import dev.kurtyoon.pretest.domain.OrderSummary;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+public class OrderSummaryResult extends SelfValidating<OrderSummaryResult> {
+
+    @JsonProperty("order_id")
+    @NotNull(message = "주문 ID는 필수 입력값입니다.")
+    private final Long orderId;
+
+    @JsonProperty("customer_name")
+    @NotBlank(message = "주문자 이름은 필수 입력값입니다.")
+    private final String customerName;
+
+    @JsonProperty("customer_address")
+    @NotBlank(message = "주문자 주소는 필수 입력값입니다.")
+    private final String customerAddress;
+
+    @JsonProperty("total_price")
+    @PositiveOrZero(message = "총 가격은 0원 이상이어야 합니다.")
+    private final int totalPrice;
+
+    @JsonProperty("ordered_at")
+    @DateTimeValue
+    @NotBlank(message = "주문 날짜는 필수 입력값입니다.")
+    private final String orderedAt;
+
+    public OrderSummaryResult(
+            Long orderId,
+            String customerName,
+            String customerAddress,
+            int totalPrice,
+            String orderedAt
+    ) {
+        this.orderId = orderId;
+        this.customerName = customerName;
+        this.customerAddress = customerAddress;
+        this.totalPrice = totalPrice;
+        this.orderedAt = orderedAt;
+
+        this.validateSelf();
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public static OrderSummaryResult of(OrderSummary orderSummary) {
+        return new OrderSummaryResult(
+                orderSummary.getId(),
+                orderSummary.getCustomerName(),
+                orderSummary.getCustomerAddress(),
+                orderSummary.getTotalPrice(),
+                DateUtils.convertLocalDateTimeToString(orderSummary.getOrderedAt())
+        );
+    }
+}
@@ -0,0 +1,39 @@
+package dev.kurtyoon.pretest.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.kurtyoon.pretest.core.dto.SelfValidating;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+public class ProductStockResult extends SelfValidating<ProductStockResult> {
+
+    @JsonProperty("product_id")
+    @NotNull(message = "상품 ID는 필수 입력값입니다.")
+    private final Long productId;
+
+    @JsonProperty("quantity")
+    @PositiveOrZero(message = "재고 수량은 0개 이상이어야 합니다.")
+    private final int quantity;
+
+    public ProductStockResult(
+            Long productId,
+            int quantity
+    ) {
+        this.productId = productId;
+        this.quantity = quantity;
+
+        this.validateSelf();
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public static ProductStockResult of(Long productId, int quantity) {
+        return new ProductStockResult(productId, quantity);
+    }
+}
@@ -0,0 +1,67 @@
+package dev.kurtyoon.pretest.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.kurtyoon.pretest.common.date.DateUtils;
+import dev.kurtyoon.pretest.core.annotation.DateTimeValue;
+import dev.kurtyoon.pretest.core.dto.SelfValidating;
+import dev.kurtyoon.pretest.domain.StockReservation;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public class StockReservationResult extends SelfValidating<StockReservationResult> {
+
+    @JsonProperty("reservation_id")
+    @NotNull(message = "재고 예약 ID는 필수 입력값입니다.")
+    private final Long reservationId;
+
+    @JsonProperty("customer_name")
+    @NotBlank(message = "주문자 이름은 필수 입력값입니다.")
+    private final String customerName;
+
+    @JsonProperty("expires_at")
+    @DateTimeValue
+    @NotBlank(message = "만료 시각은 필수 입력값입니다.")
+    private final String expiresAt;
+
+    @JsonProperty("products")
+    @NotNull(message = "상품 목록은 필수 입력값입니다.")
+    private final List<OrderItemResult> products;
+
+    public StockReservationResult(
+            Long reservationId,
+            String customerName,
+            String expiresAt,
+            List<OrderItemResult> products
+    ) {
+        this.reservationId = reservationId;
+        this.customerName = customerName;
+        this.expiresAt = expiresAt;
+        this.products = products;
+
+        this.validateSelf();
+    }
+
+    public Long getReservationId() {
+        return reservationId;
+    }
+
+    public String getExpiresAt() {
+        return expiresAt;
+    }
+
+    public static StockReservationResult of(StockReservation reservation) {
+
+        List<OrderItemResult> orderItemResults = reservation.getItems().stream()
+                .map(OrderItemResult::of)
+                .toList();
+
+        return new StockReservationResult(
+                reservation.getId(),
+                reservation.getCustomerName(),
+                DateUtils.convertLocalDateTimeToString(reservation.getExpiresAt()),
+                orderItemResults
+        );
+    }
+}
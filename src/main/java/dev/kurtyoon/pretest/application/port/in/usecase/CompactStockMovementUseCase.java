@@ -0,0 +1,10 @@
+package dev.kurtyoon.pretest.application.port.in.usecase;
+
+public interface CompactStockMovementUseCase {
+
+    /**
+     * 보관 기간이 지난 재고 변동 이력을 스냅샷으로 압축합니다.
+     * @return 압축된 재고 변동 이력 개수
+     */
+    int execute();
+}
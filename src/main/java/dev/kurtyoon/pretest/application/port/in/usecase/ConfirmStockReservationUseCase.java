@@ -0,0 +1,13 @@
+package dev.kurtyoon.pretest.application.port.in.usecase;
+
+import dev.kurtyoon.pretest.application.dto.response.SingleOrderResult;
+
+public interface ConfirmStockReservationUseCase {
+
+    /**
+     * 재고 예약을 주문으로 확정합니다.
+     * @param reservationId 재고 예약 ID
+     * @return 주문 생성 결과
+     */
+    SingleOrderResult execute(Long reservationId);
+}
@@ -0,0 +1,15 @@
+package dev.kurtyoon.pretest.application.port.in.usecase;
+
+import dev.kurtyoon.pretest.application.dto.response.OrderListResult;
+
+public interface ReadOrderListUseCase {
+
+    /**
+     * 고객의 주문 목록을 최신순으로 조회합니다.
+     * @param customerName 고객 이름
+     * @param cursor 이전 페이지의 다음 커서 (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 주문 목록 조회 결과
+     */
+    OrderListResult execute(String customerName, String cursor, int size);
+}
@@ -0,0 +1,13 @@
+package dev.kurtyoon.pretest.application.port.in.usecase;
+
+import dev.kurtyoon.pretest.application.dto.response.SingleOrderResult;
+
+public interface ReadOrderUseCase {
+
+    /**
+     * 주문을 조회합니다.
+     * @param orderId 주문 ID
+     * @return 주문 조회 결과
+     */
+    SingleOrderResult execute(Long orderId);
+}
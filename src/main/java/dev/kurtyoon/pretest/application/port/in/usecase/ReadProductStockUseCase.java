@@ -0,0 +1,13 @@
+package dev.kurtyoon.pretest.application.port.in.usecase;
+
+import dev.kurtyoon.pretest.application.dto.response.ProductStockResult;
+
+public interface ReadProductStockUseCase {
+
+    /**
+     * 상품의 전체 재고를 조회합니다. 샤드로 나누어진 재고도 합산됩니다.
+     * @param productId 상품 ID
+     * @return 상품 재고 조회 결과
+     */
+    ProductStockResult execute(Long productId);
+}
@@ -0,0 +1,10 @@
+package dev.kurtyoon.pretest.application.port.in.usecase;
+
+public interface ReleaseExpiredStockReservationUseCase {
+
+    /**
+     * 만료된 재고 예약의 재고를 반환합니다.
+     * @return 반환한 재고 예약 개수
+     */
+    int execute();
+}
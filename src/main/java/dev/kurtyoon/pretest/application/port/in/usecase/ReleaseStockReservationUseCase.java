@@ -0,0 +1,10 @@
+package dev.kurtyoon.pretest.application.port.in.usecase;
+
+public interface ReleaseStockReservationUseCase {
+
+    /**
+     * 재고 예약을 취소하고 재고를 반환합니다.
+     * @param reservationId 재고 예약 ID
+     */
+    void execute(Long reservationId);
+}
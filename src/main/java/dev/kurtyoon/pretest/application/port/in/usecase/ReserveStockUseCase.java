@@ -0,0 +1,14 @@
+package dev.kurtyoon.pretest.application.port.in.usecase;
+
+import dev.kurtyoon.pretest.application.dto.request.OrderCommand;
+import dev.kurtyoon.pretest.application.dto.response.StockReservationResult;
+
+public interface ReserveStockUseCase {
+
+    /**
+     * 주문할 재고를 만료 시각까지 예약합니다.
+     * @param command 주문 요청
+     * @return 재고 예약 결과
+     */
+    StockReservationResult execute(OrderCommand command);
+}
@@ -0,0 +1,33 @@
+package dev.kurtyoon.pretest.application.port.out;
+
+import dev.kurtyoon.pretest.domain.Order;
+import dev.kurtyoon.pretest.domain.OrderSummary;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OrderQueryPort {
+
+    /**
+     * 주문을 주문 상품과 함께 조회합니다.
+     * @param orderId 주문 ID
+     * @return 주문
+     */
+    Order findOrderById(Long orderId);
+
+    /**
+     * 고객의 주문 목록을 최신순((ordered_at, id) 내림차순)으로 조회합니다.
+     * - 커서가 주어지면 커서보다 이전 주문만 조회합니다. (keyset pagination)
+     * @param customerName 고객 이름
+     * @param cursorOrderedAt 커서의 주문 시각 (첫 페이지는 null)
+     * @param cursorId 커서의 주문 ID (첫 페이지는 null)
+     * @param limit 최대 조회 개수
+     * @return 주문 요약 목록
+     */
+    List<OrderSummary> findOrderSummaryList(
+            String customerName,
+            LocalDateTime cursorOrderedAt,
+            Long cursorId,
+            int limit
+    );
+}
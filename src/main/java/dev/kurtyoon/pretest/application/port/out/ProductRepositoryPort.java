@@ -3,6 +3,7 @@ package dev.kurtyoon.pretest.application.port.out;
 import dev.kurtyoon.pretest.domain.Product;
 
 import java.util.List;
+import java.util.Map;
 
 public interface ProductRepositoryPort {
 
@@ -21,8 +22,16 @@ public interface ProductRepositoryPort {
     List<Product> findAllByIdList(List<Long> productIdList);
 
     /**
-     * 상품 목록을 저장합니다.
-     * @param productList 상품 목록
+     * 상품 정보 없이 재고 수량만 조회합니다.
+     * @param productIdList 상품 ID 목록
+     * @return 상품 ID 별 재고 수량 (존재하지 않는 상품은 제외)
+     */
+    Map<Long, Integer> findQuantityMapByIdList(List<Long> productIdList);
+
+    /**
+     * 재고가 변경된 상품의 재고 수량과 수정 시각을 저장합니다.
+     * - 호출 측 트랜잭션 안에서 한 번의 batch update 로 반영됩니다.
+     * @param productList 재고가 변경된 상품 목록
      */
     void saveAllProducts(List<Product> productList);
 }
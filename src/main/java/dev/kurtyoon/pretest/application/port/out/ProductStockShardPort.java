@@ -0,0 +1,45 @@
+package dev.kurtyoon.pretest.application.port.out;
+
+import java.util.List;
+import java.util.Map;
+
+public interface ProductStockShardPort {
+
+    /**
+     * 상품의 재고 샤드 행이 없으면 재고 0 으로 생성합니다.
+     * @param productId 상품 ID
+     * @param shardCount 샤드 수
+     */
+    void initialize(Long productId, int shardCount);
+
+    /**
+     * 샤드의 재고가 충분할 때만 차감합니다. 호출 측 트랜잭션이 끝날 때까지 해당 샤드 행만 잠깁니다.
+     * @param productId 상품 ID
+     * @param shardIndex 샤드 번호
+     * @param quantity 차감 수량
+     * @return 차감 여부 (재고가 부족하거나 샤드가 없으면 false)
+     */
+    boolean reduce(Long productId, int shardIndex, int quantity);
+
+    /**
+     * 샤드에 재고를 더합니다.
+     * @param productId 상품 ID
+     * @param shardIndex 샤드 번호
+     * @param quantity 추가 수량
+     */
+    void add(Long productId, int shardIndex, int quantity);
+
+    /**
+     * 상품의 샤드 별 재고를 조회합니다.
+     * @param productId 상품 ID
+     * @return 샤드 번호 별 재고 수량
+     */
+    Map<Integer, Integer> findQuantityMap(Long productId);
+
+    /**
+     * product_stock 의 재고와 모든 샤드의 재고를 합친 전체 재고를 한 번의 조회로 읽습니다.
+     * @param productIdList 상품 ID 목록
+     * @return 상품 ID 별 전체 재고 수량 (존재하지 않는 상품은 제외)
+     */
+    Map<Long, Integer> findTotalQuantityMap(List<Long> productIdList);
+}
@@ -0,0 +1,23 @@
+package dev.kurtyoon.pretest.application.port.out;
+
+import dev.kurtyoon.pretest.domain.StockMovement;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface StockMovementPort {
+
+    /**
+     * 재고 변동 이력을 추가합니다.
+     * - 호출 측 트랜잭션 안에서 batch insert 로 반영되므로 재고 저장이 롤백되면 이력도 함께 롤백됩니다.
+     * @param movementList 재고 변동 이력 목록
+     */
+    void appendAll(List<StockMovement> movementList);
+
+    /**
+     * 기준 시각 이전의 재고 변동 이력을 상품 별 스냅샷으로 합치고 삭제합니다.
+     * @param threshold 기준 시각
+     * @return 합쳐진 재고 변동 이력 개수
+     */
+    int compactBefore(LocalDateTime threshold);
+}
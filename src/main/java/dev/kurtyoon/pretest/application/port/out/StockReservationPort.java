@@ -0,0 +1,38 @@
+package dev.kurtyoon.pretest.application.port.out;
+
+import dev.kurtyoon.pretest.domain.StockReservation;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface StockReservationPort {
+
+    /**
+     * 재고 예약을 저장합니다. 재고 차감과 같은 트랜잭션에서 호출해야 합니다.
+     * @param reservation 재고 예약
+     * @return ID 가 발급된 재고 예약
+     */
+    StockReservation save(StockReservation reservation);
+
+    /**
+     * 재고 예약을 조회합니다.
+     * @param reservationId 재고 예약 ID
+     * @return 재고 예약 (없으면 null)
+     */
+    StockReservation findById(Long reservationId);
+
+    /**
+     * 만료 시각이 지난 재고 예약을 만료 시각 순으로 조회합니다.
+     * @param now 기준 시각
+     * @param limit 최대 개수
+     * @return 재고 예약 목록
+     */
+    List<StockReservation> findExpiredList(LocalDateTime now, int limit);
+
+    /**
+     * 재고 예약을 삭제합니다. 확정 / 반환은 삭제에 성공한 쪽만 진행하므로 한 예약은 한 번만 처리됩니다.
+     * @param reservationId 재고 예약 ID
+     * @return 삭제 여부 (이미 처리된 예약이면 false)
+     */
+    boolean delete(Long reservationId);
+}
@@ -0,0 +1,13 @@
+package dev.kurtyoon.pretest.application.port.out;
+
+import java.util.function.Supplier;
+
+public interface TransactionPort {
+
+    /**
+     * 하나의 트랜잭션 안에서 작업을 실행합니다. 예외가 발생하면 작업 중의 모든 쓰기가 롤백됩니다.
+     * @param action 작업
+     * @return 작업 결과
+     */
+    <T> T execute(Supplier<T> action);
+}
@@ -0,0 +1,349 @@
+package dev.kurtyoon.pretest.application.service;
+
+import dev.kurtyoon.pretest.application.dto.request.OrderCommand;
+import dev.kurtyoon.pretest.application.dto.request.OrderItemCommand;
+import dev.kurtyoon.pretest.application.dto.response.SingleOrderResult;
+import dev.kurtyoon.pretest.application.port.in.usecase.CreateSingleOrderUseCase;
+import dev.kurtyoon.pretest.application.port.out.LockPort;
+import dev.kurtyoon.pretest.application.port.out.OrderRepositoryPort;
+import dev.kurtyoon.pretest.application.port.out.ProductRepositoryPort;
+import dev.kurtyoon.pretest.application.port.out.StockMovementPort;
+import dev.kurtyoon.pretest.application.port.out.TransactionPort;
+import dev.kurtyoon.pretest.application.service.support.OrderBatchCollector;
+import dev.kurtyoon.pretest.application.service.support.OrderExecutionContext;
+import dev.kurtyoon.pretest.application.service.support.ProductAvailabilityRegistry;
+import dev.kurtyoon.pretest.common.logging.LoggerUtils;
+import dev.kurtyoon.pretest.core.config.LockConfig;
+import dev.kurtyoon.pretest.core.exception.CommonException;
+import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
+import dev.kurtyoon.pretest.domain.Order;
+import dev.kurtyoon.pretest.domain.OrderItem;
+import dev.kurtyoon.pretest.domain.Product;
+import dev.kurtyoon.pretest.domain.StockMovement;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+/**
+ * 묶음 처리(group commit) 방식의 단건 주문
+ * - 가장 작은 상품 ID 가 같은 주문을 window 동안(또는 max-size 까지) 모아 한 번에 처리
+ * - batch 의 모든 상품 Lock 을 한 번 획득하고, 도착 순서대로 재고를 차감한 뒤 재고 / 주문 / 이력을 하나의 트랜잭션으로 저장
+ * - 재고 부족 등 주문 별 실패는 해당 주문에만 전달되고, 저장 실패는 batch 의 모든 주문에 전달됨
+ * - 처리 지연은 최대 window 만큼 늘어나지만 같은 상품의 주문이 Lock 을 하나씩 기다리지 않음
+ */
+@Service
+@ConditionalOnProperty(name = "order.execution.mode", havingValue = "batching")
+public class BatchingCreateSingleOrderService implements CreateSingleOrderUseCase {
+
+    private final static Logger log = LoggerUtils.getLogger(BatchingCreateSingleOrderService.class);
+
+    private final LockPort lockPort;
+    private final OrderRepositoryPort orderRepositoryPort;
+    private final ProductRepositoryPort productRepositoryPort;
+    private final TransactionPort transactionPort;
+    private final StockMovementPort stockMovementPort;
+    private final ProductAvailabilityRegistry productAvailabilityRegistry;
+    private final OrderBatchCollector<Long, PendingOrder> orderBatchCollector;
+
+    public BatchingCreateSingleOrderService(
+            @Qualifier(LockConfig.SINGLE_ORDER_LOCK_PORT) LockPort lockPort,
+            OrderRepositoryPort orderRepositoryPort,
+            ProductRepositoryPort productRepositoryPort,
+            TransactionPort transactionPort,
+            StockMovementPort stockMovementPort,
+            ProductAvailabilityRegistry productAvailabilityRegistry,
+            @Value("${order.execution.batching.window:2ms}") Duration window,
+            @Value("${order.execution.batching.max-size:64}") int maxSize
+    ) {
+        this.lockPort = lockPort;
+        this.orderRepositoryPort = orderRepositoryPort;
+        this.productRepositoryPort = productRepositoryPort;
+        this.transactionPort = transactionPort;
+        this.stockMovementPort = stockMovementPort;
+        this.productAvailabilityRegistry = productAvailabilityRegistry;
+        this.orderBatchCollector = new OrderBatchCollector<>(window, maxSize);
+    }
+
+    @Override
+    public SingleOrderResult execute(OrderCommand command) {
+
+        // 0. 주문 요청에 대한 유효성 검증
+        if (command.items() == null || command.items().isEmpty()) {
+            throw new CommonException(ErrorCode.INVALID_ORDER);
+        }
+
+        // 1. 상품 ID 목록 추출 및 정렬
+        List<Long> sortedProductIdList = command.items().stream()
+                .map(OrderItemCommand::productId)
+                .sorted()
+                .toList();
+
+        // 2. 상품 중복 체크
+        if (new HashSet<>(sortedProductIdList).size() != sortedProductIdList.size()) {
+            throw new CommonException(ErrorCode.DUPLICATE_PRODUCT_ORDER);
+        }
+
+        // 3. 품절 / 존재하지 않는 상품 주문은 batch 에 넣기 전에 거절
+        ErrorCode rejection = productAvailabilityRegistry.findRejection(command.items());
+        if (rejection != null) {
+            throw new CommonException(rejection);
+        }
+
+        // 4. batch 에 합류하고, batch 를 연 경우 모인 주문을 처리
+        PendingOrder pendingOrder = new PendingOrder(command, sortedProductIdList, new CompletableFuture<>());
+        List<PendingOrder> pendingOrderList = orderBatchCollector.join(sortedProductIdList.get(0), pendingOrder);
+
+        if (pendingOrderList != null) {
+            processBatch(pendingOrderList);
+        }
+
+        // 5. 결과 대기
+        return await(pendingOrder.result());
+    }
+
+    /**
+     * batch 처리 (예외는 아직 결과를 받지 못한 모든 주문에 전달, 커밋된 주문은 커밋 직후 결과를 받으므로 제외됨)
+     * @param pendingOrderList 도착 순서대로 모인 주문 목록
+     */
+    private void processBatch(List<PendingOrder> pendingOrderList) {
+        List<Long> sortedProductIdList = pendingOrderList.stream()
+                .flatMap(pendingOrder -> pendingOrder.productIdList().stream())
+                .distinct()
+                .sorted()
+                .toList();
+
+        OrderExecutionContext context = new OrderExecutionContext(sortedProductIdList);
+
+        try {
+            try {
+                // 1. Lock 획득
+                acquireAllLocks(context);
+
+                // 2. 주문 처리
+                processOrders(pendingOrderList, context);
+            } finally {
+                // 3. Lock 해제
+                releaseAllLocks(context.getAcquiredLockList());
+            }
+        } catch (RuntimeException | Error e) {
+            // batch 에 합류한 주문이 결과를 기다리며 멈추지 않도록 모든 예외를 전달
+            log.error("Failed to Order batch: size = {}, {}", pendingOrderList.size(), e.getMessage());
+            pendingOrderList.forEach(pendingOrder -> pendingOrder.result().completeExceptionally(e));
+        }
+    }
+
+    /**
+     * 도착 순서대로 재고를 차감하고 성공한 주문을 한 번에 저장
+     * @param pendingOrderList 주문 목록
+     * @param context 주문 컨텍스트
+     */
+    private void processOrders(List<PendingOrder> pendingOrderList, OrderExecutionContext context) {
+        // 1. 상품 조회 후 품절 / 존재하지 않는 상품 갱신
+        Map<Long, Product> productMap = productRepositoryPort.findAllByIdList(context.getProductIdList()).stream()
+                .collect(Collectors.toMap(Product::getId, product -> product));
+        productAvailabilityRegistry.update(context.getProductIdList(), productMap);
+
+        // 2. 주문 별 재고 확인 및 차감 (실패한 주문에는 바로 결과 전달)
+        List<PendingOrder> acceptedList = new ArrayList<>(pendingOrderList.size());
+        List<Order> orderList = new ArrayList<>(pendingOrderList.size());
+
+        for (PendingOrder pendingOrder : pendingOrderList) {
+            ErrorCode errorCode = processOrderCommand(pendingOrder.command(), context, productMap, orderList);
+
+            if (errorCode != null) {
+                pendingOrder.result().completeExceptionally(new CommonException(errorCode));
+            } else {
+                acceptedList.add(pendingOrder);
+            }
+        }
+
+        if (orderList.isEmpty()) {
+            return;
+        }
+
+        // 3. 변경된 상품 정보, 주문, 재고 변동 이력을 하나의 트랜잭션으로 저장 (실패 시 DB 롤백)
+        List<Order> savedOrderList;
+        try {
+            savedOrderList = transactionPort.execute(() -> {
+                saveChangedProducts(context, productMap);
+                List<Order> saved = orderRepositoryPort.saveAllOrder(orderList);
+                stockMovementPort.appendAll(StockMovement.ofOrderList(saved));
+                return saved;
+            });
+        } catch (RuntimeException e) {
+            // 메모리 재고 복구 (DB 는 트랜잭션 롤백으로 복구됨)
+            context.restoreState();
+            throw e;
+        }
+
+        // 4. 커밋된 주문에 먼저 결과 전달 (이후 단계가 실패해도 저장된 주문이 실패로 전달되지 않도록)
+        for (int i = 0; i < acceptedList.size(); i++) {
+            completeSaved(acceptedList.get(i), savedOrderList.get(i));
+        }
+
+        log.info("주문 묶음 처리 성공: 성공 = {}, 전체 = {}", savedOrderList.size(), pendingOrderList.size());
+
+        // 5. 커밋된 재고로 품절 상품 갱신 (실패해도 다음 조회에서 다시 갱신되므로 로그만 남김)
+        try {
+            productAvailabilityRegistry.update(context.getChangedProductList(productMap));
+        } catch (RuntimeException e) {
+            log.warn("Failed to update product availability after commit: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 저장된 주문의 결과 전달 (결과 생성 실패는 해당 주문에만 전달)
+     * @param pendingOrder 주문
+     * @param savedOrder 저장된 주문
+     */
+    private void completeSaved(PendingOrder pendingOrder, Order savedOrder) {
+        try {
+            pendingOrder.result().complete(SingleOrderResult.of(savedOrder));
+        } catch (RuntimeException e) {
+            log.error("Failed to build result for saved order {}: {}", savedOrder.getId(), e.getMessage());
+            pendingOrder.result().completeExceptionally(e);
+        }
+    }
+
+    /**
+     * 단일 주문의 재고 확인 및 차감
+     * @param command 주문 요청
+     * @param context 주문 컨텍스트
+     * @param productMap 상품 목록
+     * @param orderList 성공한 주문 목록
+     * @return 실패 사유 (성공 시 null)
+     */
+    private ErrorCode processOrderCommand(
+            OrderCommand command,
+            OrderExecutionContext context,
+            Map<Long, Product> productMap,
+            List<Order> orderList
+    ) {
+        for (OrderItemCommand item : command.items()) {
+            if (!productMap.containsKey(item.productId())) {
+                return ErrorCode.NOT_FOUND_PRODUCT;
+            }
+        }
+
+        try {
+            Order order = createOrder(command, productMap);
+
+            ErrorCode errorCode = context.validateAndReduceStock(order.getItems(), productMap);
+            if (errorCode == null) {
+                orderList.add(order);
+            }
+
+            return errorCode;
+        } catch (CommonException e) {
+            return e.getErrorCode();
+        }
+    }
+
+    /**
+     * 모든 상품에 대한 Lock 획득
+     * @param context 주문 컨텍스트
+     */
+    private void acquireAllLocks(OrderExecutionContext context) {
+        for (Long productId : context.getProductIdList()) {
+            lockPort.lock(getProductLockKey(productId));
+            context.lockAcquired(productId);
+            log.debug("Lock acquired for Product: {}", productId);
+        }
+    }
+
+    /**
+     * 모든 상품에 대한 Lock 해제
+     * @param productIdList 상품 ID 목록
+     */
+    private void releaseAllLocks(List<Long> productIdList) {
+
+        // 역순으로 락 해제
+        for (int i = productIdList.size() - 1; i >= 0; i--) {
+            try {
+                lockPort.unlock(getProductLockKey(productIdList.get(i)));
+            } catch (Exception e) {
+                log.error("Failed to release lock for product {}: {}",
+                        productIdList.get(i), e.getMessage());
+                // 락 해제 실패는 로깅 후 진행 (다른 락은 해제 시도)
+            }
+        }
+    }
+
+    /**
+     * 주문 생성
+     * @param command 주문 요청
+     * @param productMap 상품 목록
+     * @return 주문
+     */
+    private Order createOrder(OrderCommand command, Map<Long, Product> productMap) {
+        List<OrderItem> orderItemList = command.items().stream()
+                .map(item -> {
+                    Product product = productMap.get(item.productId());
+                    return OrderItem.create(
+                            item.productId(),
+                            product.getName(),
+                            item.quantity(),
+                            product.getPrice()
+                    );
+                })
+                .toList();
+
+        return Order.create(
+                command.customerName(),
+                command.customerAddress(),
+                orderItemList
+        );
+    }
+
+    /**
+     * 재고가 변경된 상품만 저장
+     * @param context 주문 컨텍스트
+     * @param productMap 상품 목록
+     */
+    private void saveChangedProducts(
+            OrderExecutionContext context,
+            Map<Long, Product> productMap
+    ) {
+        List<Product> changedProductList = context.getChangedProductList(productMap);
+
+        if (!changedProductList.isEmpty()) {
+            productRepositoryPort.saveAllProducts(changedProductList);
+        }
+    }
+
+    /**
+     * 상품 Lock 키 생성
+     * @param productId 상품 ID
+     * @return 상품 Lock 키
+     */
+    private String getProductLockKey(Long productId) {
+        return String.format("PRODUCT_LOCK:%d", productId);
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw e;
+        }
+    }
+
+    private record PendingOrder(
+            OrderCommand command,
+            List<Long> productIdList,
+            CompletableFuture<SingleOrderResult> result
+    ) {
+    }
+}
@@ -0,0 +1,29 @@
+package dev.kurtyoon.pretest.application.service;
+
+import dev.kurtyoon.pretest.application.port.in.usecase.CompactStockMovementUseCase;
+import dev.kurtyoon.pretest.application.port.out.StockMovementPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Service
+public class CompactStockMovementService implements CompactStockMovementUseCase {
+
+    private final StockMovementPort stockMovementPort;
+    private final Duration retention;
+
+    public CompactStockMovementService(
+            StockMovementPort stockMovementPort,
+            @Value("${stock.ledger.compaction.retention:1d}") Duration retention
+    ) {
+        this.stockMovementPort = stockMovementPort;
+        this.retention = retention;
+    }
+
+    @Override
+    public int execute() {
+        return stockMovementPort.compactBefore(LocalDateTime.now().minus(retention));
+    }
+}
@@ -0,0 +1,69 @@
+package dev.kurtyoon.pretest.application.service;
+
+import dev.kurtyoon.pretest.application.dto.response.SingleOrderResult;
+import dev.kurtyoon.pretest.application.port.in.usecase.ConfirmStockReservationUseCase;
+import dev.kurtyoon.pretest.application.port.out.OrderRepositoryPort;
+import dev.kurtyoon.pretest.application.port.out.StockReservationPort;
+import dev.kurtyoon.pretest.application.port.out.TransactionPort;
+import dev.kurtyoon.pretest.common.logging.LoggerUtils;
+import dev.kurtyoon.pretest.core.exception.CommonException;
+import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
+import dev.kurtyoon.pretest.domain.Order;
+import dev.kurtyoon.pretest.domain.StockReservation;
+import org.slf4j.Logger;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 예약 확정 (2단계 주문의 2단계)
+ * - 재고는 예약 시 이미 차감되었으므로 Lock 없이 예약 삭제와 주문 저장만 하나의 트랜잭션으로 처리
+ * - 예약 삭제에 성공한 경우에만 주문을 저장하므로 만료 반환과 동시에 실행되어도 한쪽만 반영됨
+ */
+@Service
+public class ConfirmStockReservationService implements ConfirmStockReservationUseCase {
+
+    private final static Logger log = LoggerUtils.getLogger(ConfirmStockReservationService.class);
+
+    private final StockReservationPort stockReservationPort;
+    private final OrderRepositoryPort orderRepositoryPort;
+    private final TransactionPort transactionPort;
+
+    public ConfirmStockReservationService(
+            StockReservationPort stockReservationPort,
+            OrderRepositoryPort orderRepositoryPort,
+            TransactionPort transactionPort
+    ) {
+        this.stockReservationPort = stockReservationPort;
+        this.orderRepositoryPort = orderRepositoryPort;
+        this.transactionPort = transactionPort;
+    }
+
+    @Override
+    public SingleOrderResult execute(Long reservationId) {
+
+        // 1. 예약 조회
+        StockReservation reservation = stockReservationPort.findById(reservationId);
+        if (reservation == null) {
+            throw new CommonException(ErrorCode.NOT_FOUND_RESERVATION);
+        }
+
+        // 2. 만료된 예약은 확정하지 않음 (재고는 만료 반환에서 처리)
+        if (reservation.isExpired(LocalDateTime.now())) {
+            throw new CommonException(ErrorCode.EXPIRED_RESERVATION);
+        }
+
+        // 3. 예약 삭제 후 주문 저장 (이미 처리된 예약이면 실패)
+        Order savedOrder = transactionPort.execute(() -> {
+            if (!stockReservationPort.delete(reservationId)) {
+                throw new CommonException(ErrorCode.NOT_FOUND_RESERVATION);
+            }
+
+            return orderRepositoryPort.saveOrder(reservation.toOrder());
+        });
+
+        log.info("재고 예약 확정: 예약 번호 = {}, 주문 번호 = {}", reservationId, savedOrder.getId());
+
+        return SingleOrderResult.of(savedOrder);
+    }
+}
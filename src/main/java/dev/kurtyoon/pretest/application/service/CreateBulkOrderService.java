@@ -9,20 +9,30 @@ import dev.kurtyoon.pretest.application.port.out.ExcelParserPort;
 import dev.kurtyoon.pretest.application.port.out.LockPort;
 import dev.kurtyoon.pretest.application.port.out.OrderRepositoryPort;
 import dev.kurtyoon.pretest.application.port.out.ProductRepositoryPort;
+import dev.kurtyoon.pretest.application.port.out.StockMovementPort;
+import dev.kurtyoon.pretest.application.port.out.TransactionPort;
 import dev.kurtyoon.pretest.application.service.support.OrderExecutionContext;
+import dev.kurtyoon.pretest.application.service.support.ProductAvailabilityRegistry;
+import dev.kurtyoon.pretest.application.service.support.ProductCatalog;
 import dev.kurtyoon.pretest.common.logging.LoggerUtils;
+import dev.kurtyoon.pretest.core.config.LockConfig;
+import dev.kurtyoon.pretest.core.config.PersistenceConfig;
 import dev.kurtyoon.pretest.core.exception.CommonException;
 import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
 import dev.kurtyoon.pretest.domain.Order;
 import dev.kurtyoon.pretest.domain.OrderItem;
 import dev.kurtyoon.pretest.domain.Product;
+import dev.kurtyoon.pretest.domain.StockMovement;
 import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
+@ConditionalOnExpression("'${order.execution.mode:locking}' != 'sharded'")
 public class CreateBulkOrderService implements CreateBulkOrderUseCase {
 
     private final static Logger log = LoggerUtils.getLogger(CreateBulkOrderService.class);
@@ -32,18 +42,30 @@ public class CreateBulkOrderService implements CreateBulkOrderUseCase {
     private final OrderRepositoryPort orderRepositoryPort;
 
     private final LockPort lockPort;
+    private final TransactionPort transactionPort;
+    private final StockMovementPort stockMovementPort;
+    private final ProductCatalog productCatalog;
+    private final ProductAvailabilityRegistry productAvailabilityRegistry;
 
     public CreateBulkOrderService(
             ExcelParserPort excelParserPort,
             ProductRepositoryPort productRepositoryPort,
-            OrderRepositoryPort orderRepositoryPort,
-            LockPort lockPort
+            @Qualifier(PersistenceConfig.BULK_ORDER_REPOSITORY_PORT) OrderRepositoryPort orderRepositoryPort,
+            @Qualifier(LockConfig.BULK_ORDER_LOCK_PORT) LockPort lockPort,
+            TransactionPort transactionPort,
+            StockMovementPort stockMovementPort,
+            ProductCatalog productCatalog,
+            ProductAvailabilityRegistry productAvailabilityRegistry
     ) {
         this.excelParserPort = excelParserPort;
 
         this.productRepositoryPort = productRepositoryPort;
         this.orderRepositoryPort = orderRepositoryPort;
         this.lockPort = lockPort;
+        this.transactionPort = transactionPort;
+        this.stockMovementPort = stockMovementPort;
+        this.productCatalog = productCatalog;
+        this.productAvailabilityRegistry = productAvailabilityRegistry;
     }
 
     @Override
@@ -57,24 +79,70 @@ public class CreateBulkOrderService implements CreateBulkOrderUseCase {
         // 2. 각 주문 내 중복 상품 검증 (사전 검증으로 불필요한 락 획득 방지)
         validateNoDuplicateInEachOrder(commandList);
 
-        // 3. 필요한 모든 상품 ID 추출 및 정렬
-        List<Long> sortedProductIds = getSortedUniqueProductIds(commandList);
+        // 3. 품절 / 존재하지 않는 상품 주문은 Lock 획득 전에 실패로 확정 (주문 순서대로 실패 사유 보관)
+        List<ErrorCode> rejectionList = findRejectionList(commandList);
 
-        // 4. 주문 컨텍스트 생성
+        // 4. 처리할 주문의 상품 ID 만 추출 및 정렬
+        List<Long> sortedProductIds = getSortedUniqueProductIds(commandList, rejectionList);
+
+        if (sortedProductIds.isEmpty()) {
+            log.info("All {} orders rejected before lock", commandList.size());
+            return BulkOrderResult.of(List.of(), toFailedOrderResultList(commandList, rejectionList));
+        }
+
+        // 5. 주문 컨텍스트 생성
         OrderExecutionContext context = new OrderExecutionContext(sortedProductIds);
 
         try {
-            // 5. Lock 획득
+            // 6. Lock 획득
             acquireAllLocks(context);
 
-            // 5. 주문 처리
-            return processBulkOrder(commandList, context);
+            // 7. 주문 처리
+            return processBulkOrder(commandList, rejectionList, context);
         } finally {
-            // 7. Lock 해제
+            // 8. Lock 해제
             releaseAllLocks(sortedProductIds);
         }
     }
 
+    /**
+     * Lock 없이 실패가 확실한 주문의 실패 사유 조회
+     * @param commandList 주문 요청 목록
+     * @return 주문 별 실패 사유 (처리해야 하는 주문은 null)
+     */
+    private List<ErrorCode> findRejectionList(List<OrderCommand> commandList) {
+        List<ErrorCode> rejectionList = new ArrayList<>(commandList.size());
+
+        for (OrderCommand command : commandList) {
+            rejectionList.add(productAvailabilityRegistry.findRejection(command.items()));
+        }
+
+        return rejectionList;
+    }
+
+    private List<FailedOrderResult> toFailedOrderResultList(
+            List<OrderCommand> commandList,
+            List<ErrorCode> rejectionList
+    ) {
+        List<FailedOrderResult> failedOrderResults = new ArrayList<>(commandList.size());
+
+        for (int i = 0; i < commandList.size(); i++) {
+            failedOrderResults.add(toFailedOrderResult(commandList.get(i), rejectionList.get(i)));
+        }
+
+        return failedOrderResults;
+    }
+
+    private FailedOrderResult toFailedOrderResult(OrderCommand command, ErrorCode errorCode) {
+        log.debug("Order failed for Customer {}: {}", command.customerName(), errorCode.getMessage());
+
+        return FailedOrderResult.of(
+                command.customerName(),
+                command.customerAddress(),
+                errorCode.getMessage()
+        );
+    }
+
     /**
      * 각 주문 내 중복 상품 검증
      * @param commandList 주문 요청 목록
@@ -91,15 +159,23 @@ public class CreateBulkOrderService implements CreateBulkOrderUseCase {
     }
 
     /**
-     * 필요한 모든 상품 ID 추출 및 정렬
+     * 처리할 주문에 필요한 모든 상품 ID 추출 및 정렬
      * @param commandList 주문 요청 목록
+     * @param rejectionList 주문 별 실패 사유
      * @return 상품 ID 목록
      */
-    private List<Long> getSortedUniqueProductIds(List<OrderCommand> commandList) {
+    private List<Long> getSortedUniqueProductIds(List<OrderCommand> commandList, List<ErrorCode> rejectionList) {
+        Set<Long> productIds = new TreeSet<>();
+
+        for (int i = 0; i < commandList.size(); i++) {
+            if (rejectionList.get(i) == null) {
+                for (OrderItemCommand item : commandList.get(i).items()) {
+                    productIds.add(item.productId());
+                }
+            }
+        }
 
-        return commandList.stream()
-                .flatMap(c -> c.items().stream())
-                .map(OrderItemCommand::productId).distinct().sorted().collect(Collectors.toList());
+        return new ArrayList<>(productIds);
     }
 
     /**
@@ -134,54 +210,49 @@ public class CreateBulkOrderService implements CreateBulkOrderUseCase {
     /**
      * 여러 주문을 처리
      * @param commandList 주문 요청 목록
+     * @param rejectionList 주문 별 Lock 획득 전 실패 사유
      * @param context 주문 컨텍스트
      * @return 주문 생성 결과
      */
     private BulkOrderResult processBulkOrder(
             List<OrderCommand> commandList,
+            List<ErrorCode> rejectionList,
             OrderExecutionContext context
     ) {
         List<Order> successOrders = new ArrayList<>();
         List<FailedOrderResult> failedOrderResults = new ArrayList<>();
 
-        // 1. 전체 상품 조회 (한 번만 DB 접근)
+        // 1. 전체 상품 조회 (한 번만 DB 접근) 후 단건 주문이 사용할 상품 정보 스냅샷 갱신
         Map<Long, Product> productMap = fetchProducts(context.getProductIdList());
-
-        // 2. 재고 상태 백업
-        context.backupStockState(productMap);
+        productCatalog.publish(productMap.values());
 
         try {
 
-            // 4. 각 주문을 독립적으로 처리
-            for (OrderCommand command : commandList) {
-                try {
-
-                    validateProductExists(command, productMap);
-
-                    // 주문 생성
-                    Order order = createOrder(command, productMap);
+            // 2. 각 주문을 독립적으로 처리 (예상된 실패는 예외 없이 ErrorCode 로 전달)
+            for (int i = 0; i < commandList.size(); i++) {
+                OrderCommand command = commandList.get(i);
+                ErrorCode errorCode = rejectionList.get(i);
 
-                    // 재고 차감
-                    if (!context.validateAndReduceStock(order.getItems(), productMap)) {
-                        throw new CommonException(ErrorCode.OUT_OF_STOCK);
-                    }
+                if (errorCode == null) {
+                    errorCode = processOrderCommand(command, context, productMap, successOrders);
+                }
 
-                    successOrders.add(order);
-                } catch (CommonException e) {
-                    log.debug("Order failed for Customer {}: {}", command.customerName(), e.getMessage());
-                    failedOrderResults.add(FailedOrderResult.of(
-                            command.customerName(),
-                            command.customerAddress(),
-                            e.getMessage()
-                    ));
+                if (errorCode != null) {
+                    failedOrderResults.add(toFailedOrderResult(command, errorCode));
                 }
             }
 
-            // 5. 데이터 저장
+            // 3. 데이터 저장 (재고, 주문, 재고 변동 이력을 하나의 트랜잭션으로 저장, 실패 시 DB 롤백)
             if (!successOrders.isEmpty()) {
-                productRepositoryPort.saveAllProducts(new ArrayList<>(productMap.values()));
+                List<Order> savedOrders = transactionPort.execute(() -> {
+                    saveChangedProducts(context, productMap);
+                    List<Order> saved = orderRepositoryPort.saveAllOrder(successOrders);
+                    stockMovementPort.appendAll(StockMovement.ofOrderList(saved));
+                    return saved;
+                });
 
-                List<Order> savedOrders = orderRepositoryPort.saveAllOrder(successOrders);
+                // 커밋된 재고로 품절 상품 갱신
+                productAvailabilityRegistry.update(context.getChangedProductList(productMap));
 
                 log.info("Processed {} successful orders out of {} total orders", successOrders.size(), commandList.size());
 
@@ -191,42 +262,82 @@ public class CreateBulkOrderService implements CreateBulkOrderUseCase {
                 return BulkOrderResult.of(List.of(), failedOrderResults);
             }
         } catch (Exception e) {
-            // 재고 복구
-            context.restoreState(productMap);
-
-            // 재고 저장
-            productRepositoryPort.saveAllProducts(new ArrayList<>(productMap.values()));
+            // 메모리 재고 복구 (DB 는 트랜잭션 롤백으로 복구됨)
+            context.restoreState();
 
             throw e;
         }
     }
 
+    /**
+     * 단일 주문 처리
+     * @param command 주문 요청
+     * @param context 주문 컨텍스트
+     * @param productMap 상품 목록
+     * @param successOrders 성공한 주문 목록
+     * @return 실패 사유 (성공 시 null)
+     */
+    private ErrorCode processOrderCommand(
+            OrderCommand command,
+            OrderExecutionContext context,
+            Map<Long, Product> productMap,
+            List<Order> successOrders
+    ) {
+        ErrorCode errorCode = validateProductExists(command, productMap);
+        if (errorCode != null) {
+            return errorCode;
+        }
+
+        try {
+            // 주문 생성
+            Order order = createOrder(command, productMap);
+
+            // 재고 차감
+            errorCode = context.validateAndReduceStock(order.getItems(), productMap);
+            if (errorCode == null) {
+                successOrders.add(order);
+            }
+
+            return errorCode;
+        } catch (CommonException e) {
+            // 도메인 검증 실패 (빈 주문 등)
+            return e.getErrorCode();
+        }
+    }
+
     /**
      * 상품 목록 조회
      * @param productIds 상품 ID 목록
      * @return 상품 목록
      */
     private Map<Long, Product> fetchProducts(List<Long> productIds) {
-        List<Product> products = productRepositoryPort.findAllByIdList(productIds);
-        return products.stream()
+        Map<Long, Product> productMap = productRepositoryPort.findAllByIdList(productIds).stream()
                 .collect(Collectors.toMap(Product::getId, product -> product));
+
+        // 조회 결과로 품절 / 존재하지 않는 상품 갱신
+        productAvailabilityRegistry.update(productIds, productMap);
+
+        return productMap;
     }
 
     /**
      * 상품 존재 여부 검증
      * @param command 주문 요청
      * @param productMap 상품 목록
+     * @return 실패 사유 (모든 상품이 존재하면 null)
      */
-    private void validateProductExists(
+    private ErrorCode validateProductExists(
             OrderCommand command,
             Map<Long, Product> productMap
     ) {
         for (OrderItemCommand item: command.items()) {
             if (!productMap.containsKey(item.productId())) {
-                log.error("Product not found: {}", item.productId());
-                throw new CommonException(ErrorCode.NOT_FOUND_PRODUCT);
+                log.debug("Product not found: {}", item.productId());
+                return ErrorCode.NOT_FOUND_PRODUCT;
             }
         }
+
+        return null;
     }
 
     /**
@@ -258,6 +369,22 @@ public class CreateBulkOrderService implements CreateBulkOrderUseCase {
         );
     }
 
+    /**
+     * 재고가 변경된 상품만 저장
+     * @param context 주문 컨텍스트
+     * @param productMap 상품 목록
+     */
+    private void saveChangedProducts(
+            OrderExecutionContext context,
+            Map<Long, Product> productMap
+    ) {
+        List<Product> changedProductList = context.getChangedProductList(productMap);
+
+        if (!changedProductList.isEmpty()) {
+            productRepositoryPort.saveAllProducts(changedProductList);
+        }
+    }
+
     /**
      * 상품 Lock 키 생성
      * @param productId 상품 ID
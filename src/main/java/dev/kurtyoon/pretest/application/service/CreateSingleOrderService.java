@@ -7,20 +7,31 @@ import dev.kurtyoon.pretest.application.port.in.usecase.CreateSingleOrderUseCase
 import dev.kurtyoon.pretest.application.port.out.LockPort;
 import dev.kurtyoon.pretest.application.port.out.OrderRepositoryPort;
 import dev.kurtyoon.pretest.application.port.out.ProductRepositoryPort;
+import dev.kurtyoon.pretest.application.port.out.StockMovementPort;
+import dev.kurtyoon.pretest.application.port.out.TransactionPort;
 import dev.kurtyoon.pretest.application.service.support.OrderExecutionContext;
+import dev.kurtyoon.pretest.application.service.support.ProductAvailabilityRegistry;
+import dev.kurtyoon.pretest.application.service.support.ProductCatalog;
+import dev.kurtyoon.pretest.application.service.support.ShardedStockCounter;
 import dev.kurtyoon.pretest.common.logging.LoggerUtils;
+import dev.kurtyoon.pretest.core.config.LockConfig;
 import dev.kurtyoon.pretest.core.exception.CommonException;
 import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
 import dev.kurtyoon.pretest.domain.Order;
 import dev.kurtyoon.pretest.domain.OrderItem;
 import dev.kurtyoon.pretest.domain.Product;
+import dev.kurtyoon.pretest.domain.ProductCatalogItem;
+import dev.kurtyoon.pretest.domain.StockMovement;
 import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
+@ConditionalOnProperty(name = "order.execution.mode", havingValue = "locking", matchIfMissing = true)
 public class CreateSingleOrderService implements CreateSingleOrderUseCase {
 
     private final static Logger log = LoggerUtils.getLogger(CreateSingleOrderService.class);
@@ -28,15 +39,30 @@ public class CreateSingleOrderService implements CreateSingleOrderUseCase {
     private final LockPort lockPort;
     private final OrderRepositoryPort orderRepositoryPort;
     private final ProductRepositoryPort productRepositoryPort;
+    private final TransactionPort transactionPort;
+    private final StockMovementPort stockMovementPort;
+    private final ProductCatalog productCatalog;
+    private final ProductAvailabilityRegistry productAvailabilityRegistry;
+    private final ShardedStockCounter shardedStockCounter;
 
     public CreateSingleOrderService(
-            LockPort lockPort,
+            @Qualifier(LockConfig.SINGLE_ORDER_LOCK_PORT) LockPort lockPort,
             OrderRepositoryPort orderRepositoryPort,
-            ProductRepositoryPort productRepositoryPort
+            ProductRepositoryPort productRepositoryPort,
+            TransactionPort transactionPort,
+            StockMovementPort stockMovementPort,
+            ProductCatalog productCatalog,
+            ProductAvailabilityRegistry productAvailabilityRegistry,
+            ShardedStockCounter shardedStockCounter
     ) {
         this.lockPort = lockPort;
         this.orderRepositoryPort = orderRepositoryPort;
         this.productRepositoryPort = productRepositoryPort;
+        this.transactionPort = transactionPort;
+        this.stockMovementPort = stockMovementPort;
+        this.productCatalog = productCatalog;
+        this.productAvailabilityRegistry = productAvailabilityRegistry;
+        this.shardedStockCounter = shardedStockCounter;
     }
 
     @Override
@@ -53,15 +79,61 @@ public class CreateSingleOrderService implements CreateSingleOrderUseCase {
         // 2. 상품 중복 체크
         validateNoDuplicateProducts(sortedProductIdList);
 
-        // 3. 실행 컨텍스트 (Lock 관리, 재고 상태 추적)
-        OrderExecutionContext context = new OrderExecutionContext(sortedProductIdList);
+        // 3. 품절 / 존재하지 않는 상품 주문은 Lock 획득 전에 거절 (샤드 상품은 샤드 재고로 판단하므로 제외)
+        List<OrderItemCommand> lockedItemList = command.items().stream()
+                .filter(item -> !shardedStockCounter.isSharded(item.productId()))
+                .toList();
+
+        ErrorCode rejection = productAvailabilityRegistry.findRejection(lockedItemList);
+        if (rejection != null) {
+            log.debug("Order rejected before lock: {}", rejection.getMessage());
+            throw new CommonException(rejection);
+        }
+
+        // 4. 상품 정보 스냅샷으로 Lock 밖에서 주문 생성 (스냅샷에 없는 상품이 있으면 Lock 획득 후 생성)
+        Order preparedOrder = prepareOrder(command, sortedProductIdList);
+
+        // 5. 주문 처리 (샤드 재고가 부족했다면 공용 풀에서 채운 뒤 한 번 더 시도)
+        Map<Long, Integer> shortageMap = new HashMap<>();
 
         try {
-            // 4. Lock 획득
+            return executeOrder(command, sortedProductIdList, preparedOrder, shortageMap);
+        } catch (CommonException e) {
+            if (shortageMap.isEmpty() || !refillShards(shortageMap)) {
+                throw e;
+            }
+        }
+
+        return executeOrder(command, sortedProductIdList, preparedOrder, new HashMap<>());
+    }
+
+    /**
+     * Lock 을 잡고 주문 처리
+     * @param command 주문 요청
+     * @param sortedProductIdList 정렬된 상품 ID 목록
+     * @param preparedOrder Lock 밖에서 생성한 주문 (없으면 null)
+     * @param shortageMap 재고가 부족했던 샤드 상품과 수량을 기록할 목록
+     * @return 주문 생성 결과
+     */
+    private SingleOrderResult executeOrder(
+            OrderCommand command,
+            List<Long> sortedProductIdList,
+            Order preparedOrder,
+            Map<Long, Integer> shortageMap
+    ) {
+        // 1. 실행 컨텍스트 (Lock 관리, 재고 상태 추적), 샤드 상품은 상품 Lock 을 잡지 않음
+        List<Long> lockedProductIdList = sortedProductIdList.stream()
+                .filter(productId -> !shardedStockCounter.isSharded(productId))
+                .toList();
+
+        OrderExecutionContext context = new OrderExecutionContext(lockedProductIdList);
+
+        try {
+            // 2. Lock 획득
             acquireAllLocks(context);
 
-            // 5. 상품 조회 및 주문 처리
-            return processOrder(command, context);
+            // 3. 상품 조회 및 주문 처리
+            return processOrder(command, context, sortedProductIdList, preparedOrder, shortageMap);
         } catch (Exception e) {
             log.error("Failed to Order: {}", e.getMessage());
             throw e;
@@ -75,43 +147,72 @@ public class CreateSingleOrderService implements CreateSingleOrderUseCase {
      * 주문 처리
      * @param command 주문 요청
      * @param context 주문 컨텍스트
+     * @param sortedProductIdList 정렬된 상품 ID 목록
+     * @param preparedOrder Lock 밖에서 생성한 주문 (없으면 null)
+     * @param shortageMap 재고가 부족했던 샤드 상품과 수량을 기록할 목록
      * @return 주문 생성 결과
      */
     private SingleOrderResult processOrder(
             OrderCommand command,
-            OrderExecutionContext context
+            OrderExecutionContext context,
+            List<Long> sortedProductIdList,
+            Order preparedOrder,
+            Map<Long, Integer> shortageMap
     ) {
-        // 1. 상품 조회
-        Map<Long, Product> productMap = getProductMap(context.getProductIdList());
-
-        // 2. 재고 상태 백업
-        context.backupStockState(productMap);
+        // 1. 상품 조회 (스냅샷으로 주문을 만들었으면 재고만 조회하고, 아니면 전체 조회 후 스냅샷 갱신)
+        Map<Long, Product> productMap;
+        if (preparedOrder != null) {
+            productMap = getProductMap(sortedProductIdList, preparedOrder);
+        } else {
+            productMap = getProductMap(sortedProductIdList);
+            productCatalog.publish(productMap.values());
+        }
 
         try {
-            // 3. 주문 생성
-            Order order = createOrderWithItems(command, productMap);
+            // 2. 주문 생성
+            Order order = (preparedOrder != null)
+                    ? preparedOrder
+                    : createOrderWithItems(command, toCatalogItemMap(productMap));
+
+            // 3. 재고 확인 및 차감 (차감 내역은 컨텍스트의 undo log 에 기록, 샤드 상품은 트랜잭션 안에서 차감)
+            List<OrderItem> shardedItemList = new ArrayList<>();
+            List<OrderItem> lockedItemList = new ArrayList<>();
+            for (OrderItem item : order.getItems()) {
+                if (shardedStockCounter.isSharded(item.getProductId())) {
+                    shardedItemList.add(item);
+                } else {
+                    lockedItemList.add(item);
+                }
+            }
 
-            // 4. 재고 확인 및 차감
-            if (!context.validateAndReduceStock(order.getItems(), productMap)) {
-                throw new CommonException(ErrorCode.OUT_OF_STOCK);
+            ErrorCode errorCode = context.validateAndReduceStock(lockedItemList, productMap);
+            if (errorCode == null && shardedItemList.stream().anyMatch(item -> item.getQuantity() <= 0)) {
+                errorCode = ErrorCode.INVALID_QUANTITY;
             }
 
-            // 5. 변경된 상품 정보 저장
-            productRepositoryPort.saveAllProducts(new ArrayList<>(productMap.values()));
+            if (errorCode != null) {
+                throw new CommonException(errorCode);
+            }
+
+            // 4. 변경된 상품 정보, 주문, 재고 변동 이력을 하나의 트랜잭션으로 저장 (실패 시 DB 롤백)
+            Order savedOrder = transactionPort.execute(() -> {
+                takeShardedStock(shardedItemList, command.customerName(), shortageMap);
+                saveChangedProducts(context, productMap);
+                Order saved = orderRepositoryPort.saveOrder(order);
+                stockMovementPort.appendAll(StockMovement.ofOrder(saved));
+                return saved;
+            });
 
-            // 6. 주문 저장
-            Order savedOrder = orderRepositoryPort.saveOrder(order);
+            // 5. 커밋된 재고로 품절 상품 갱신
+            productAvailabilityRegistry.update(context.getChangedProductList(productMap));
 
             log.info("주문 처리 성공: 고객 = {}, 주문 번호 = {}, 상품 개수 = {}",
                     savedOrder.getCustomerName(), savedOrder.getId(), savedOrder.getItems().size());
 
             return SingleOrderResult.of(savedOrder);
         } catch (Exception e) {
-            // 재고 복구
-            context.restoreState(productMap);
-
-            // 복구 상태 반영
-            productRepositoryPort.saveAllProducts(new ArrayList<>(productMap.values()));
+            // 메모리 재고 복구 (DB 는 트랜잭션 롤백으로 복구됨)
+            context.restoreState();
 
             throw e;
         }
@@ -159,30 +260,93 @@ public class CreateSingleOrderService implements CreateSingleOrderUseCase {
      * @return 상품 목록
      */
     private Map<Long, Product> getProductMap(List<Long> productIdList) {
-        List<Product> productList = productRepositoryPort.findAllByIdList(productIdList);
+        Map<Long, Product> productMap = productRepositoryPort.findAllByIdList(productIdList).stream()
+                .collect(Collectors.toMap(Product::getId, product -> product));
+
+        return validateProductMap(productIdList, productMap);
+    }
+
+    /**
+     * 재고만 조회하고 상품 이름 / 가격은 스냅샷으로 만든 주문 항목에서 가져옴 (products 테이블을 읽지 않음)
+     * - 여기서 만든 Product 는 재고 차감 / 저장에만 사용하며, 상품 캐시는 저장 시 재고만 반영하므로 이름 / 가격이 캐시로 흘러가지 않음
+     * @param productIdList 상품 ID 목록
+     * @param preparedOrder 스냅샷으로 생성한 주문
+     * @return 상품 목록
+     */
+    private Map<Long, Product> getProductMap(List<Long> productIdList, Order preparedOrder) {
+        Map<Long, Integer> quantityMap = productRepositoryPort.findQuantityMapByIdList(productIdList);
+        Map<Long, Product> productMap = new HashMap<>(productIdList.size() * 2);
+
+        for (OrderItem item : preparedOrder.getItems()) {
+            Integer quantity = quantityMap.get(item.getProductId());
+
+            if (quantity != null) {
+                productMap.put(item.getProductId(), Product.create(
+                        item.getProductId(),
+                        item.getProductName(),
+                        quantity,
+                        item.getPrice(),
+                        null,
+                        null
+                ));
+            }
+        }
+
+        return validateProductMap(productIdList, productMap);
+    }
+
+    private Map<Long, Product> validateProductMap(List<Long> productIdList, Map<Long, Product> productMap) {
+
+        // 조회 결과로 품절 / 존재하지 않는 상품 갱신 (샤드 상품의 조회 재고는 공용 풀이므로 제외)
+        productAvailabilityRegistry.update(
+                productIdList.stream()
+                        .filter(productId -> !shardedStockCounter.isSharded(productId))
+                        .toList(),
+                productMap
+        );
 
         // 모든 상품이 존재하는지 확인
-        if (productList.size() != productIdList.size()) {
+        if (productMap.size() != productIdList.size()) {
             throw new CommonException(ErrorCode.NOT_FOUND_PRODUCT);
         }
 
-        return productList.stream()
-                .collect(Collectors.toMap(Product::getId, product -> product));
+        return productMap;
+    }
+
+    /**
+     * 상품 정보 스냅샷에 모든 상품이 있으면 Lock 없이 주문 생성
+     * @param command 주문 요청
+     * @param productIdList 상품 ID 목록
+     * @return 주문 (스냅샷에 없는 상품이 있으면 null)
+     */
+    private Order prepareOrder(OrderCommand command, List<Long> productIdList) {
+        Map<Long, ProductCatalogItem> catalogItemMap = productCatalog.findAll(productIdList);
+
+        if (catalogItemMap.size() != productIdList.size()) {
+            return null;
+        }
+
+        return createOrderWithItems(command, catalogItemMap);
+    }
+
+    private Map<Long, ProductCatalogItem> toCatalogItemMap(Map<Long, Product> productMap) {
+        return productMap.values().stream()
+                .collect(Collectors.toMap(Product::getId, ProductCatalogItem::of));
     }
 
     /**
      * 주문 생성
      * @param command 주문 요청
-     * @param productMap 상품 목록
+     * @param catalogItemMap 상품 정보 목록
      * @return 주문
      */
     private Order createOrderWithItems(
             OrderCommand command,
-            Map<Long, Product> productMap
+            Map<Long, ProductCatalogItem> catalogItemMap
     ) {
         List<OrderItem> orderItemList = command.items().stream()
                 .map(item -> {
-                    Product product = productMap.get(item.productId());
+                    ProductCatalogItem product = catalogItemMap.get(item.productId());
                     return OrderItem.create(
                             item.productId(),
                             product.getName(),
@@ -217,6 +381,60 @@ public class CreateSingleOrderService implements CreateSingleOrderUseCase {
         }
     }
 
+    /**
+     * 샤드 상품의 재고를 상품 ID 순으로 차감 (하나라도 부족하면 트랜잭션 롤백)
+     * @param shardedItemList 샤드 상품 주문 목록
+     * @param affinityKey 샤드 선택 기준
+     * @param shortageMap 재고가 부족했던 샤드 상품과 수량을 기록할 목록
+     */
+    private void takeShardedStock(
+            List<OrderItem> shardedItemList,
+            String affinityKey,
+            Map<Long, Integer> shortageMap
+    ) {
+        List<OrderItem> sortedItemList = shardedItemList.stream()
+                .sorted(Comparator.comparing(OrderItem::getProductId))
+                .toList();
+
+        for (OrderItem item : sortedItemList) {
+            if (!shardedStockCounter.take(item.getProductId(), item.getQuantity(), affinityKey)) {
+                shortageMap.put(item.getProductId(), item.getQuantity());
+                throw new CommonException(ErrorCode.OUT_OF_STOCK);
+            }
+        }
+    }
+
+    /**
+     * 재고가 부족했던 샤드를 공용 풀에서 채움
+     * @param shortageMap 샤드 상품 별 부족 수량
+     * @return 모든 상품의 샤드를 채웠으면 true
+     */
+    private boolean refillShards(Map<Long, Integer> shortageMap) {
+        for (Map.Entry<Long, Integer> shortage : shortageMap.entrySet()) {
+            if (!shardedStockCounter.refill(shortage.getKey(), shortage.getValue())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * 재고가 변경된 상품만 저장
+     * @param context 주문 컨텍스트
+     * @param productMap 상품 목록
+     */
+    private void saveChangedProducts(
+            OrderExecutionContext context,
+            Map<Long, Product> productMap
+    ) {
+        List<Product> changedProductList = context.getChangedProductList(productMap);
+
+        if (!changedProductList.isEmpty()) {
+            productRepositoryPort.saveAllProducts(changedProductList);
+        }
+    }
+
     /**
      * 상품 Lock 키 생성
      * @param productId 상품 ID
@@ -0,0 +1,60 @@
+package dev.kurtyoon.pretest.application.service;
+
+import dev.kurtyoon.pretest.application.dto.response.OrderListResult;
+import dev.kurtyoon.pretest.application.dto.response.OrderSummaryResult;
+import dev.kurtyoon.pretest.application.port.in.usecase.ReadOrderListUseCase;
+import dev.kurtyoon.pretest.application.port.out.OrderQueryPort;
+import dev.kurtyoon.pretest.application.service.support.OrderCursor;
+import dev.kurtyoon.pretest.core.exception.CommonException;
+import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
+import dev.kurtyoon.pretest.domain.OrderSummary;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+@Service
+public class ReadOrderListService implements ReadOrderListUseCase {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final OrderQueryPort orderQueryPort;
+
+    public ReadOrderListService(OrderQueryPort orderQueryPort) {
+        this.orderQueryPort = orderQueryPort;
+    }
+
+    @Override
+    public OrderListResult execute(String customerName, String cursor, int size) {
+
+        // 0. 요청 유효성 검증
+        if (!StringUtils.hasText(customerName) || size < 1) {
+            throw new CommonException(ErrorCode.INVALID_ARGUMENT);
+        }
+
+        int pageSize = Math.min(size, MAX_PAGE_SIZE);
+        OrderCursor orderCursor = StringUtils.hasText(cursor) ? OrderCursor.decode(cursor) : null;
+
+        // 1. 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<OrderSummary> orderSummaryList = orderQueryPort.findOrderSummaryList(
+                customerName,
+                orderCursor != null ? orderCursor.orderedAt() : null,
+                orderCursor != null ? orderCursor.id() : null,
+                pageSize + 1
+        );
+
+        boolean hasNext = orderSummaryList.size() > pageSize;
+        List<OrderSummary> pageList = hasNext ? orderSummaryList.subList(0, pageSize) : orderSummaryList;
+
+        // 2. 마지막 주문으로 다음 커서 생성
+        String nextCursor = hasNext
+                ? OrderCursor.from(pageList.get(pageList.size() - 1)).encode()
+                : null;
+
+        return OrderListResult.of(
+                pageList.stream().map(OrderSummaryResult::of).toList(),
+                hasNext,
+                nextCursor
+        );
+    }
+}
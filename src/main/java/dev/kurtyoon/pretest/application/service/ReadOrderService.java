@@ -0,0 +1,21 @@
+package dev.kurtyoon.pretest.application.service;
+
+import dev.kurtyoon.pretest.application.dto.response.SingleOrderResult;
+import dev.kurtyoon.pretest.application.port.in.usecase.ReadOrderUseCase;
+import dev.kurtyoon.pretest.application.port.out.OrderQueryPort;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ReadOrderService implements ReadOrderUseCase {
+
+    private final OrderQueryPort orderQueryPort;
+
+    public ReadOrderService(OrderQueryPort orderQueryPort) {
+        this.orderQueryPort = orderQueryPort;
+    }
+
+    @Override
+    public SingleOrderResult execute(Long orderId) {
+        return SingleOrderResult.of(orderQueryPort.findOrderById(orderId));
+    }
+}
@@ -0,0 +1,31 @@
+package dev.kurtyoon.pretest.application.service;
+
+import dev.kurtyoon.pretest.application.dto.response.ProductStockResult;
+import dev.kurtyoon.pretest.application.port.in.usecase.ReadProductStockUseCase;
+import dev.kurtyoon.pretest.application.port.out.ProductStockShardPort;
+import dev.kurtyoon.pretest.core.exception.CommonException;
+import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class ReadProductStockService implements ReadProductStockUseCase {
+
+    private final ProductStockShardPort productStockShardPort;
+
+    public ReadProductStockService(ProductStockShardPort productStockShardPort) {
+        this.productStockShardPort = productStockShardPort;
+    }
+
+    @Override
+    public ProductStockResult execute(Long productId) {
+        Integer quantity = productStockShardPort.findTotalQuantityMap(List.of(productId)).get(productId);
+
+        if (quantity == null) {
+            throw new CommonException(ErrorCode.NOT_FOUND_PRODUCT);
+        }
+
+        return ProductStockResult.of(productId, quantity);
+    }
+}
@@ -0,0 +1,37 @@
+package dev.kurtyoon.pretest.application.service;
+
+import dev.kurtyoon.pretest.application.dto.request.OrderCommand;
+import dev.kurtyoon.pretest.application.dto.response.StockReservationResult;
+import dev.kurtyoon.pretest.application.port.in.usecase.ReleaseExpiredStockReservationUseCase;
+import dev.kurtyoon.pretest.application.port.in.usecase.ReleaseStockReservationUseCase;
+import dev.kurtyoon.pretest.application.port.in.usecase.ReserveStockUseCase;
+import dev.kurtyoon.pretest.core.exception.CommonException;
+import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * 샤드 모드의 재고 예약 / 반환
+ * - 샤드가 메모리의 재고를 기준으로 삼으므로, 샤드 밖에서 product_stock 을 갱신하는 예약 / 반환은 거절
+ * - 만료 반환은 반환할 예약이 생기지 않으므로 아무것도 하지 않음
+ */
+@Service
+@ConditionalOnProperty(name = "order.execution.mode", havingValue = "sharded")
+public class RejectingStockReservationService implements
+        ReserveStockUseCase, ReleaseStockReservationUseCase, ReleaseExpiredStockReservationUseCase {
+
+    @Override
+    public StockReservationResult execute(OrderCommand command) {
+        throw new CommonException(ErrorCode.UNSUPPORTED_IN_EXECUTION_MODE);
+    }
+
+    @Override
+    public void execute(Long reservationId) {
+        throw new CommonException(ErrorCode.UNSUPPORTED_IN_EXECUTION_MODE);
+    }
+
+    @Override
+    public int execute() {
+        return 0;
+    }
+}
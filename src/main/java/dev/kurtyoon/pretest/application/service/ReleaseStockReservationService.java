@@ -0,0 +1,173 @@
+package dev.kurtyoon.pretest.application.service;
+
+import dev.kurtyoon.pretest.application.port.in.usecase.ReleaseExpiredStockReservationUseCase;
+import dev.kurtyoon.pretest.application.port.in.usecase.ReleaseStockReservationUseCase;
+import dev.kurtyoon.pretest.application.port.out.LockPort;
+import dev.kurtyoon.pretest.application.port.out.ProductRepositoryPort;
+import dev.kurtyoon.pretest.application.port.out.StockMovementPort;
+import dev.kurtyoon.pretest.application.port.out.StockReservationPort;
+import dev.kurtyoon.pretest.application.port.out.TransactionPort;
+import dev.kurtyoon.pretest.application.service.support.ProductAvailabilityRegistry;
+import dev.kurtyoon.pretest.common.logging.LoggerUtils;
+import dev.kurtyoon.pretest.core.config.LockConfig;
+import dev.kurtyoon.pretest.core.exception.CommonException;
+import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
+import dev.kurtyoon.pretest.domain.OrderItem;
+import dev.kurtyoon.pretest.domain.Product;
+import dev.kurtyoon.pretest.domain.StockMovement;
+import dev.kurtyoon.pretest.domain.StockReservation;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 재고 예약 취소 / 만료 반환
+ * - 예약 삭제에 성공한 경우에만 재고를 되돌리므로 확정 / 다른 노드의 반환과 동시에 실행되어도 한 번만 반환됨
+ * - 재고 저장은 Lock 기반 주문과 같은 방식(조회 후 저장)이므로 같은 상품 Lock 을 잡고 처리
+ * - 샤드 모드에서는 샤드가 재고의 유일한 작성자이므로 등록되지 않음 (RejectingStockReservationService 가 거절)
+ */
+@Service
+@ConditionalOnExpression("'${order.execution.mode:locking}' != 'sharded'")
+public class ReleaseStockReservationService implements ReleaseStockReservationUseCase, ReleaseExpiredStockReservationUseCase {
+
+    private final static Logger log = LoggerUtils.getLogger(ReleaseStockReservationService.class);
+
+    private final LockPort lockPort;
+    private final ProductRepositoryPort productRepositoryPort;
+    private final StockReservationPort stockReservationPort;
+    private final TransactionPort transactionPort;
+    private final StockMovementPort stockMovementPort;
+    private final ProductAvailabilityRegistry productAvailabilityRegistry;
+    private final int sweepBatchSize;
+
+    public ReleaseStockReservationService(
+            @Qualifier(LockConfig.SINGLE_ORDER_LOCK_PORT) LockPort lockPort,
+            ProductRepositoryPort productRepositoryPort,
+            StockReservationPort stockReservationPort,
+            TransactionPort transactionPort,
+            StockMovementPort stockMovementPort,
+            ProductAvailabilityRegistry productAvailabilityRegistry,
+            @Value("${stock.reservation.sweep.batch-size:100}") int sweepBatchSize
+    ) {
+        this.lockPort = lockPort;
+        this.productRepositoryPort = productRepositoryPort;
+        this.stockReservationPort = stockReservationPort;
+        this.transactionPort = transactionPort;
+        this.stockMovementPort = stockMovementPort;
+        this.productAvailabilityRegistry = productAvailabilityRegistry;
+        this.sweepBatchSize = sweepBatchSize;
+    }
+
+    @Override
+    public void execute(Long reservationId) {
+        StockReservation reservation = stockReservationPort.findById(reservationId);
+
+        if (reservation == null || !release(reservation)) {
+            throw new CommonException(ErrorCode.NOT_FOUND_RESERVATION);
+        }
+
+        log.info("재고 예약 취소: 예약 번호 = {}", reservationId);
+    }
+
+    @Override
+    public int execute() {
+        List<StockReservation> expiredList = stockReservationPort.findExpiredList(LocalDateTime.now(), sweepBatchSize);
+        int releasedCount = 0;
+
+        for (StockReservation reservation : expiredList) {
+            try {
+                if (release(reservation)) {
+                    releasedCount++;
+                }
+            } catch (Exception e) {
+                // 실패한 예약은 다음 주기에 다시 시도
+                log.error("Failed to release expired stock reservation {}: {}", reservation.getId(), e.getMessage());
+            }
+        }
+
+        if (releasedCount > 0) {
+            log.info("Expired stock reservations released: {} of {}", releasedCount, expiredList.size());
+        }
+
+        return releasedCount;
+    }
+
+    /**
+     * 예약한 재고를 반환
+     * @param reservation 재고 예약
+     * @return 반환 여부 (이미 확정 / 반환된 예약이면 false)
+     */
+    private boolean release(StockReservation reservation) {
+        List<Long> sortedProductIdList = reservation.getItems().stream()
+                .map(OrderItem::getProductId)
+                .sorted()
+                .toList();
+
+        List<Long> acquiredLockList = new ArrayList<>(sortedProductIdList.size());
+
+        try {
+            // 1. Lock 획득
+            for (Long productId : sortedProductIdList) {
+                lockPort.lock(getProductLockKey(productId));
+                acquiredLockList.add(productId);
+            }
+
+            // 2. 상품 조회 후 예약 수량만큼 재고 복구 (삭제된 상품은 제외)
+            Map<Long, Product> productMap = productRepositoryPort.findAllByIdList(sortedProductIdList).stream()
+                    .collect(Collectors.toMap(Product::getId, product -> product));
+
+            List<Product> restoredProductList = new ArrayList<>(productMap.size());
+            for (OrderItem item : reservation.getItems()) {
+                Product product = productMap.get(item.getProductId());
+
+                if (product != null) {
+                    product.updateQuantity(product.getQuantity() + item.getQuantity());
+                    restoredProductList.add(product);
+                }
+            }
+
+            // 3. 예약 삭제에 성공한 경우에만 재고, 재고 변동 이력 저장
+            boolean released = transactionPort.execute(() -> {
+                if (!stockReservationPort.delete(reservation.getId())) {
+                    return false;
+                }
+
+                productRepositoryPort.saveAllProducts(restoredProductList);
+                stockMovementPort.appendAll(StockMovement.ofReleased(reservation, LocalDateTime.now()));
+                return true;
+            });
+
+            // 4. 재입고된 상품은 품절 목록에서 제거
+            if (released) {
+                productAvailabilityRegistry.update(restoredProductList);
+            }
+
+            return released;
+        } finally {
+            // 역순으로 락 해제
+            for (int i = acquiredLockList.size() - 1; i >= 0; i--) {
+                try {
+                    lockPort.unlock(getProductLockKey(acquiredLockList.get(i)));
+                } catch (Exception e) {
+                    log.error("Failed to release lock for product {}: {}",
+                            acquiredLockList.get(i), e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 상품 Lock 키 생성
+     * @param productId 상품 ID
+     * @return 상품 Lock 키
+     */
+    private String getProductLockKey(Long productId) {
+        return String.format("PRODUCT_LOCK:%d", productId);
+    }
+}
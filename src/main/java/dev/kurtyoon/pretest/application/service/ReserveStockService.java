@@ -0,0 +1,228 @@
+package dev.kurtyoon.pretest.application.service;
+
+import dev.kurtyoon.pretest.application.dto.request.OrderCommand;
+import dev.kurtyoon.pretest.application.dto.request.OrderItemCommand;
+import dev.kurtyoon.pretest.application.dto.response.StockReservationResult;
+import dev.kurtyoon.pretest.application.port.in.usecase.ReserveStockUseCase;
+import dev.kurtyoon.pretest.application.port.out.LockPort;
+import dev.kurtyoon.pretest.application.port.out.ProductRepositoryPort;
+import dev.kurtyoon.pretest.application.port.out.StockMovementPort;
+import dev.kurtyoon.pretest.application.port.out.StockReservationPort;
+import dev.kurtyoon.pretest.application.port.out.TransactionPort;
+import dev.kurtyoon.pretest.application.service.support.OrderExecutionContext;
+import dev.kurtyoon.pretest.application.service.support.ProductAvailabilityRegistry;
+import dev.kurtyoon.pretest.common.logging.LoggerUtils;
+import dev.kurtyoon.pretest.core.config.LockConfig;
+import dev.kurtyoon.pretest.core.exception.CommonException;
+import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
+import dev.kurtyoon.pretest.domain.OrderItem;
+import dev.kurtyoon.pretest.domain.Product;
+import dev.kurtyoon.pretest.domain.StockMovement;
+import dev.kurtyoon.pretest.domain.StockReservation;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 재고 예약 (2단계 주문의 1단계)
+ * - Lock 은 재고 확인, 재고 차감, 예약 저장 동안만 유지하고 주문 생성 / 저장은 확정 단계에서 Lock 없이 처리
+ * - 예약은 ttl 이 지나면 확정할 수 없고, 만료된 예약의 재고는 주기적으로 반환됨
+ * - 샤드 모드에서는 샤드가 재고의 유일한 작성자이므로 등록되지 않음 (RejectingStockReservationService 가 거절)
+ */
+@Service
+@ConditionalOnExpression("'${order.execution.mode:locking}' != 'sharded'")
+public class ReserveStockService implements ReserveStockUseCase {
+
+    private final static Logger log = LoggerUtils.getLogger(ReserveStockService.class);
+
+    private final LockPort lockPort;
+    private final ProductRepositoryPort productRepositoryPort;
+    private final StockReservationPort stockReservationPort;
+    private final TransactionPort transactionPort;
+    private final StockMovementPort stockMovementPort;
+    private final ProductAvailabilityRegistry productAvailabilityRegistry;
+    private final Duration ttl;
+
+    public ReserveStockService(
+            @Qualifier(LockConfig.SINGLE_ORDER_LOCK_PORT) LockPort lockPort,
+            ProductRepositoryPort productRepositoryPort,
+            StockReservationPort stockReservationPort,
+            TransactionPort transactionPort,
+            StockMovementPort stockMovementPort,
+            ProductAvailabilityRegistry productAvailabilityRegistry,
+            @Value("${stock.reservation.ttl:5m}") Duration ttl
+    ) {
+        this.lockPort = lockPort;
+        this.productRepositoryPort = productRepositoryPort;
+        this.stockReservationPort = stockReservationPort;
+        this.transactionPort = transactionPort;
+        this.stockMovementPort = stockMovementPort;
+        this.productAvailabilityRegistry = productAvailabilityRegistry;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public StockReservationResult execute(OrderCommand command) {
+
+        // 0. 주문 요청에 대한 유효성 검증
+        if (command.items() == null || command.items().isEmpty()) {
+            throw new CommonException(ErrorCode.INVALID_ORDER);
+        }
+
+        // 1. 상품 ID 목록 추출 및 정렬
+        List<Long> sortedProductIdList = command.items().stream()
+                .map(OrderItemCommand::productId)
+                .sorted()
+                .toList();
+
+        // 2. 상품 중복 체크
+        if (new HashSet<>(sortedProductIdList).size() != sortedProductIdList.size()) {
+            throw new CommonException(ErrorCode.DUPLICATE_PRODUCT_ORDER);
+        }
+
+        // 3. 품절 / 존재하지 않는 상품 예약은 Lock 획득 전에 거절
+        ErrorCode rejection = productAvailabilityRegistry.findRejection(command.items());
+        if (rejection != null) {
+            throw new CommonException(rejection);
+        }
+
+        // 4. 실행 컨텍스트 (Lock 관리, 재고 상태 추적)
+        OrderExecutionContext context = new OrderExecutionContext(sortedProductIdList);
+
+        try {
+            // 5. Lock 획득
+            acquireAllLocks(context);
+
+            // 6. 재고 차감 및 예약 저장
+            return reserve(command, context);
+        } finally {
+            // 획득한 Lock 해제
+            releaseAllLocks(context.getAcquiredLockList());
+        }
+    }
+
+    /**
+     * 재고 예약
+     * @param command 주문 요청
+     * @param context 주문 컨텍스트
+     * @return 재고 예약 결과
+     */
+    private StockReservationResult reserve(OrderCommand command, OrderExecutionContext context) {
+        // 1. 상품 조회
+        Map<Long, Product> productMap = getProductMap(context.getProductIdList());
+
+        // 2. 예약 시점의 상품 이름 / 가격으로 예약 상품 생성
+        List<OrderItem> orderItemList = command.items().stream()
+                .map(item -> {
+                    Product product = productMap.get(item.productId());
+                    return OrderItem.create(
+                            item.productId(),
+                            product.getName(),
+                            item.quantity(),
+                            product.getPrice()
+                    );
+                })
+                .toList();
+
+        // 3. 재고 확인 및 차감
+        ErrorCode errorCode = context.validateAndReduceStock(orderItemList, productMap);
+        if (errorCode != null) {
+            throw new CommonException(errorCode);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        StockReservation reservation = StockReservation.create(
+                command.customerName(),
+                command.customerAddress(),
+                orderItemList,
+                now,
+                now.plus(ttl)
+        );
+
+        // 4. 변경된 상품 정보, 예약, 재고 변동 이력을 하나의 트랜잭션으로 저장 (실패 시 DB 롤백)
+        StockReservation savedReservation;
+        try {
+            savedReservation = transactionPort.execute(() -> {
+                productRepositoryPort.saveAllProducts(context.getChangedProductList(productMap));
+                StockReservation saved = stockReservationPort.save(reservation);
+                stockMovementPort.appendAll(StockMovement.ofReserved(saved));
+                return saved;
+            });
+        } catch (RuntimeException e) {
+            // 메모리 재고 복구 (DB 는 트랜잭션 롤백으로 복구됨)
+            context.restoreState();
+            throw e;
+        }
+
+        // 5. 커밋된 재고로 품절 상품 갱신
+        productAvailabilityRegistry.update(context.getChangedProductList(productMap));
+
+        log.info("재고 예약 성공: 고객 = {}, 예약 번호 = {}, 만료 = {}",
+                savedReservation.getCustomerName(), savedReservation.getId(), savedReservation.getExpiresAt());
+
+        return StockReservationResult.of(savedReservation);
+    }
+
+    /**
+     * 상품 목록 조회
+     * @param productIdList 상품 ID 목록
+     * @return 상품 목록
+     */
+    private Map<Long, Product> getProductMap(List<Long> productIdList) {
+        Map<Long, Product> productMap = productRepositoryPort.findAllByIdList(productIdList).stream()
+                .collect(Collectors.toMap(Product::getId, product -> product));
+
+        productAvailabilityRegistry.update(productIdList, productMap);
+
+        if (productMap.size() != productIdList.size()) {
+            throw new CommonException(ErrorCode.NOT_FOUND_PRODUCT);
+        }
+
+        return productMap;
+    }
+
+    /**
+     * 모든 상품에 대한 Lock 획득
+     * @param context 주문 컨텍스트
+     */
+    private void acquireAllLocks(OrderExecutionContext context) {
+        for (Long productId : context.getProductIdList()) {
+            lockPort.lock(getProductLockKey(productId));
+            context.lockAcquired(productId);
+            log.debug("Lock acquired for Product: {}", productId);
+        }
+    }
+
+    /**
+     * 모든 상품에 대한 Lock 해제
+     * @param productIdList 상품 ID 목록
+     */
+    private void releaseAllLocks(List<Long> productIdList) {
+
+        // 역순으로 락 해제
+        for (int i = productIdList.size() - 1; i >= 0; i--) {
+            try {
+                lockPort.unlock(getProductLockKey(productIdList.get(i)));
+            } catch (Exception e) {
+                log.error("Failed to release lock for product {}: {}",
+                        productIdList.get(i), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 상품 Lock 키 생성
+     * @param productId 상품 ID
+     * @return 상품 Lock 키
+     */
+    private String getProductLockKey(Long productId) {
+        return String.format("PRODUCT_LOCK:%d", productId);
+    }
+}
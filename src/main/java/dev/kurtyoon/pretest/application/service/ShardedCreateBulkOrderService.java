@@ -0,0 +1,89 @@
+package dev.kurtyoon.pretest.application.service;
+
+import dev.kurtyoon.pretest.application.dto.request.OrderCommand;
+import dev.kurtyoon.pretest.application.dto.request.OrderItemCommand;
+import dev.kurtyoon.pretest.application.dto.response.BulkOrderResult;
+import dev.kurtyoon.pretest.application.dto.response.FailedOrderResult;
+import dev.kurtyoon.pretest.application.dto.response.SingleOrderResult;
+import dev.kurtyoon.pretest.application.port.in.usecase.CreateBulkOrderUseCase;
+import dev.kurtyoon.pretest.application.port.in.usecase.CreateSingleOrderUseCase;
+import dev.kurtyoon.pretest.application.port.out.ExcelParserPort;
+import dev.kurtyoon.pretest.common.logging.LoggerUtils;
+import dev.kurtyoon.pretest.core.exception.CommonException;
+import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
+import org.slf4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * 샤드 모드의 대량 주문
+ * - 샤드가 재고의 유일한 작성자이므로, 상품 Lock 으로 재고를 직접 갱신하지 않고 각 주문을 샤드 단건 주문으로 처리
+ * - 주문은 엑셀 순서대로 하나씩 처리되며, 실패한 주문은 실패 사유와 함께 결과에 담김
+ */
+@Service
+@ConditionalOnProperty(name = "order.execution.mode", havingValue = "sharded")
+public class ShardedCreateBulkOrderService implements CreateBulkOrderUseCase {
+
+    private final static Logger log = LoggerUtils.getLogger(ShardedCreateBulkOrderService.class);
+
+    private final ExcelParserPort excelParserPort;
+    private final CreateSingleOrderUseCase createSingleOrderUseCase;
+
+    public ShardedCreateBulkOrderService(
+            ExcelParserPort excelParserPort,
+            CreateSingleOrderUseCase createSingleOrderUseCase
+    ) {
+        this.excelParserPort = excelParserPort;
+        this.createSingleOrderUseCase = createSingleOrderUseCase;
+    }
+
+    @Override
+    public BulkOrderResult execute(byte[] excelData) {
+        // 1. Excel 데이터 파싱
+        List<OrderCommand> commandList = excelParserPort.parse(excelData);
+        if (commandList.isEmpty()) {
+            return BulkOrderResult.empty();
+        }
+
+        // 2. 각 주문 내 중복 상품 검증 (Lock 기반 대량 주문과 같이 요청 전체를 거절)
+        validateNoDuplicateInEachOrder(commandList);
+
+        // 3. 주문 별로 샤드에서 처리
+        List<SingleOrderResult> successOrderResults = new ArrayList<>();
+        List<FailedOrderResult> failedOrderResults = new ArrayList<>();
+
+        for (OrderCommand command : commandList) {
+            try {
+                successOrderResults.add(createSingleOrderUseCase.execute(command));
+            } catch (CommonException e) {
+                log.debug("Order failed for Customer {}: {}", command.customerName(), e.getErrorCode().getMessage());
+                failedOrderResults.add(FailedOrderResult.of(
+                        command.customerName(),
+                        command.customerAddress(),
+                        e.getErrorCode().getMessage()
+                ));
+            }
+        }
+
+        log.info("Processed {} successful orders out of {} total orders on shards", successOrderResults.size(), commandList.size());
+
+        return new BulkOrderResult(commandList.size(), successOrderResults, failedOrderResults);
+    }
+
+    /**
+     * 각 주문 내 중복 상품 검증
+     * @param commandList 주문 요청 목록
+     */
+    private void validateNoDuplicateInEachOrder(List<OrderCommand> commandList) {
+        for (OrderCommand command : commandList) {
+            Set<Long> productIds = new HashSet<>();
+            for (OrderItemCommand item : command.items()) {
+                if (!productIds.add(item.productId())) {
+                    throw new CommonException(ErrorCode.DUPLICATE_PRODUCT_ORDER);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package dev.kurtyoon.pretest.application.service;
+
+import dev.kurtyoon.pretest.application.dto.request.OrderCommand;
+import dev.kurtyoon.pretest.application.dto.request.OrderItemCommand;
+import dev.kurtyoon.pretest.application.dto.response.SingleOrderResult;
+import dev.kurtyoon.pretest.application.port.in.usecase.CreateSingleOrderUseCase;
+import dev.kurtyoon.pretest.application.port.out.OrderRepositoryPort;
+import dev.kurtyoon.pretest.application.port.out.ProductRepositoryPort;
+import dev.kurtyoon.pretest.application.port.out.StockMovementPort;
+import dev.kurtyoon.pretest.application.port.out.TransactionPort;
+import dev.kurtyoon.pretest.application.service.support.StockShard;
+import dev.kurtyoon.pretest.application.service.support.StockShardRouter;
+import dev.kurtyoon.pretest.common.logging.LoggerUtils;
+import dev.kurtyoon.pretest.core.exception.CommonException;
+import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
+import dev.kurtyoon.pretest.domain.Order;
+import dev.kurtyoon.pretest.domain.OrderItem;
+import dev.kurtyoon.pretest.domain.StockMovement;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 샤드 단일 작성자(single-writer) 방식의 단건 주문
+ * - 상품 ID 를 해시 분할한 단일 스레드 샤드가 주문을 처리하므로 상품 Lock 없이 메모리의 재고로 판단
+ * - 샤드가 재고의 유일한 작성자이므로, 이 모드에서 대량 주문은 샤드를 거쳐 처리되고 재고 예약은 지원하지 않음
+ * - 하나의 샤드에 속한 주문은 해당 샤드 스레드에서 재고 차감부터 주문 저장까지 처리
+ * - 여러 샤드에 걸친 주문은 샤드 번호 오름차순으로 차례로 재고를 확보하고, 실패 시 역순으로 반환
+ * - 재고의 기준값이 노드 메모리에 있으므로 단일 노드 배포에서만 사용해야 함
+ */
+@Service
+@ConditionalOnProperty(name = "order.execution.mode", havingValue = "sharded")
+public class ShardedCreateSingleOrderService implements CreateSingleOrderUseCase {
+
+    private final static Logger log = LoggerUtils.getLogger(ShardedCreateSingleOrderService.class);
+
+    private final OrderRepositoryPort orderRepositoryPort;
+    private final TransactionPort transactionPort;
+    private final StockMovementPort stockMovementPort;
+    private final StockShardRouter stockShardRouter;
+
+    public ShardedCreateSingleOrderService(
+            OrderRepositoryPort orderRepositoryPort,
+            ProductRepositoryPort productRepositoryPort,
+            TransactionPort transactionPort,
+            StockMovementPort stockMovementPort,
+            @Value("${order.execution.shard-count:0}") int shardCount,
+            @Value("${order.execution.shard-cache-size:10000}") int shardCacheSize
+    ) {
+        this.orderRepositoryPort = orderRepositoryPort;
+        this.transactionPort = transactionPort;
+        this.stockMovementPort = stockMovementPort;
+        this.stockShardRouter = new StockShardRouter(
+                shardCount > 0 ? shardCount : Runtime.getRuntime().availableProcessors(),
+                productRepositoryPort,
+                shardCacheSize
+        );
+    }
+
+    @Override
+    public SingleOrderResult execute(OrderCommand command) {
+
+        // 0. 주문 요청에 대한 유효성 검증
+        if (command.items() == null || command.items().isEmpty()) {
+            throw new CommonException(ErrorCode.INVALID_ORDER);
+        }
+
+        // 1. 상품 중복 체크
+        validateNoDuplicateProducts(command.items());
+
+        // 2. 샤드 별로 주문 항목 분할
+        SortedMap<StockShard, List<OrderItemCommand>> partitionMap = stockShardRouter.partition(command.items());
+
+        // 3. 주문 처리
+        Order savedOrder = (partitionMap.size() == 1)
+                ? processOnSingleShard(command, partitionMap.firstKey())
+                : processAcrossShards(command, partitionMap);
+
+        log.info("주문 처리 성공: 고객 = {}, 주문 번호 = {}, 샤드 개수 = {}",
+                savedOrder.getCustomerName(), savedOrder.getId(), partitionMap.size());
+
+        return SingleOrderResult.of(savedOrder);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stockShardRouter.shutdown();
+    }
+
+    /**
+     * 하나의 샤드 스레드에서 재고 차감, 재고 저장, 주문 저장을 처리
+     * - 재고 저장과 주문 저장은 하나의 트랜잭션이므로, 실패 시 메모리의 재고만 되돌림
+     * @param command 주문 요청
+     * @param shard 샤드
+     * @return 저장된 주문
+     */
+    private Order processOnSingleShard(OrderCommand command, StockShard shard) {
+        return await(shard.execute(() -> {
+            List<OrderItem> orderItemList = shard.reserve(command.items());
+
+            try {
+                return transactionPort.execute(() -> {
+                    shard.persist(command.items());
+                    return saveOrderWithMovements(createOrder(command, orderItemList));
+                });
+            } catch (RuntimeException e) {
+                shard.release(command.items());
+                throw e;
+            }
+        }));
+    }
+
+    /**
+     * 샤드 번호 오름차순으로 각 샤드의 재고를 확보한 뒤 주문 저장
+     * - 샤드마다 스레드가 다르므로 하나의 트랜잭션으로 묶을 수 없어, 실패 시 반환한 재고를 다시 저장
+     * @param command 주문 요청
+     * @param partitionMap 샤드 별 주문 항목 목록
+     * @return 저장된 주문
+     */
+    private Order processAcrossShards(
+            OrderCommand command,
+            SortedMap<StockShard, List<OrderItemCommand>> partitionMap
+    ) {
+        Deque<StockShard> reservedShards = new ArrayDeque<>();
+        Map<Long, OrderItem> orderItemMap = new HashMap<>();
+
+        try {
+            for (Map.Entry<StockShard, List<OrderItemCommand>> entry : partitionMap.entrySet()) {
+                StockShard shard = entry.getKey();
+                List<OrderItemCommand> itemList = entry.getValue();
+
+                List<OrderItem> reservedItems = await(shard.execute(() -> {
+                    List<OrderItem> orderItemList = shard.reserve(itemList);
+
+                    try {
+                        transactionPort.execute(() -> {
+                            shard.persist(itemList);
+                            return null;
+                        });
+                    } catch (RuntimeException e) {
+                        shard.release(itemList);
+                        throw e;
+                    }
+
+                    return orderItemList;
+                }));
+
+                reservedShards.push(shard);
+                reservedItems.forEach(item -> orderItemMap.put(item.getProductId(), item));
+            }
+
+            // 주문 항목은 요청 순서를 유지
+            List<OrderItem> orderItemList = command.items().stream()
+                    .map(item -> orderItemMap.get(item.productId()))
+                    .toList();
+
+            Order order = createOrder(command, orderItemList);
+            return transactionPort.execute(() -> saveOrderWithMovements(order));
+        } catch (RuntimeException e) {
+            // 확보한 순서의 역순으로 재고 반환
+            while (!reservedShards.isEmpty()) {
+                StockShard shard = reservedShards.pop();
+                List<OrderItemCommand> itemList = partitionMap.get(shard);
+
+                try {
+                    await(shard.execute(() -> {
+                        releaseOnShard(shard, itemList);
+                        return null;
+                    }));
+                } catch (RuntimeException releaseException) {
+                    log.error("Failed to release stock on shard {}: {}", shard.getIndex(), releaseException.getMessage());
+                }
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * 샤드 스레드에서 재고를 되돌리고 DB 에 반영
+     * - DB 반영에 실패해도 메모리 재고가 기준값이므로 다음 저장 시 맞춰짐
+     */
+    private void releaseOnShard(StockShard shard, List<OrderItemCommand> itemList) {
+        shard.release(itemList);
+
+        try {
+            transactionPort.execute(() -> {
+                shard.persist(itemList);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.error("Failed to persist released stock on shard {}: {}", shard.getIndex(), e.getMessage());
+        }
+    }
+
+    /**
+     * 주문과 재고 변동 이력 저장
+     * - 반환된 재고는 저장된 이력이 없으므로 별도의 복구 이력을 남기지 않음
+     */
+    private Order saveOrderWithMovements(Order order) {
+        Order savedOrder = orderRepositoryPort.saveOrder(order);
+        stockMovementPort.appendAll(StockMovement.ofOrder(savedOrder));
+        return savedOrder;
+    }
+
+    /**
+     * 상품 중복 체크
+     * @param itemList 주문 항목 목록
+     */
+    private void validateNoDuplicateProducts(List<OrderItemCommand> itemList) {
+        Set<Long> uniqueIdSet = new HashSet<>();
+
+        for (OrderItemCommand item : itemList) {
+            if (!uniqueIdSet.add(item.productId())) {
+                throw new CommonException(ErrorCode.DUPLICATE_PRODUCT_ORDER);
+            }
+        }
+    }
+
+    private Order createOrder(OrderCommand command, List<OrderItem> orderItemList) {
+        return Order.create(
+                command.customerName(),
+                command.customerAddress(),
+                orderItemList
+        );
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package dev.kurtyoon.pretest.application.service.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 같은 키로 짧은 시간 안에 들어온 요청을 하나의 batch 로 모음 (group commit)
+ * - 열린 batch 가 없으면 새 batch 를 열고 leader 가 되며, window 가 지나거나 max-size 가 차면 batch 를 닫음
+ * - 열린 batch 가 있으면 합류만 하고 결과는 leader 가 처리한 뒤 전달받음
+ * - batch 를 닫은 뒤 들어온 요청은 다음 batch 를 열므로, 처리 중에도 다음 batch 가 모임
+ */
+public class OrderBatchCollector<K, T> {
+
+    private final long windowNanos;
+    private final int maxSize;
+    private final Map<K, Batch<T>> openBatchMap = new ConcurrentHashMap<>();
+
+    public OrderBatchCollector(Duration window, int maxSize) {
+        this.windowNanos = window.toNanos();
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 요청을 batch 에 추가합니다.
+     * @param key batch 키
+     * @param element 요청
+     * @return 새 batch 를 연 경우 도착 순서대로 모은 요청 목록, 기존 batch 에 합류한 경우 null
+     */
+    public List<T> join(K key, T element) {
+        List<Batch<T>> openedList = new ArrayList<>(1);
+
+        // 같은 키의 추가 / 교체 / 제거는 원자적으로 처리되므로, 제거된 batch 에는 더 이상 요청이 추가되지 않음
+        openBatchMap.compute(key, (k, current) -> {
+            if (current != null && current.add(element, maxSize)) {
+                return current;
+            }
+
+            Batch<T> opened = new Batch<>(element);
+            openedList.add(opened);
+            return opened;
+        });
+
+        if (openedList.isEmpty()) {
+            return null;
+        }
+
+        Batch<T> batch = openedList.get(0);
+        batch.awaitFull(windowNanos, maxSize);
+        openBatchMap.remove(key, batch);
+
+        return batch.getElementList();
+    }
+
+    private static class Batch<T> {
+
+        private final List<T> elementList = new ArrayList<>();
+
+        Batch(T leader) {
+            elementList.add(leader);
+        }
+
+        synchronized boolean add(T element, int maxSize) {
+            if (elementList.size() >= maxSize) {
+                return false;
+            }
+
+            elementList.add(element);
+
+            if (elementList.size() >= maxSize) {
+                notifyAll();
+            }
+
+            return true;
+        }
+
+        synchronized void awaitFull(long windowNanos, int maxSize) {
+            long deadline = System.nanoTime() + windowNanos;
+
+            try {
+                while (elementList.size() < maxSize) {
+                    long remaining = deadline - System.nanoTime();
+
+                    if (remaining <= 0) {
+                        return;
+                    }
+
+                    wait(remaining / 1_000_000, (int) (remaining % 1_000_000));
+                }
+            } catch (InterruptedException e) {
+                // 인터럽트되면 모인 요청까지만 처리
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        synchronized List<T> getElementList() {
+            return List.copyOf(elementList);
+        }
+    }
+}
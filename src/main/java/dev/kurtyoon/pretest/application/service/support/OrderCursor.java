@@ -0,0 +1,45 @@
+package dev.kurtyoon.pretest.application.service.support;
+
+import dev.kurtyoon.pretest.core.exception.CommonException;
+import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
+import dev.kurtyoon.pretest.domain.OrderSummary;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 주문 목록 keyset pagination 커서 ((ordered_at, id) 를 base64url 로 인코딩)
+ */
+public record OrderCursor(LocalDateTime orderedAt, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public static OrderCursor from(OrderSummary orderSummary) {
+        return new OrderCursor(orderSummary.getOrderedAt(), orderSummary.getId());
+    }
+
+    public String encode() {
+        String raw = orderedAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+
+            if (delimiterIndex < 0) {
+                throw new CommonException(ErrorCode.INVALID_PARAMETER_FORMAT);
+            }
+
+            return new OrderCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    Long.parseLong(raw.substring(delimiterIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CommonException(ErrorCode.INVALID_PARAMETER_FORMAT);
+        }
+    }
+}
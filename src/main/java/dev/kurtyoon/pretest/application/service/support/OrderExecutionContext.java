@@ -1,18 +1,19 @@
 package dev.kurtyoon.pretest.application.service.support;
 
+import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
 import dev.kurtyoon.pretest.domain.OrderItem;
 import dev.kurtyoon.pretest.domain.Product;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 public class OrderExecutionContext {
 
     private final List<Long> productIdList;
     private final List<Long> acquiredLockList = new ArrayList<>();
-    private final Map<Long, Integer> originalStockMap = new HashMap<>();
+    private final Set<Long> changedProductIdSet = new LinkedHashSet<>();
+
+    // 실제로 차감한 재고만 기록하는 undo log (복구 시 역순으로 되돌림)
+    private final Deque<StockChange> undoLog = new ArrayDeque<>();
 
     public OrderExecutionContext(List<Long> productIdList) {
         this.productIdList = productIdList;
@@ -30,20 +31,41 @@ public class OrderExecutionContext {
         acquiredLockList.add(productId);
     }
 
-    public void backupStockState(Map<Long, Product> productMap) {
-        for (Map.Entry<Long, Product> entry : productMap.entrySet()) {
-            originalStockMap.put(entry.getKey(), entry.getValue().getQuantity());
+    /**
+     * 재고가 변경된 상품 목록을 반환합니다. 변경되지 않은 상품은 저장 대상에서 제외됩니다.
+     * @param productMap 상품 목록
+     * @return 재고가 변경된 상품 목록
+     */
+    public List<Product> getChangedProductList(Map<Long, Product> productMap) {
+        List<Product> changedProductList = new ArrayList<>(changedProductIdSet.size());
+
+        for (Long productId : changedProductIdSet) {
+            changedProductList.add(productMap.get(productId));
         }
+
+        return changedProductList;
     }
 
-    public void restoreState(Map<Long, Product> productMap) {
-        for (Map.Entry<Long, Integer> entry : originalStockMap.entrySet()) {
-            Product product = productMap.get(entry.getKey());
-            product.updateQuantity(entry.getValue());
+    /**
+     * 이 컨텍스트에서 차감한 재고를 역순으로 되돌립니다. 차감된 상품만 변경되므로 O(변경 수) 입니다.
+     */
+    public void restoreState() {
+        while (!undoLog.isEmpty()) {
+            StockChange change = undoLog.pop();
+            change.product().updateQuantity(change.product().getQuantity() + change.quantity());
         }
+
+        changedProductIdSet.clear();
     }
 
-    public boolean validateAndReduceStock(
+    /**
+     * 모든 주문 상품의 재고를 확인한 뒤 차감합니다. 하나라도 실패하면 아무것도 차감하지 않습니다.
+     * - 실패는 예외 대신 ErrorCode 로 반환하므로 대량 주문에서 실패 건마다 예외를 만들지 않음
+     * @param orderItemList 주문 상품 목록
+     * @param productMap 상품 목록
+     * @return 실패 사유 (성공 시 null)
+     */
+    public ErrorCode validateAndReduceStock(
             List<OrderItem> orderItemList,
             Map<Long, Product> productMap
     ) {
@@ -51,16 +73,29 @@ public class OrderExecutionContext {
         for (OrderItem item : orderItemList) {
             Product product = productMap.get(item.getProductId());
 
-            if (product == null || product.getQuantity() < item.getQuantity()) {
-                return false;
+            if (product == null) {
+                return ErrorCode.NOT_FOUND_PRODUCT;
+            }
+
+            if (item.getQuantity() <= 0) {
+                return ErrorCode.INVALID_QUANTITY;
+            }
+
+            if (product.getQuantity() < item.getQuantity()) {
+                return ErrorCode.OUT_OF_STOCK;
             }
         }
 
         for (OrderItem item : orderItemList) {
             Product product = productMap.get(item.getProductId());
             product.reduceStock(item.getQuantity());
+            undoLog.push(new StockChange(product, item.getQuantity()));
+            changedProductIdSet.add(product.getId());
         }
 
-        return true;
+        return null;
+    }
+
+    private record StockChange(Product product, int quantity) {
     }
 }
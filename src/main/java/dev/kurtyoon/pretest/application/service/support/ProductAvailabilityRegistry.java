@@ -0,0 +1,114 @@
+package dev.kurtyoon.pretest.application.service.support;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.kurtyoon.pretest.application.dto.request.OrderItemCommand;
+import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
+import dev.kurtyoon.pretest.domain.Product;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 품절 / 존재하지 않는 상품 목록 (negative cache)
+ * - Lock 을 잡고 조회한 결과와 커밋된 재고로만 갱신하고, 재고가 다시 생긴 상품은 조회 시점에 제거됨
+ * - 다른 노드의 재입고는 알 수 없으므로 항목은 ttl 이 지나면 만료되어 Lock 경로로 다시 확인함
+ * - 존재하지 않는 ID 로 계속 주문해도 최대 maximumSize 개까지만 보관
+ * - 결과가 확실한 주문만 거절하므로, 거절 사유는 Lock 을 잡고 처리했을 때와 같음
+ */
+@Component
+public class ProductAvailabilityRegistry {
+
+    private final boolean enabled;
+    private final Cache<Long, ErrorCode> reasonCache;
+
+    public ProductAvailabilityRegistry(
+            @Value("${product.availability.enabled:true}") boolean enabled,
+            @Value("${product.availability.ttl:2s}") Duration ttl,
+            @Value("${product.availability.maximum-size:10000}") long maximumSize
+    ) {
+        this.enabled = enabled;
+        this.reasonCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Lock 없이 실패가 확실한 주문 상품인지 확인합니다.
+     * - 존재하지 않는 상품이 하나라도 있으면 NOT_FOUND_PRODUCT
+     * - 주문 순서대로 확인하여, 수량 검증이 먼저 실패할 수 있는 상품 앞에 품절 상품이 있으면 OUT_OF_STOCK
+     * @param itemList 주문 상품 목록
+     * @return 거절 사유 (판단할 수 없으면 null)
+     */
+    public ErrorCode findRejection(List<OrderItemCommand> itemList) {
+        if (!enabled) {
+            return null;
+        }
+
+        for (OrderItemCommand item : itemList) {
+            if (reasonCache.getIfPresent(item.productId()) == ErrorCode.NOT_FOUND_PRODUCT) {
+                return ErrorCode.NOT_FOUND_PRODUCT;
+            }
+        }
+
+        for (OrderItemCommand item : itemList) {
+            if (item.quantity() <= 0) {
+                return null;
+            }
+
+            if (reasonCache.getIfPresent(item.productId()) == ErrorCode.OUT_OF_STOCK) {
+                return ErrorCode.OUT_OF_STOCK;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Lock 을 잡고 조회한 결과를 반영합니다.
+     * @param productIdList 조회한 상품 ID 목록
+     * @param productMap 조회된 상품 목록
+     */
+    public void update(List<Long> productIdList, Map<Long, Product> productMap) {
+        if (!enabled) {
+            return;
+        }
+
+        for (Long productId : productIdList) {
+            Product product = productMap.get(productId);
+
+            if (product == null) {
+                reasonCache.put(productId, ErrorCode.NOT_FOUND_PRODUCT);
+            } else {
+                update(product);
+            }
+        }
+    }
+
+    /**
+     * 커밋된 재고를 반영합니다.
+     * @param productList 저장된 상품 목록
+     */
+    public void update(Collection<Product> productList) {
+        if (!enabled) {
+            return;
+        }
+
+        for (Product product : productList) {
+            update(product);
+        }
+    }
+
+    private void update(Product product) {
+        if (product.getQuantity() <= 0) {
+            reasonCache.put(product.getId(), ErrorCode.OUT_OF_STOCK);
+        } else {
+            reasonCache.invalidate(product.getId());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package dev.kurtyoon.pretest.application.service.support;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.kurtyoon.pretest.domain.Product;
+import dev.kurtyoon.pretest.domain.ProductCatalogItem;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품 이름 / 가격의 공유 캐시
+ * - 읽기는 캐시만 참조하므로 Lock 이나 DB 접근이 없음
+ * - 쓰기는 Lock 을 잡고 조회한 상품을 상품 별로 교체하고, 내용이 바뀔 때마다 버전을 올림
+ * - 최대 maximumSize 개까지 보관하며, ttl 이 지난 항목은 제거되므로 가격이 바뀌어도 최대 ttl 동안만 이전 가격이 사용됨
+ */
+@Component
+public class ProductCatalog {
+
+    private final long ttlNanos;
+    private final Cache<Long, Entry> entryCache;
+    private final AtomicLong version = new AtomicLong();
+
+    public ProductCatalog(
+            @Value("${product.catalog.ttl:1m}") Duration ttl,
+            @Value("${product.catalog.maximum-size:10000}") long maximumSize
+    ) {
+        this.ttlNanos = ttl.toNanos();
+        this.entryCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * 캐시에서 상품 정보를 조회합니다. 없거나 ttl 이 지난 상품은 결과에서 제외됩니다.
+     * @param productIdList 상품 ID 목록
+     * @return 상품 ID 별 상품 정보
+     */
+    public Map<Long, ProductCatalogItem> findAll(List<Long> productIdList) {
+        Map<Long, ProductCatalogItem> itemMap = new HashMap<>(productIdList.size() * 2);
+
+        for (Long productId : productIdList) {
+            Entry entry = entryCache.getIfPresent(productId);
+
+            if (entry != null) {
+                itemMap.put(productId, entry.item());
+            }
+        }
+
+        return itemMap;
+    }
+
+    /**
+     * 조회한 상품의 이름 / 가격을 캐시에 반영합니다.
+     * @param productList 상품 목록
+     */
+    public void publish(Collection<Product> productList) {
+        long now = System.nanoTime();
+        boolean changed = false;
+
+        for (Product product : productList) {
+            Entry entry = entryCache.getIfPresent(product.getId());
+
+            // 같은 내용으로 충분히 최근에 적재되어 있으면 교체하지 않음 (ttl 의 절반마다 한 번만 갱신)
+            if (entry != null && entry.item().isSameAs(product) && now - entry.loadedAt() < ttlNanos / 2) {
+                continue;
+            }
+
+            Entry previous = entryCache.asMap().put(product.getId(), new Entry(ProductCatalogItem.of(product), now));
+            changed |= (previous == null || !previous.item().isSameAs(product));
+        }
+
+        if (changed) {
+            version.incrementAndGet();
+        }
+    }
+
+    private record Entry(ProductCatalogItem item, long loadedAt) {
+    }
+}
@@ -0,0 +1,213 @@
+package dev.kurtyoon.pretest.application.service.support;
+
+import dev.kurtyoon.pretest.application.port.out.LockPort;
+import dev.kurtyoon.pretest.application.port.out.ProductRepositoryPort;
+import dev.kurtyoon.pretest.application.port.out.ProductStockShardPort;
+import dev.kurtyoon.pretest.application.port.out.TransactionPort;
+import dev.kurtyoon.pretest.common.logging.LoggerUtils;
+import dev.kurtyoon.pretest.core.config.LockConfig;
+import dev.kurtyoon.pretest.domain.Product;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * hot 상품의 재고를 K 개의 하위 카운터(샤드)로 나누어 차감
+ * - 설정된 상품만 대상이며, 단건 주문은 이 상품에 대해 상품 Lock 대신 샤드 행 Lock 만 잡으므로 K 개의 주문이 동시에 진행됨
+ * - product_stock 의 재고는 공용 풀로 남고, 샤드가 비면 상품 Lock 을 잡고 풀에서 refill-size 만큼 가장 적은 샤드로 옮김
+ * - 선택한 샤드가 부족하면 다른 샤드에서 나누어 가져오며 (work-stealing), 샤드 행은 항상 번호 오름차순으로 갱신함
+ *   (차감은 호출 측 트랜잭션과 함께 롤백됨)
+ * - Lock 기반 경로(대량 주문, 예약)는 풀만 보므로, 풀에서 옮겨진 재고는 단건 주문으로만 소진됨
+ * - 재고 변동 이력은 상품의 전체 재고(풀 + 샤드 합계) 기준이므로, 풀에서 샤드로 옮기는 refill 은 이력을 남기지 않음
+ *   (전체 재고가 변하지 않고, 샤드에서 차감된 주문은 호출 측에서 주문 이력으로 기록됨)
+ */
+@Component
+public class ShardedStockCounter {
+
+    private static final Logger log = LoggerUtils.getLogger(ShardedStockCounter.class);
+
+    private final ProductStockShardPort productStockShardPort;
+    private final ProductRepositoryPort productRepositoryPort;
+    private final TransactionPort transactionPort;
+    private final LockPort lockPort;
+
+    private final boolean enabled;
+    private final Set<Long> productIdSet;
+    private final int shardCount;
+    private final int refillSize;
+    private final boolean customerAffinity;
+
+    public ShardedStockCounter(
+            ProductStockShardPort productStockShardPort,
+            ProductRepositoryPort productRepositoryPort,
+            TransactionPort transactionPort,
+            @Qualifier(LockConfig.SINGLE_ORDER_LOCK_PORT) LockPort lockPort,
+            @Value("${product.stock.sharding.enabled:false}") boolean enabled,
+            @Value("${product.stock.sharding.product-ids:}") List<Long> productIdList,
+            @Value("${product.stock.sharding.shard-count:8}") int shardCount,
+            @Value("${product.stock.sharding.refill-size:100}") int refillSize,
+            @Value("${product.stock.sharding.affinity:random}") String affinity
+    ) {
+        this.productStockShardPort = productStockShardPort;
+        this.productRepositoryPort = productRepositoryPort;
+        this.transactionPort = transactionPort;
+        this.lockPort = lockPort;
+        this.enabled = enabled;
+        this.productIdSet = Set.copyOf(productIdList);
+        this.shardCount = shardCount;
+        this.refillSize = refillSize;
+        this.customerAffinity = switch (affinity.toLowerCase()) {
+            case "random" -> false;
+            case "customer" -> true;
+            default -> throw new IllegalStateException("Unsupported stock shard affinity: " + affinity);
+        };
+    }
+
+    /**
+     * 재고를 샤드로 나누어 관리하는 상품인지 확인합니다.
+     * @param productId 상품 ID
+     * @return 샤드 상품 여부
+     */
+    public boolean isSharded(Long productId) {
+        return enabled && productIdSet.contains(productId);
+    }
+
+    /**
+     * 샤드에서 재고를 차감합니다. 호출 측 트랜잭션 안에서 호출해야 하며, 실패 시 트랜잭션을 롤백해야 합니다.
+     * @param productId 상품 ID
+     * @param quantity 차감 수량
+     * @param affinityKey 샤드 선택 기준 (customer affinity 일 때 사용)
+     * @return 차감 여부 (모든 샤드를 합쳐도 부족하면 false, 일부만 차감되었을 수 있음)
+     */
+    public boolean take(Long productId, int quantity, String affinityKey) {
+
+        // 1. Lock 없이 읽은 샤드 재고로 차감 계획 (선택한 샤드를 먼저 채우고, 나머지는 샤드 번호 오름차순)
+        Map<Integer, Integer> quantityMap = new TreeMap<>(productStockShardPort.findQuantityMap(productId));
+        int preferredIndex = chooseShard(affinityKey);
+
+        Map<Integer, Integer> planMap = new HashMap<>();
+        int planned = Math.min(quantity, quantityMap.getOrDefault(preferredIndex, 0));
+        planMap.put(preferredIndex, planned);
+
+        for (Map.Entry<Integer, Integer> shard : quantityMap.entrySet()) {
+            if (planned == quantity) {
+                break;
+            }
+
+            if (shard.getKey() != preferredIndex) {
+                int amount = Math.min(quantity - planned, shard.getValue());
+                planMap.put(shard.getKey(), amount);
+                planned += amount;
+            }
+        }
+
+        // 2. 선택한 샤드를 포함해 샤드 번호 오름차순으로 한 번만 차감
+        //    - 조건(quantity >= ?)에 맞지 않아 실패한 갱신도 트랜잭션이 끝날 때까지 행 Lock 을 유지하므로,
+        //      모든 행 Lock 을 같은 순서로 잡아야 동시에 차감하는 트랜잭션 사이에 DB 데드락이 생기지 않음
+        //    - 계획보다 적게 차감된 수량은 뒤 번호의 샤드에서 가져오고, 앞 번호의 샤드로는 되돌아가지 않음
+        int remaining = quantity;
+        int plannedAfter = quantity;
+        for (Map.Entry<Integer, Integer> shard : quantityMap.entrySet()) {
+            plannedAfter -= planMap.getOrDefault(shard.getKey(), 0);
+
+            // 이 샤드의 계획 수량 + 앞 샤드에서 모자랐던 수량
+            int amount = Math.min(remaining - plannedAfter, shard.getValue());
+            if (amount <= 0) {
+                continue;
+            }
+
+            if (productStockShardPort.reduce(productId, shard.getKey(), amount)) {
+                remaining -= amount;
+            }
+
+            if (remaining == 0) {
+                return true;
+            }
+        }
+
+        log.debug("Stock shards short: product = {}, quantity = {}, remaining = {}", productId, quantity, remaining);
+        return false;
+    }
+
+    /**
+     * 공용 풀(product_stock)의 재고를 가장 적은 샤드로 옮깁니다. 상품 Lock 을 잡고 별도 트랜잭션으로 실행합니다.
+     * @param productId 상품 ID
+     * @param shortage 부족한 수량
+     * @return 다시 차감을 시도할 만한 재고가 있으면 true (풀과 샤드가 모두 부족하면 false)
+     */
+    public boolean refill(Long productId, int shortage) {
+
+        // 풀이 비어 있으면 Lock 없이 종료 (품절 상품 주문이 상품 Lock 으로 몰리지 않도록)
+        Integer poolQuantity = productRepositoryPort.findQuantityMapByIdList(List.of(productId)).get(productId);
+        if (poolQuantity == null || poolQuantity <= 0) {
+            return hasShardStock(productId, shortage);
+        }
+
+        String lockKey = getProductLockKey(productId);
+        lockPort.lock(lockKey);
+
+        try {
+            return transactionPort.execute(() -> {
+                productStockShardPort.initialize(productId, shardCount);
+
+                List<Product> productList = productRepositoryPort.findAllByIdList(List.of(productId));
+                if (productList.isEmpty()) {
+                    return false;
+                }
+
+                Product product = productList.get(0);
+                int amount = Math.min(product.getQuantity(), Math.max(refillSize, shortage));
+                if (amount <= 0) {
+                    return hasShardStock(productId, shortage);
+                }
+
+                // 전체 재고는 그대로이므로 재고 변동 이력을 남기지 않음
+                product.reduceStock(amount);
+                productRepositoryPort.saveAllProducts(List.of(product));
+
+                int targetIndex = findEmptiestShard(productId);
+                productStockShardPort.add(productId, targetIndex, amount);
+
+                log.debug("Stock shard refilled: product = {}, shard = {}, quantity = {}", productId, targetIndex, amount);
+                return true;
+            });
+        } finally {
+            lockPort.unlock(lockKey);
+        }
+    }
+
+    private int chooseShard(String affinityKey) {
+        if (customerAffinity && affinityKey != null) {
+            return Math.floorMod(affinityKey.hashCode(), shardCount);
+        }
+
+        return ThreadLocalRandom.current().nextInt(shardCount);
+    }
+
+    /**
+     * 차감에 실패한 사이 다른 주문이 샤드를 채웠을 수 있으므로 샤드 합계를 다시 확인
+     */
+    private boolean hasShardStock(Long productId, int quantity) {
+        int shardQuantity = productStockShardPort.findQuantityMap(productId).values().stream()
+                .mapToInt(Integer::intValue)
+                .sum();
+
+        return shardQuantity >= quantity;
+    }
+
+    private int findEmptiestShard(Long productId) {
+        return productStockShardPort.findQuantityMap(productId).entrySet().stream()
+                .filter(shard -> shard.getKey() < shardCount)
+                .min(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .orElse(0);
+    }
+
+    private String getProductLockKey(Long productId) {
+        return String.format("PRODUCT_LOCK:%d", productId);
+    }
+}
@@ -0,0 +1,177 @@
+package dev.kurtyoon.pretest.application.service.support;
+
+import dev.kurtyoon.pretest.application.dto.request.OrderItemCommand;
+import dev.kurtyoon.pretest.application.port.out.ProductRepositoryPort;
+import dev.kurtyoon.pretest.core.exception.CommonException;
+import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
+import dev.kurtyoon.pretest.domain.OrderItem;
+import dev.kurtyoon.pretest.domain.Product;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * 단일 스레드로 동작하는 재고 샤드
+ * - 샤드에 할당된 상품의 재고는 이 샤드 스레드만 읽고 쓰므로 Lock 이 필요 없음
+ * - 상품은 최초 접근 시 DB 에서 적재되고, 이후에는 메모리의 재고가 기준값이 됨 (샤드 모드에서는 샤드 외의 재고 작성자가 없음)
+ * - 메모리에는 최대 maxCachedProducts 개까지 LRU 로 보관하며, 변경은 매번 DB 에 저장되므로 제거된 상품은 다시 적재하면 됨
+ * - reserve / release / persist 는 반드시 execute 로 전달된 작업 안에서 호출해야 함
+ */
+public class StockShard {
+
+    private final int index;
+    private final ProductRepositoryPort productRepositoryPort;
+    private final ExecutorService executor;
+
+    // 샤드 스레드에서만 접근
+    private final Map<Long, Product> productMap;
+
+    private volatile Thread shardThread;
+
+    public StockShard(
+            int index,
+            ProductRepositoryPort productRepositoryPort,
+            int maxCachedProducts
+    ) {
+        this.index = index;
+        this.productRepositoryPort = productRepositoryPort;
+        this.productMap = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Product> eldest) {
+                return size() > maxCachedProducts;
+            }
+        };
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stock-shard-" + index);
+            thread.setDaemon(true);
+            shardThread = thread;
+            return thread;
+        });
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * 샤드 스레드에서 작업을 실행합니다.
+     * @param task 작업
+     * @return 작업 결과
+     */
+    public <T> CompletableFuture<T> execute(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    /**
+     * 재고를 확인하고 차감합니다. 하나라도 부족하면 아무것도 차감하지 않습니다.
+     * @param itemList 주문 항목 목록
+     * @return 주문 상품 목록
+     */
+    public List<OrderItem> reserve(List<OrderItemCommand> itemList) {
+        checkShardThread();
+        loadMissingProducts(itemList);
+
+        for (OrderItemCommand item : itemList) {
+            Product product = productMap.get(item.productId());
+
+            if (product == null) {
+                throw new CommonException(ErrorCode.NOT_FOUND_PRODUCT);
+            }
+
+            if (product.getQuantity() < item.quantity()) {
+                throw new CommonException(ErrorCode.OUT_OF_STOCK);
+            }
+        }
+
+        List<OrderItem> orderItemList = new ArrayList<>(itemList.size());
+
+        for (OrderItemCommand item : itemList) {
+            Product product = productMap.get(item.productId());
+            product.reduceStock(item.quantity());
+
+            orderItemList.add(OrderItem.create(
+                    product.getId(),
+                    product.getName(),
+                    item.quantity(),
+                    product.getPrice()
+            ));
+        }
+
+        return orderItemList;
+    }
+
+    /**
+     * 차감했던 재고를 되돌립니다. 차감을 이미 DB 에 저장했다면 persist 로 다시 저장해야 합니다.
+     * @param itemList 주문 항목 목록
+     */
+    public void release(List<OrderItemCommand> itemList) {
+        checkShardThread();
+        loadMissingProducts(itemList);
+
+        for (OrderItemCommand item : itemList) {
+            Product product = productMap.get(item.productId());
+
+            if (product != null) {
+                product.updateQuantity(product.getQuantity() + item.quantity());
+            }
+        }
+    }
+
+    /**
+     * 메모리의 재고를 DB 에 반영합니다.
+     * @param itemList 주문 항목 목록
+     */
+    public void persist(List<OrderItemCommand> itemList) {
+        checkShardThread();
+
+        List<Product> productList = itemList.stream()
+                .map(item -> productMap.get(item.productId()))
+                .filter(Objects::nonNull)
+                .map(this::copyOf)
+                .toList();
+
+        productRepositoryPort.saveAllProducts(productList);
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 메모리에 없는 상품만 DB 에서 적재 (보관 중인 상품은 DB 를 읽지 않음)
+     */
+    private void loadMissingProducts(List<OrderItemCommand> itemList) {
+        List<Long> missingIdList = itemList.stream()
+                .map(OrderItemCommand::productId)
+                .filter(productId -> !productMap.containsKey(productId))
+                .toList();
+
+        if (missingIdList.isEmpty()) {
+            return;
+        }
+
+        for (Product product : productRepositoryPort.findAllByIdList(missingIdList)) {
+            productMap.put(product.getId(), product);
+        }
+    }
+
+    private Product copyOf(Product product) {
+        return Product.create(
+                product.getId(),
+                product.getName(),
+                product.getQuantity(),
+                product.getPrice(),
+                product.getCreatedAt(),
+                product.getUpdatedAt()
+        );
+    }
+
+    private void checkShardThread() {
+        if (Thread.currentThread() != shardThread) {
+            throw new IllegalStateException("Stock shard " + index + " accessed outside of its thread");
+        }
+    }
+}
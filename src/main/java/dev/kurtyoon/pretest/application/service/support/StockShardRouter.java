@@ -0,0 +1,52 @@
+package dev.kurtyoon.pretest.application.service.support;
+
+import dev.kurtyoon.pretest.application.dto.request.OrderItemCommand;
+import dev.kurtyoon.pretest.application.port.out.ProductRepositoryPort;
+
+import java.util.*;
+
+/**
+ * 상품 ID 를 해시 분할하여 재고 샤드로 라우팅
+ */
+public class StockShardRouter {
+
+    private final List<StockShard> shardList;
+
+    public StockShardRouter(
+            int shardCount,
+            ProductRepositoryPort productRepositoryPort,
+            int maxCachedProductsPerShard
+    ) {
+        List<StockShard> shards = new ArrayList<>(shardCount);
+
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new StockShard(i, productRepositoryPort, maxCachedProductsPerShard));
+        }
+
+        this.shardList = Collections.unmodifiableList(shards);
+    }
+
+    public StockShard route(Long productId) {
+        return shardList.get(Math.floorMod(Long.hashCode(productId), shardList.size()));
+    }
+
+    /**
+     * 주문 항목을 샤드 별로 나눕니다. 샤드 번호 오름차순으로 정렬되어 있습니다.
+     * @param itemList 주문 항목 목록
+     * @return 샤드 별 주문 항목 목록
+     */
+    public SortedMap<StockShard, List<OrderItemCommand>> partition(List<OrderItemCommand> itemList) {
+        SortedMap<StockShard, List<OrderItemCommand>> partitionMap =
+                new TreeMap<>(Comparator.comparingInt(StockShard::getIndex));
+
+        for (OrderItemCommand item : itemList) {
+            partitionMap.computeIfAbsent(route(item.productId()), shard -> new ArrayList<>()).add(item);
+        }
+
+        return partitionMap;
+    }
+
+    public void shutdown() {
+        shardList.forEach(StockShard::shutdown);
+    }
+}
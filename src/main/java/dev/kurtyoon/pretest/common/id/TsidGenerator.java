@@ -0,0 +1,102 @@
+package dev.kurtyoon.pretest.common.id;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * 시간 순으로 정렬되는 64bit ID 생성기 (TSID)
+ * - 42bit 밀리초 타임스탬프 | 10bit 노드 | 12bit 시퀀스
+ * - DB 왕복 없이 ID 를 발급하므로 IDENTITY 와 달리 insert batch 를 막지 않음
+ * - 노드 번호는 tsid.node 시스템 프로퍼티 또는 TSID_NODE 환경 변수로 지정
+ * - 지정하지 않으면 호스트 이름으로 정해지므로 재시작해도 같은 번호를 사용하고,
+ *   호스트 이름의 해시가 겹칠 수 있으므로 여러 노드로 배포할 때는 노드 번호를 지정해야 함
+ */
+public final class TsidGenerator {
+
+    // 2024-01-01T00:00:00Z
+    private static final long EPOCH_MILLIS = 1704067200000L;
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private static final TsidGenerator DEFAULT = new TsidGenerator(resolveNodeId());
+
+    private final long nodeId;
+
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    public TsidGenerator(long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("TSID node id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+
+        this.nodeId = nodeId;
+    }
+
+    public static TsidGenerator getDefault() {
+        return DEFAULT;
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 다음 ID 를 발급합니다.
+     * - 같은 밀리초에 시퀀스를 모두 사용했거나 시계가 뒤로 가면 마지막 타임스탬프를 이어서 사용
+     * @return ID
+     */
+    public synchronized long nextId() {
+        long now = System.currentTimeMillis() - EPOCH_MILLIS;
+
+        if (now > lastTimestamp) {
+            lastTimestamp = now;
+            sequence = 0L;
+        } else if (++sequence > MAX_SEQUENCE) {
+            lastTimestamp++;
+            sequence = 0L;
+        }
+
+        return (lastTimestamp << (NODE_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    private static long resolveNodeId() {
+        String configured = System.getProperty("tsid.node", System.getenv("TSID_NODE"));
+
+        if (configured != null && !configured.isBlank()) {
+            return Long.parseLong(configured.trim());
+        }
+
+        return deriveNodeId(resolveHostName());
+    }
+
+    /**
+     * 호스트 이름으로 노드 번호를 정합니다. 같은 호스트 이름은 항상 같은 번호가 됩니다.
+     * @param hostName 호스트 이름
+     * @return 노드 번호
+     */
+    static long deriveNodeId(String hostName) {
+        return Math.floorMod(hostName.hashCode(), (int) (MAX_NODE_ID + 1));
+    }
+
+    private static String resolveHostName() {
+        String hostName = System.getenv("HOSTNAME");
+
+        if (hostName != null && !hostName.isBlank()) {
+            return hostName;
+        }
+
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException("TSID node id is not configured and host name is unavailable: "
+                    + "set tsid.node or TSID_NODE", e);
+        }
+    }
+}
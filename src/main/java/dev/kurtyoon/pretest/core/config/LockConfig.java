@@ -0,0 +1,119 @@
+package dev.kurtyoon.pretest.core.config;
+
+import dev.kurtyoon.pretest.adapter.out.lock.LocalFirstLockAdapter;
+import dev.kurtyoon.pretest.adapter.out.lock.LocalLockRegistry;
+import dev.kurtyoon.pretest.adapter.out.lock.LockContentionRegistry;
+import dev.kurtyoon.pretest.adapter.out.lock.LockPolicy;
+import dev.kurtyoon.pretest.adapter.out.lock.MeteredLockAdapter;
+import dev.kurtyoon.pretest.adapter.out.lock.RedissonLockAdapter;
+import dev.kurtyoon.pretest.application.port.out.LockPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 유스케이스(단건 주문, 대량 주문) 별 LockPort 구성
+ */
+@Configuration
+public class LockConfig {
+
+    public static final String SINGLE_ORDER_LOCK_PORT = "singleOrderLockPort";
+    public static final String BULK_ORDER_LOCK_PORT = "bulkOrderLockPort";
+
+    @Value("${lock.metrics.max-contention-keys:10000}")
+    private Integer maxContentionKeys;
+
+    @Value("${lock.local-first.enabled:true}")
+    private Boolean localFirstEnabled;
+
+    @Value("${lock.single-order.wait-time:3s}")
+    private Duration singleOrderWaitTime;
+
+    @Value("${lock.single-order.lease-time:5s}")
+    private Duration singleOrderLeaseTime;
+
+    @Value("${lock.single-order.watchdog:true}")
+    private Boolean singleOrderWatchdog;
+
+    @Value("${lock.bulk-order.wait-time:10s}")
+    private Duration bulkOrderWaitTime;
+
+    @Value("${lock.bulk-order.lease-time:60s}")
+    private Duration bulkOrderLeaseTime;
+
+    @Value("${lock.bulk-order.watchdog:true}")
+    private Boolean bulkOrderWatchdog;
+
+    @Bean
+    public LockContentionRegistry lockContentionRegistry() {
+        return new LockContentionRegistry(maxContentionKeys);
+    }
+
+    /**
+     * 단건 / 대량 주문이 같은 상품에 대해 같은 로컬 Lock 을 쓰도록 하나만 생성
+     */
+    @Bean
+    public LocalLockRegistry localLockRegistry() {
+        return new LocalLockRegistry();
+    }
+
+    @Bean(SINGLE_ORDER_LOCK_PORT)
+    public LockPort singleOrderLockPort(
+            RedissonClient redissonClient,
+            MeterRegistry meterRegistry,
+            LockContentionRegistry lockContentionRegistry,
+            LocalLockRegistry localLockRegistry
+    ) {
+        return createLockPort(
+                redissonClient,
+                LockPolicy.of(singleOrderWaitTime, singleOrderLeaseTime, singleOrderWatchdog),
+                "single_order",
+                meterRegistry,
+                lockContentionRegistry,
+                localLockRegistry
+        );
+    }
+
+    @Bean(BULK_ORDER_LOCK_PORT)
+    public LockPort bulkOrderLockPort(
+            RedissonClient redissonClient,
+            MeterRegistry meterRegistry,
+            LockContentionRegistry lockContentionRegistry,
+            LocalLockRegistry localLockRegistry
+    ) {
+        return createLockPort(
+                redissonClient,
+                LockPolicy.of(bulkOrderWaitTime, bulkOrderLeaseTime, bulkOrderWatchdog),
+                "bulk_order",
+                meterRegistry,
+                lockContentionRegistry,
+                localLockRegistry
+        );
+    }
+
+    /**
+     * Metered -> (LocalFirst) -> Redisson 순서로 LockPort 구성
+     * - 대기 시간 지표에 로컬 Lock 대기 시간까지 포함되도록 Metered 를 가장 바깥에 둠
+     */
+    private LockPort createLockPort(
+            RedissonClient redissonClient,
+            LockPolicy lockPolicy,
+            String useCase,
+            MeterRegistry meterRegistry,
+            LockContentionRegistry lockContentionRegistry,
+            LocalLockRegistry localLockRegistry
+    ) {
+        RedissonLockAdapter redissonLockAdapter = new RedissonLockAdapter(redissonClient, lockPolicy);
+        LockPort lockPort = redissonLockAdapter;
+
+        if (localFirstEnabled) {
+            lockPort = new LocalFirstLockAdapter(redissonLockAdapter, localLockRegistry, lockPolicy.waitTime());
+        }
+
+        return new MeteredLockAdapter(lockPort, useCase, meterRegistry, lockContentionRegistry);
+    }
+}
@@ -0,0 +1,130 @@
+package dev.kurtyoon.pretest.core.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import dev.kurtyoon.pretest.adapter.out.cache.LocalProductCacheInvalidationBus;
+import dev.kurtyoon.pretest.adapter.out.cache.ProductCacheInvalidationBus;
+import dev.kurtyoon.pretest.adapter.out.cache.RedissonProductCacheInvalidationBus;
+import dev.kurtyoon.pretest.adapter.out.persistence.CachingProductRepositoryAdapter;
+import dev.kurtyoon.pretest.adapter.out.persistence.CachingProductRepositoryAdapter.CachedProduct;
+import dev.kurtyoon.pretest.adapter.out.persistence.CachingProductRepositoryAdapter.LoadTimeExpiry;
+import dev.kurtyoon.pretest.adapter.out.persistence.FlushClearOrderRepositoryAdapter;
+import dev.kurtyoon.pretest.adapter.out.persistence.JdbcOrderRepositoryAdapter;
+import dev.kurtyoon.pretest.adapter.out.persistence.OrderRepositoryAdapter;
+import dev.kurtyoon.pretest.adapter.out.persistence.ProductRepositoryAdapter;
+import dev.kurtyoon.pretest.application.port.out.OrderRepositoryPort;
+import dev.kurtyoon.pretest.application.port.out.ProductRepositoryPort;
+import dev.kurtyoon.pretest.common.id.TsidGenerator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+
+import java.time.Duration;
+
+/**
+ * 유스케이스 별 OrderRepositoryPort 구성
+ * - 단건 주문은 기본(JPA) 구현을 사용하고, 대량 주문은 order.bulk.writer 로 구현을 선택
+ * - ProductRepositoryPort 는 product.cache.enabled 이면 캐시 데코레이터로 감싸고, 노드 간 무효화는 product.cache.invalidation 으로 선택
+ */
+@Configuration
+public class PersistenceConfig {
+
+    public static final String BULK_ORDER_REPOSITORY_PORT = "bulkOrderRepositoryPort";
+
+    // jdbc | jpa-batch | jpa
+    @Value("${order.bulk.writer:jdbc}")
+    private String bulkOrderWriter;
+
+    @Value("${order.bulk.jdbc-batch-size:1000}")
+    private Integer jdbcBatchSize;
+
+    @Value("${product.cache.enabled:true}")
+    private Boolean productCacheEnabled;
+
+    @Value("${product.cache.maximum-size:10000}")
+    private Long productCacheMaximumSize;
+
+    @Value("${product.cache.ttl:1m}")
+    private Duration productCacheTtl;
+
+    @Value("${product.cache.stock-validation:true}")
+    private Boolean productCacheStockValidation;
+
+    // redis | local
+    @Value("${product.cache.invalidation.type:redis}")
+    private String productCacheInvalidationType;
+
+    @Value("${product.cache.invalidation.topic:product:cache:invalidation}")
+    private String productCacheInvalidationTopic;
+
+    @Bean
+    @Primary
+    public ProductRepositoryPort productRepositoryPort(
+            ProductRepositoryAdapter productRepositoryAdapter,
+            MeterRegistry meterRegistry,
+            ObjectProvider<RedissonClient> redissonClientProvider
+    ) {
+        if (!productCacheEnabled) {
+            return productRepositoryAdapter;
+        }
+
+        // 재고 갱신으로 항목을 다시 넣어도 DB 에서 읽은 시각 기준으로 만료
+        Ticker ticker = Ticker.systemTicker();
+        Cache<Long, CachedProduct> productCache = Caffeine.newBuilder()
+                .maximumSize(productCacheMaximumSize)
+                .expireAfter(new LoadTimeExpiry(productCacheTtl))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size 지표 등록
+        CaffeineCacheMetrics.monitor(meterRegistry, productCache, "product");
+
+        return new CachingProductRepositoryAdapter(
+                productRepositoryAdapter,
+                productCache,
+                productCacheStockValidation,
+                productCacheInvalidationBus(redissonClientProvider),
+                ticker
+        );
+    }
+
+    private ProductCacheInvalidationBus productCacheInvalidationBus(ObjectProvider<RedissonClient> redissonClientProvider) {
+        return switch (productCacheInvalidationType.toLowerCase()) {
+            case "redis" -> new RedissonProductCacheInvalidationBus(
+                    redissonClientProvider.getObject(),
+                    productCacheInvalidationTopic
+            );
+            case "local" -> new LocalProductCacheInvalidationBus();
+            default -> throw new IllegalStateException(
+                    "Unsupported product cache invalidation: " + productCacheInvalidationType
+            );
+        };
+    }
+
+    @Bean(BULK_ORDER_REPOSITORY_PORT)
+    public OrderRepositoryPort bulkOrderRepositoryPort(
+            OrderRepositoryAdapter orderRepositoryAdapter,
+            JdbcTemplate jdbcTemplate,
+            EntityManagerFactory entityManagerFactory
+    ) {
+        return switch (bulkOrderWriter.toLowerCase()) {
+            case "jdbc" -> new JdbcOrderRepositoryAdapter(jdbcTemplate, TsidGenerator.getDefault(), jdbcBatchSize);
+            case "jpa-batch" -> new FlushClearOrderRepositoryAdapter(
+                    SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory),
+                    jdbcBatchSize
+            );
+            case "jpa" -> orderRepositoryAdapter;
+            default -> throw new IllegalStateException("Unsupported bulk order writer: " + bulkOrderWriter);
+        };
+    }
+}
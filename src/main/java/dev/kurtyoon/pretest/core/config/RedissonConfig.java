@@ -2,11 +2,24 @@ package dev.kurtyoon.pretest.core.config;
 
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
-import org.redisson.config.Config;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.codec.JsonJacksonCodec;
+import org.redisson.codec.Kryo5Codec;
+import org.redisson.config.*;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
 
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redisson 클라이언트 구성
+ * - redisson.mode 에 따라 single / sentinel / cluster 토폴로지 사용
+ * - 기본값은 Lock 획득 대기(pub/sub) 가 많은 트래픽에 맞춰 구독 커넥션을 넉넉하게 잡고, 타임아웃을 짧게 설정
+ */
 @Configuration
 public class RedissonConfig {
 
@@ -19,15 +32,168 @@ public class RedissonConfig {
     @Value("${spring.data.redis.password}")
     private String password;
 
+    @Value("${redisson.mode:single}")
+    private String mode;
+
+    @Value("${redisson.sentinel.master-name:}")
+    private String sentinelMasterName;
+
+    @Value("${redisson.sentinel.addresses:}")
+    private List<String> sentinelAddresses;
+
+    @Value("${redisson.cluster.addresses:}")
+    private List<String> clusterAddresses;
+
+    @Value("${redisson.cluster.scan-interval:5s}")
+    private Duration clusterScanInterval;
+
+    @Value("${redisson.pool.connection-size:64}")
+    private Integer connectionPoolSize;
+
+    @Value("${redisson.pool.connection-minimum-idle-size:24}")
+    private Integer connectionMinimumIdleSize;
+
+    @Value("${redisson.pool.subscription-connection-size:64}")
+    private Integer subscriptionConnectionPoolSize;
+
+    @Value("${redisson.pool.subscription-connection-minimum-idle-size:8}")
+    private Integer subscriptionConnectionMinimumIdleSize;
+
+    @Value("${redisson.pool.subscriptions-per-connection:10}")
+    private Integer subscriptionsPerConnection;
+
+    @Value("${redisson.timeout.connect:3s}")
+    private Duration connectTimeout;
+
+    @Value("${redisson.timeout.response:1s}")
+    private Duration responseTimeout;
+
+    @Value("${redisson.timeout.idle-connection:10s}")
+    private Duration idleConnectionTimeout;
+
+    @Value("${redisson.retry.attempts:3}")
+    private Integer retryAttempts;
+
+    @Value("${redisson.retry.interval:200ms}")
+    private Duration retryInterval;
+
+    @Value("${redisson.threads:16}")
+    private Integer threads;
+
+    @Value("${redisson.netty-threads:32}")
+    private Integer nettyThreads;
+
+    // Redisson 기본 codec 과 같은 kryo5 (MarshallingCodec 은 deprecated)
+    @Value("${redisson.codec:kryo5}")
+    private String codec;
+
+    // watchdog 모드 Lock 의 lease 연장 주기 기준 (점유 스레드가 죽으면 이 시간 내에 해제)
+    @Value("${redisson.lock-watchdog-timeout:10s}")
+    private Duration lockWatchdogTimeout;
+
     private static final String REDISSON_HOST_PREFIX = "redis://";
 
     @Bean(destroyMethod = "shutdown")
     public RedissonClient redissonClient() {
         Config config = new Config();
+        config.setLockWatchdogTimeout(lockWatchdogTimeout.toMillis());
+        config.setThreads(threads);
+        config.setNettyThreads(nettyThreads);
+        config.setCodec(createCodec());
 
-        config.useSingleServer()
-                .setAddress(REDISSON_HOST_PREFIX + host + ":" + port);
+        switch (mode.toLowerCase()) {
+            case "single" -> configureSingleServer(config);
+            case "sentinel" -> configureSentinelServers(config);
+            case "cluster" -> configureClusterServers(config);
+            default -> throw new IllegalStateException("Unsupported redisson mode: " + mode);
+        }
 
         return Redisson.create(config);
     }
+
+    private void configureSingleServer(Config config) {
+        SingleServerConfig serverConfig = config.useSingleServer()
+                .setAddress(REDISSON_HOST_PREFIX + host + ":" + port)
+                .setConnectionPoolSize(connectionPoolSize)
+                .setConnectionMinimumIdleSize(connectionMinimumIdleSize)
+                .setSubscriptionConnectionPoolSize(subscriptionConnectionPoolSize)
+                .setSubscriptionConnectionMinimumIdleSize(subscriptionConnectionMinimumIdleSize);
+
+        applyCommonSettings(serverConfig);
+    }
+
+    private void configureSentinelServers(Config config) {
+        if (!StringUtils.hasText(sentinelMasterName) || sentinelAddresses.isEmpty()) {
+            throw new IllegalStateException("redisson.sentinel.master-name and redisson.sentinel.addresses are required");
+        }
+
+        SentinelServersConfig serversConfig = config.useSentinelServers()
+                .setMasterName(sentinelMasterName)
+                .setCheckSentinelsList(sentinelAddresses.size() > 1);
+
+        sentinelAddresses.forEach(address -> serversConfig.addSentinelAddress(toRedisAddress(address)));
+
+        applyMasterSlaveSettings(serversConfig);
+    }
+
+    private void configureClusterServers(Config config) {
+        if (clusterAddresses.isEmpty()) {
+            throw new IllegalStateException("redisson.cluster.addresses is required");
+        }
+
+        ClusterServersConfig serversConfig = config.useClusterServers()
+                .setScanInterval((int) clusterScanInterval.toMillis());
+
+        clusterAddresses.forEach(address -> serversConfig.addNodeAddress(toRedisAddress(address)));
+
+        applyMasterSlaveSettings(serversConfig);
+    }
+
+    /**
+     * Lock 은 항상 master 에서 읽고 구독해야 하므로 ReadMode / SubscriptionMode 를 MASTER 로 고정
+     */
+    private void applyMasterSlaveSettings(BaseMasterSlaveServersConfig<?> serversConfig) {
+        serversConfig
+                .setReadMode(ReadMode.MASTER)
+                .setSubscriptionMode(SubscriptionMode.MASTER)
+                .setMasterConnectionPoolSize(connectionPoolSize)
+                .setMasterConnectionMinimumIdleSize(connectionMinimumIdleSize)
+                .setSlaveConnectionPoolSize(connectionPoolSize)
+                .setSlaveConnectionMinimumIdleSize(connectionMinimumIdleSize)
+                .setSubscriptionConnectionPoolSize(subscriptionConnectionPoolSize)
+                .setSubscriptionConnectionMinimumIdleSize(subscriptionConnectionMinimumIdleSize);
+
+        applyCommonSettings(serversConfig);
+    }
+
+    private void applyCommonSettings(BaseConfig<?> serverConfig) {
+        serverConfig
+                .setConnectTimeout((int) connectTimeout.toMillis())
+                .setTimeout((int) responseTimeout.toMillis())
+                .setIdleConnectionTimeout((int) idleConnectionTimeout.toMillis())
+                .setRetryAttempts(retryAttempts)
+                .setRetryInterval((int) retryInterval.toMillis())
+                .setSubscriptionsPerConnection(subscriptionsPerConnection)
+                .setKeepAlive(true)
+                .setTcpNoDelay(true);
+
+        // 비밀번호가 비어있으면 AUTH 를 보내지 않음
+        if (StringUtils.hasText(password)) {
+            serverConfig.setPassword(password);
+        }
+    }
+
+    private Codec createCodec() {
+        return switch (codec.toLowerCase()) {
+            case "kryo5" -> new Kryo5Codec();
+            case "json" -> new JsonJacksonCodec();
+            case "string" -> StringCodec.INSTANCE;
+            default -> throw new IllegalStateException("Unsupported redisson codec: " + codec);
+        };
+    }
+
+    private String toRedisAddress(String address) {
+        String trimmed = address.trim();
+        return trimmed.contains("://") ? trimmed : REDISSON_HOST_PREFIX + trimmed;
+    }
 }
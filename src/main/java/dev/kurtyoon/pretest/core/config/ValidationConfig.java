@@ -0,0 +1,21 @@
+package dev.kurtyoon.pretest.core.config;
+
+import dev.kurtyoon.pretest.core.dto.SelfValidating;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * SelfValidating DTO 의 생성 시점 검증 여부 설정
+ */
+@Configuration
+public class ValidationConfig {
+
+    @Value("${dto.self-validation.enabled:true}")
+    private Boolean selfValidationEnabled;
+
+    @PostConstruct
+    public void init() {
+        SelfValidating.setEnabled(selfValidationEnabled);
+    }
+}
@@ -5,24 +5,36 @@ import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
-import jakarta.validation.ValidatorFactory;
 
 import java.util.Set;
 
+/**
+ * 생성 시점에 Bean Validation 제약 조건을 검증하는 DTO
+ * - Validator 는 thread-safe 하므로 애플리케이션 전체에서 하나를 공유 (클래스 별 제약 조건 메타데이터도 한 번만 분석됨)
+ * - dto.self-validation.enabled=false 이면 검증을 생략 (서버가 도메인 객체로부터 만드는 응답은 이미 유효함)
+ */
 public abstract class SelfValidating<T> {
 
-    private final Validator validator;
+    private static volatile boolean enabled = true;
 
-    public SelfValidating() {
-        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-        validator = factory.getValidator();
+    public static void setEnabled(boolean enabled) {
+        SelfValidating.enabled = enabled;
     }
 
     @SuppressWarnings("unchecked")
     protected void validateSelf() {
-        Set<ConstraintViolation<T>> violations = validator.validate((T) this);
+        if (!enabled) {
+            return;
+        }
+
+        Set<ConstraintViolation<T>> violations = ValidatorHolder.VALIDATOR.validate((T) this);
         if (!violations.isEmpty()) {
             throw new CommonException(ErrorCode.INTERNAL_DATA_ERROR);
         }
     }
+
+    // 최초 검증 시점에 한 번만 ValidatorFactory 생성
+    private static class ValidatorHolder {
+        private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+    }
 }
@@ -2,11 +2,16 @@ package dev.kurtyoon.pretest.core.exception;
 
 import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
 
+/**
+ * ErrorCode 기반 예외
+ * - 재고 부족, 상품 없음 같은 예상된 비즈니스 실패(5xx 가 아닌 ErrorCode)는 스택 트레이스를 채우지 않음
+ */
 public class CommonException extends RuntimeException {
 
     private final ErrorCode errorCode;
 
     public CommonException(ErrorCode errorCode) {
+        super(null, null, false, errorCode.getHttpStatus().is5xxServerError());
         this.errorCode = errorCode;
     }
 
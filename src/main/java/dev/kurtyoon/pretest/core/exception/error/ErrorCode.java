@@ -23,9 +23,13 @@ public enum ErrorCode {
     // Not Found Error
     NOT_FOUND_END_POINT(40400, HttpStatus.NOT_FOUND, "요청 엔드포인트가 존재하지 않습니다."),
     NOT_FOUND_PRODUCT(40401, HttpStatus.NOT_FOUND, "상품을 찾을 수 없습니다."),
+    NOT_FOUND_ORDER(40402, HttpStatus.NOT_FOUND, "주문을 찾을 수 없습니다."),
+    NOT_FOUND_RESERVATION(40403, HttpStatus.NOT_FOUND, "재고 예약을 찾을 수 없습니다."),
 
     OUT_OF_STOCK(40900, HttpStatus.CONFLICT, "상품의 재고가 부족합니다."),
     LOCK_ACQUIRE_FAILED(40900, HttpStatus.CONFLICT, "Lock 획득에 실패했습니다."),
+    EXPIRED_RESERVATION(40901, HttpStatus.CONFLICT, "재고 예약이 만료되었습니다."),
+    UNSUPPORTED_IN_EXECUTION_MODE(40902, HttpStatus.CONFLICT, "현재 주문 처리 방식에서는 지원하지 않는 요청입니다."),
 
     // Internal Server Error
     INTERNAL_SERVER_ERROR(50000, HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 에러입니다."),
@@ -94,4 +94,14 @@ public class Order {
     ) {
         return new Order(id, customerName, customerAddress, items, LocalDateTime.now());
     }
+
+    public static Order create(
+            Long id,
+            String customerName,
+            String customerAddress,
+            List<OrderItem> items,
+            LocalDateTime orderedAt
+    ) {
+        return new Order(id, customerName, customerAddress, items, orderedAt);
+    }
 }
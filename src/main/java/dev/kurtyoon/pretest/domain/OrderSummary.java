@@ -0,0 +1,68 @@
+package dev.kurtyoon.pretest.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 목록 조회용 주문 요약 (주문 상품 제외)
+ */
+public class OrderSummary {
+
+    private final Long id;
+    private final String customerName;
+    private final String customerAddress;
+    private final int totalPrice;
+    private final LocalDateTime orderedAt;
+
+    /* -------------------------------------------------- */
+    /* Constructor -------------------------------------- */
+    /* -------------------------------------------------- */
+    private OrderSummary(
+            Long id,
+            String customerName,
+            String customerAddress,
+            int totalPrice,
+            LocalDateTime orderedAt
+    ) {
+        this.id = id;
+        this.customerName = customerName;
+        this.customerAddress = customerAddress;
+        this.totalPrice = totalPrice;
+        this.orderedAt = orderedAt;
+    }
+
+    /* -------------------------------------------------- */
+    /* Getter ------------------------------------------- */
+    /* -------------------------------------------------- */
+    public Long getId() {
+        return id;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public String getCustomerAddress() {
+        return customerAddress;
+    }
+
+    public int getTotalPrice() {
+        return totalPrice;
+    }
+
+    public LocalDateTime getOrderedAt() {
+        return orderedAt;
+    }
+
+    /* -------------------------------------------------- */
+    /* Static Factory Method ---------------------------- */
+    /* -------------------------------------------------- */
+    public static OrderSummary create(
+            Long id,
+            String customerName,
+            String customerAddress,
+            int totalPrice,
+            LocalDateTime orderedAt
+    ) {
+        return new OrderSummary(id, customerName, customerAddress, totalPrice, orderedAt);
+    }
+}
@@ -0,0 +1,60 @@
+package dev.kurtyoon.pretest.domain;
+
+/**
+ * 주문 생성에 필요한 상품 정보 (불변)
+ * - 재고를 포함하지 않으므로 Lock 없이 공유해도 안전
+ */
+public class ProductCatalogItem {
+
+    private final Long id;
+    private final String name;
+    private final int price;
+
+    /* -------------------------------------------------- */
+    /* Constructor -------------------------------------- */
+    /* -------------------------------------------------- */
+    private ProductCatalogItem(
+            Long id,
+            String name,
+            int price
+    ) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+    }
+
+    /* -------------------------------------------------- */
+    /* Getter ------------------------------------------- */
+    /* -------------------------------------------------- */
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getPrice() {
+        return price;
+    }
+
+    /* -------------------------------------------------- */
+    /* Functions ---------------------------------------- */
+    /* -------------------------------------------------- */
+    public boolean isSameAs(Product product) {
+        return id.equals(product.getId())
+                && name.equals(product.getName())
+                && price == product.getPrice();
+    }
+
+    /* -------------------------------------------------- */
+    /* Static Factory Method ---------------------------- */
+    /* -------------------------------------------------- */
+    public static ProductCatalogItem of(Product product) {
+        return new ProductCatalogItem(
+                product.getId(),
+                product.getName(),
+                product.getPrice()
+        );
+    }
+}
@@ -0,0 +1,127 @@
+package dev.kurtyoon.pretest.domain;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 재고 변동 이력 (append-only)
+ * - 차감은 음수, 복구는 양수 delta 로 기록
+ */
+public class StockMovement {
+
+    private final Long productId;
+    private final int delta;
+    private final Long orderId;
+    private final LocalDateTime occurredAt;
+
+    /* -------------------------------------------------- */
+    /* Constructor -------------------------------------- */
+    /* -------------------------------------------------- */
+    private StockMovement(
+            Long productId,
+            int delta,
+            Long orderId,
+            LocalDateTime occurredAt
+    ) {
+        this.productId = productId;
+        this.delta = delta;
+        this.orderId = orderId;
+        this.occurredAt = occurredAt;
+    }
+
+    /* -------------------------------------------------- */
+    /* Getter ------------------------------------------- */
+    /* -------------------------------------------------- */
+    public Long getProductId() {
+        return productId;
+    }
+
+    public int getDelta() {
+        return delta;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    /* -------------------------------------------------- */
+    /* Static Factory Method ---------------------------- */
+    /* -------------------------------------------------- */
+    public static StockMovement create(
+            Long productId,
+            int delta,
+            Long orderId,
+            LocalDateTime occurredAt
+    ) {
+        return new StockMovement(productId, delta, orderId, occurredAt);
+    }
+
+    /**
+     * 저장된 주문의 주문 상품마다 재고 차감 이력을 생성
+     * @param order 저장된 주문
+     * @return 재고 변동 이력 목록
+     */
+    public static List<StockMovement> ofOrder(Order order) {
+        List<StockMovement> movementList = new ArrayList<>(order.getItems().size());
+
+        for (OrderItem item : order.getItems()) {
+            movementList.add(new StockMovement(
+                    item.getProductId(),
+                    -item.getQuantity(),
+                    order.getId(),
+                    order.getOrderedAt()
+            ));
+        }
+
+        return movementList;
+    }
+
+    /**
+     * 재고 예약의 차감 이력을 생성 (주문이 아직 없으므로 주문 ID 는 비어 있음)
+     * @param reservation 재고 예약
+     * @return 재고 변동 이력 목록
+     */
+    public static List<StockMovement> ofReserved(StockReservation reservation) {
+        return ofReservation(reservation, -1, reservation.getReservedAt());
+    }
+
+    /**
+     * 취소 / 만료된 재고 예약의 복구 이력을 생성
+     * @param reservation 재고 예약
+     * @param releasedAt 반환 시각
+     * @return 재고 변동 이력 목록
+     */
+    public static List<StockMovement> ofReleased(StockReservation reservation, LocalDateTime releasedAt) {
+        return ofReservation(reservation, 1, releasedAt);
+    }
+
+    private static List<StockMovement> ofReservation(StockReservation reservation, int sign, LocalDateTime occurredAt) {
+        List<StockMovement> movementList = new ArrayList<>(reservation.getItems().size());
+
+        for (OrderItem item : reservation.getItems()) {
+            movementList.add(new StockMovement(item.getProductId(), sign * item.getQuantity(), null, occurredAt));
+        }
+
+        return movementList;
+    }
+
+    /**
+     * 여러 주문의 재고 차감 이력을 생성
+     * @param orderList 저장된 주문 목록
+     * @return 재고 변동 이력 목록
+     */
+    public static List<StockMovement> ofOrderList(List<Order> orderList) {
+        List<StockMovement> movementList = new ArrayList<>();
+
+        for (Order order : orderList) {
+            movementList.addAll(ofOrder(order));
+        }
+
+        return movementList;
+    }
+}
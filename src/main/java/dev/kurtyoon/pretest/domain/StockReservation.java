@@ -0,0 +1,113 @@
+package dev.kurtyoon.pretest.domain;
+
+import dev.kurtyoon.pretest.core.exception.CommonException;
+import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 주문 확정 전까지 차감해 둔 재고
+ * - 예약 시점의 상품 이름 / 가격을 함께 보관하므로 확정 시 상품을 다시 조회하지 않음
+ * - 만료 시각이 지나면 확정할 수 없고, 재고는 반환 대상이 됨
+ */
+public class StockReservation {
+
+    private final Long id;
+    private final String customerName;
+    private final String customerAddress;
+    private final List<OrderItem> items;
+    private final LocalDateTime reservedAt;
+    private final LocalDateTime expiresAt;
+
+    /* -------------------------------------------------- */
+    /* Constructor -------------------------------------- */
+    /* -------------------------------------------------- */
+    private StockReservation(
+            Long id,
+            String customerName,
+            String customerAddress,
+            List<OrderItem> items,
+            LocalDateTime reservedAt,
+            LocalDateTime expiresAt
+    ) {
+
+        if (items == null || items.isEmpty()) {
+            throw new CommonException(ErrorCode.INVALID_ORDER);
+        }
+
+        this.id = id;
+        this.customerName = customerName;
+        this.customerAddress = customerAddress;
+        this.items = Collections.unmodifiableList(items);
+        this.reservedAt = reservedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    /* -------------------------------------------------- */
+    /* Getter ------------------------------------------- */
+    /* -------------------------------------------------- */
+    public Long getId() {
+        return id;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public String getCustomerAddress() {
+        return customerAddress;
+    }
+
+    public List<OrderItem> getItems() {
+        return items;
+    }
+
+    public LocalDateTime getReservedAt() {
+        return reservedAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    /* -------------------------------------------------- */
+    /* Functions ---------------------------------------- */
+    /* -------------------------------------------------- */
+    public boolean isExpired(LocalDateTime now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    /**
+     * 예약한 상품으로 확정 주문을 생성
+     * @return 주문
+     */
+    public Order toOrder() {
+        return Order.create(customerName, customerAddress, items);
+    }
+
+    /* -------------------------------------------------- */
+    /* Static Factory Method ---------------------------- */
+    /* -------------------------------------------------- */
+    public static StockReservation create(
+            String customerName,
+            String customerAddress,
+            List<OrderItem> items,
+            LocalDateTime reservedAt,
+            LocalDateTime expiresAt
+    ) {
+        return new StockReservation(null, customerName, customerAddress, items, reservedAt, expiresAt);
+    }
+
+    public static StockReservation create(
+            Long id,
+            String customerName,
+            String customerAddress,
+            List<OrderItem> items,
+            LocalDateTime reservedAt,
+            LocalDateTime expiresAt
+    ) {
+        return new StockReservation(id, customerName, customerAddress, items, reservedAt, expiresAt);
+    }
+}
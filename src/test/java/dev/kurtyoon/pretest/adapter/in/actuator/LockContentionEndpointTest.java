@@ -0,0 +1,36 @@
+package dev.kurtyoon.pretest.adapter.in.actuator;
+
+import dev.kurtyoon.pretest.adapter.out.lock.LockContentionRegistry;
+import dev.kurtyoon.pretest.adapter.out.lock.LockContentionRegistry.LockContention;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LockContentionEndpointTest {
+
+    @Test
+    @DisplayName("limit 이 없으면 기본 10개, 있으면 limit 개수만큼 경합이 심한 키를 반환한다")
+    void returnsTopContendedKeys() {
+        // given
+        LockContentionRegistry registry = new LockContentionRegistry(100);
+        for (int i = 1; i <= 15; i++) {
+            registry.recordAcquired("PRODUCT_LOCK:" + i, TimeUnit.MILLISECONDS.toNanos(i));
+        }
+
+        LockContentionEndpoint endpoint = new LockContentionEndpoint(registry);
+
+        // when
+        List<LockContention> defaultList = endpoint.topContendedKeys(null);
+        List<LockContention> limitedList = endpoint.topContendedKeys(3);
+
+        // then
+        assertThat(defaultList).hasSize(10);
+        assertThat(defaultList.get(0).key()).isEqualTo("PRODUCT_LOCK:15");
+        assertThat(limitedList).extracting(LockContention::key)
+                .containsExactly("PRODUCT_LOCK:15", "PRODUCT_LOCK:14", "PRODUCT_LOCK:13");
+    }
+}
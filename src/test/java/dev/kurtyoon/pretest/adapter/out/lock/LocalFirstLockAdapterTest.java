@@ -0,0 +1,130 @@
+package dev.kurtyoon.pretest.adapter.out.lock;
+
+import dev.kurtyoon.pretest.core.exception.CommonException;
+import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class LocalFirstLockAdapterTest {
+
+    private static final String KEY = "PRODUCT_LOCK:1";
+
+    private RedissonClient redissonClient;
+    private RLock lock;
+    private LocalLockRegistry localLockRegistry;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        redissonClient = mock(RedissonClient.class);
+        lock = mock(RLock.class);
+        localLockRegistry = new LocalLockRegistry();
+
+        when(redissonClient.getLock(KEY)).thenReturn(lock);
+        when(lock.tryLock(anyLong(), any(TimeUnit.class))).thenReturn(true);
+        when(lock.isHeldByCurrentThread()).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("다른 유스케이스의 LockPort 와 로컬 Lock 을 공유하여 같은 키를 동시에 점유하지 못한다")
+    void sharesLocalLockAcrossPorts() throws Exception {
+        // given
+        LocalFirstLockAdapter singleOrderLockPort = createAdapter(Duration.ofSeconds(3));
+        LocalFirstLockAdapter bulkOrderLockPort = createAdapter(Duration.ofMillis(50));
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        singleOrderLockPort.lock(KEY);
+
+        try {
+            // when
+            Future<?> bulkOrder = executorService.submit(() -> bulkOrderLockPort.lock(KEY));
+
+            // then
+            CommonException exception = (CommonException) assertThrows(
+                    Exception.class, () -> bulkOrder.get(5, TimeUnit.SECONDS)
+            ).getCause();
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.LOCK_ACQUIRE_FAILED);
+
+            // Redis 까지 가지 않고 로컬에서 실패
+            verify(lock, times(1)).tryLock(anyLong(), any(TimeUnit.class));
+        } finally {
+            singleOrderLockPort.unlock(KEY);
+            executorService.shutdownNow();
+        }
+
+        assertThat(localLockRegistry.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("로컬 Lock 대기에 쓴 시간만큼 Redis Lock 대기 시간을 줄인다")
+    void subtractsLocalWaitFromRedisWait() throws Exception {
+        // given
+        LocalFirstLockAdapter lockPort = createAdapter(Duration.ofSeconds(3));
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        CountDownLatch waiting = new CountDownLatch(1);
+
+        lockPort.lock(KEY);
+
+        Future<?> waiter = executorService.submit(() -> {
+            waiting.countDown();
+            lockPort.lock(KEY);
+            lockPort.unlock(KEY);
+        });
+
+        waiting.await();
+        Thread.sleep(300);
+        lockPort.unlock(KEY);
+        waiter.get(5, TimeUnit.SECONDS);
+        executorService.shutdownNow();
+
+        // then
+        ArgumentCaptor<Long> waitCaptor = ArgumentCaptor.forClass(Long.class);
+        verify(lock, times(2)).tryLock(waitCaptor.capture(), eq(TimeUnit.MILLISECONDS));
+
+        assertThat(waitCaptor.getAllValues().get(0)).isGreaterThan(2900L);
+        assertThat(waitCaptor.getAllValues().get(1)).isLessThanOrEqualTo(2700L);
+        assertThat(localLockRegistry.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Redis Lock 획득에 실패하면 로컬 Lock 을 해제한다")
+    void releasesLocalLockWhenRedisLockFails() throws InterruptedException {
+        // given
+        when(lock.tryLock(anyLong(), any(TimeUnit.class))).thenReturn(false);
+        LocalFirstLockAdapter lockPort = createAdapter(Duration.ofSeconds(3));
+
+        // when
+        CommonException exception = assertThrows(CommonException.class, () -> lockPort.lock(KEY));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.LOCK_ACQUIRE_FAILED);
+        assertThat(localLockRegistry.size()).isZero();
+    }
+
+    private LocalFirstLockAdapter createAdapter(Duration waitTime) {
+        LockPolicy lockPolicy = LockPolicy.watchdog(waitTime);
+
+        return new LocalFirstLockAdapter(
+                new RedissonLockAdapter(redissonClient, lockPolicy),
+                localLockRegistry,
+                waitTime
+        );
+    }
+}
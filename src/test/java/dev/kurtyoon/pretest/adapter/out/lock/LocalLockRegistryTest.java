@@ -0,0 +1,99 @@
+package dev.kurtyoon.pretest.adapter.out.lock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalLockRegistryTest {
+
+    private static final String KEY = "PRODUCT_LOCK:1";
+
+    @Test
+    @DisplayName("대기 중인 스레드가 있으면 로컬 Lock 을 유지하고, 마지막 참조가 해제되면 제거한다")
+    void removesLockWhenLastReferenceReleased() throws Exception {
+        // given
+        LocalLockRegistry registry = new LocalLockRegistry();
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        CountDownLatch waiting = new CountDownLatch(1);
+
+        assertThat(registry.tryLock(KEY, Duration.ZERO)).isTrue();
+
+        try {
+            // when
+            Future<Boolean> waiter = executorService.submit(() -> {
+                waiting.countDown();
+                boolean acquired = registry.tryLock(KEY, Duration.ofSeconds(5));
+                registry.unlock(KEY);
+                return acquired;
+            });
+
+            waiting.await();
+            Thread.sleep(50);
+            assertThat(registry.size()).isEqualTo(1);
+
+            registry.unlock(KEY);
+
+            // then
+            assertThat(waiter.get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(registry.size()).isZero();
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 획득하지 못하면 참조를 반환하여 점유자가 해제한 뒤 로컬 Lock 이 남지 않는다")
+    void releasesReferenceOnTimeout() throws Exception {
+        // given
+        LocalLockRegistry registry = new LocalLockRegistry();
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        assertThat(registry.tryLock(KEY, Duration.ZERO)).isTrue();
+
+        try {
+            // when
+            boolean acquired = executorService.submit(() -> registry.tryLock(KEY, Duration.ofMillis(50)))
+                    .get(5, TimeUnit.SECONDS);
+
+            // then
+            assertThat(acquired).isFalse();
+            assertThat(registry.size()).isEqualTo(1);
+
+            registry.unlock(KEY);
+            assertThat(registry.size()).isZero();
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("점유하지 않은 스레드의 해제 요청은 무시한다")
+    void ignoresUnlockFromOtherThread() throws Exception {
+        // given
+        LocalLockRegistry registry = new LocalLockRegistry();
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        assertThat(registry.tryLock(KEY, Duration.ZERO)).isTrue();
+
+        try {
+            // when
+            executorService.submit(() -> registry.unlock(KEY)).get(5, TimeUnit.SECONDS);
+
+            // then
+            assertThat(registry.size()).isEqualTo(1);
+            assertThat(executorService.submit(() -> registry.tryLock(KEY, Duration.ZERO)).get(5, TimeUnit.SECONDS))
+                    .isFalse();
+        } finally {
+            registry.unlock(KEY);
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package dev.kurtyoon.pretest.adapter.out.lock;
+
+import dev.kurtyoon.pretest.adapter.out.lock.LockContentionRegistry.LockContention;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LockContentionRegistryTest {
+
+    @Test
+    @DisplayName("키 개수가 상한에 도달해도 이후 자주 잠기는 키가 한 번만 잠긴 키를 대신한다")
+    void replacesStaleKeysWithHotKeyWhenFull() {
+        // given - 대량 주문이 한 번씩 잠근 키들로 상한이 참
+        LockContentionRegistry registry = new LockContentionRegistry(10);
+        for (long productId = 1; productId <= 10; productId++) {
+            registry.recordAcquired("PRODUCT_LOCK:" + productId, millis(1));
+        }
+
+        // when - 이후 hot 상품이 반복해서 잠김
+        for (int i = 0; i < 50; i++) {
+            registry.recordAcquired("PRODUCT_LOCK:100", millis(10));
+        }
+
+        // then
+        List<LockContention> contentionList = registry.getTopContendedKeys(20);
+        assertThat(contentionList).hasSizeLessThanOrEqualTo(10);
+        assertThat(contentionList.get(0).key()).isEqualTo("PRODUCT_LOCK:100");
+        assertThat(contentionList.get(0).acquiredCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("누적 대기 시간이 긴 순서로 limit 개수만큼 반환한다")
+    void returnsTopContendedKeys() {
+        // given
+        LockContentionRegistry registry = new LockContentionRegistry(100);
+        registry.recordAcquired("PRODUCT_LOCK:1", millis(10));
+        registry.recordAcquired("PRODUCT_LOCK:2", millis(30));
+        registry.recordFailed("PRODUCT_LOCK:3", millis(20));
+        registry.recordHeld("PRODUCT_LOCK:2", millis(8));
+
+        // when
+        List<LockContention> contentionList = registry.getTopContendedKeys(2);
+
+        // then
+        assertThat(contentionList).extracting(LockContention::key)
+                .containsExactly("PRODUCT_LOCK:2", "PRODUCT_LOCK:3");
+        assertThat(contentionList.get(0).totalWaitMillis()).isEqualTo(30.0);
+        assertThat(contentionList.get(0).averageHoldMillis()).isEqualTo(8.0);
+        assertThat(contentionList.get(1).failedCount()).isEqualTo(1);
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
@@ -0,0 +1,35 @@
+package dev.kurtyoon.pretest.adapter.out.lock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LockPolicyTest {
+
+    @Test
+    @DisplayName("watchdog 이면 leaseTime 을 무시하고, 아니면 설정한 leaseTime 을 사용한다")
+    void createsPolicyFromProperties() {
+        // when
+        LockPolicy watchdogPolicy = LockPolicy.of(Duration.ofSeconds(3), Duration.ofSeconds(5), true);
+        LockPolicy fixedLeasePolicy = LockPolicy.of(Duration.ofSeconds(3), Duration.ofSeconds(5), false);
+
+        // then
+        assertThat(watchdogPolicy.watchdog()).isTrue();
+        assertThat(watchdogPolicy.leaseTime()).isEqualTo(Duration.ZERO);
+        assertThat(watchdogPolicy.waitTime()).isEqualTo(Duration.ofSeconds(3));
+
+        assertThat(fixedLeasePolicy.watchdog()).isFalse();
+        assertThat(fixedLeasePolicy.leaseTime()).isEqualTo(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("waitTime 이 0 이하이면 fail-fast 정책이다")
+    void zeroWaitTimeIsFailFast() {
+        assertThat(LockPolicy.of(Duration.ZERO, Duration.ofSeconds(5), false).isFailFast()).isTrue();
+        assertThat(LockPolicy.of(Duration.ofMillis(-1), Duration.ofSeconds(5), true).isFailFast()).isTrue();
+        assertThat(LockPolicy.of(Duration.ofMillis(1), Duration.ofSeconds(5), false).isFailFast()).isFalse();
+    }
+}
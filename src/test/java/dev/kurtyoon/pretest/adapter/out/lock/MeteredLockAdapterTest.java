@@ -0,0 +1,111 @@
+package dev.kurtyoon.pretest.adapter.out.lock;
+
+import dev.kurtyoon.pretest.adapter.out.lock.LockContentionRegistry.LockContention;
+import dev.kurtyoon.pretest.application.port.out.LockPort;
+import dev.kurtyoon.pretest.core.exception.CommonException;
+import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MeteredLockAdapterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LockContentionRegistry contentionRegistry;
+    private TestLockPort delegate;
+    private MeteredLockAdapter lockAdapter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        contentionRegistry = new LockContentionRegistry(100);
+        delegate = new TestLockPort();
+        lockAdapter = new MeteredLockAdapter(delegate, "single_order", meterRegistry, contentionRegistry);
+    }
+
+    @Test
+    @DisplayName("획득 대기 시간과 점유 시간이 use_case 태그로 기록된다")
+    void recordsWaitAndHoldTime() throws InterruptedException {
+        // given
+        delegate.lockDelayMillis = 50;
+
+        // when
+        lockAdapter.lock("PRODUCT_LOCK:1");
+        Thread.sleep(30);
+        lockAdapter.unlock("PRODUCT_LOCK:1");
+
+        // then
+        Timer waitTimer = meterRegistry.get("lock.acquire.wait")
+                .tag("use_case", "single_order")
+                .tag("result", "acquired")
+                .timer();
+        Timer holdTimer = meterRegistry.get("lock.hold")
+                .tag("use_case", "single_order")
+                .timer();
+
+        assertThat(waitTimer.count()).isEqualTo(1);
+        assertThat(waitTimer.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(50);
+        assertThat(holdTimer.count()).isEqualTo(1);
+        assertThat(holdTimer.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(30);
+
+        LockContention contention = contentionRegistry.getTopContendedKeys(10).get(0);
+        assertThat(contention.key()).isEqualTo("PRODUCT_LOCK:1");
+        assertThat(contention.acquiredCount()).isEqualTo(1);
+        assertThat(contention.maxWaitMillis()).isGreaterThanOrEqualTo(50);
+        assertThat(contention.averageHoldMillis()).isGreaterThanOrEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("획득 실패 시 실패 대기 시간과 사유 별 실패 횟수가 기록되고 점유 시간은 기록되지 않는다")
+    void recordsFailure() {
+        // given
+        delegate.failure = new CommonException(ErrorCode.LOCK_ACQUIRE_FAILED);
+
+        // when
+        assertThrows(CommonException.class, () -> lockAdapter.lock("PRODUCT_LOCK:1"));
+        lockAdapter.unlock("PRODUCT_LOCK:1");
+
+        // then
+        assertThat(meterRegistry.get("lock.acquire.wait").tag("result", "failed").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("lock.acquire.failures")
+                .tag("reason", "LOCK_ACQUIRE_FAILED")
+                .counter()
+                .count()).isEqualTo(1);
+        assertThat(meterRegistry.get("lock.hold").timer().count()).isZero();
+
+        List<LockContention> contentionList = contentionRegistry.getTopContendedKeys(10);
+        assertThat(contentionList).hasSize(1);
+        assertThat(contentionList.get(0).failedCount()).isEqualTo(1);
+        assertThat(contentionList.get(0).acquiredCount()).isZero();
+    }
+
+    static class TestLockPort implements LockPort {
+        private long lockDelayMillis;
+        private RuntimeException failure;
+
+        @Override
+        public void lock(String key) {
+            if (failure != null) {
+                throw failure;
+            }
+
+            try {
+                Thread.sleep(lockDelayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void unlock(String key) {
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package dev.kurtyoon.pretest.adapter.out.lock;
+
+import dev.kurtyoon.pretest.core.exception.CommonException;
+import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class RedissonLockAdapterTest {
+
+    private RedissonClient redissonClient;
+    private RLock lock;
+
+    @BeforeEach
+    void setUp() {
+        redissonClient = mock(RedissonClient.class);
+        lock = mock(RLock.class);
+        when(redissonClient.getLock("PRODUCT_LOCK:1")).thenReturn(lock);
+    }
+
+    @Test
+    @DisplayName("wait-time 0s + watchdog 이면 대기 없는 tryLock() 으로 한 번만 시도하고 실패 시 LOCK_ACQUIRE_FAILED")
+    void failFastWithWatchdog() throws InterruptedException {
+        // given
+        when(lock.tryLock()).thenReturn(false);
+        RedissonLockAdapter adapter = new RedissonLockAdapter(
+                redissonClient,
+                LockPolicy.of(Duration.ZERO, Duration.ofSeconds(5), true)
+        );
+
+        // when
+        CommonException exception = assertThrows(CommonException.class, () -> adapter.lock("PRODUCT_LOCK:1"));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.LOCK_ACQUIRE_FAILED);
+        verify(lock).tryLock();
+        verify(lock, never()).tryLock(anyLong(), any(TimeUnit.class));
+        verify(lock, never()).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    @DisplayName("wait-time 0s + 고정 lease 이면 대기 0 으로 lease 만 지정해 시도한다")
+    void failFastWithFixedLease() throws InterruptedException {
+        // given
+        when(lock.tryLock(0, 5000, TimeUnit.MILLISECONDS)).thenReturn(true);
+        RedissonLockAdapter adapter = new RedissonLockAdapter(
+                redissonClient,
+                LockPolicy.of(Duration.ZERO, Duration.ofSeconds(5), false)
+        );
+
+        // when
+        adapter.lock("PRODUCT_LOCK:1");
+
+        // then
+        verify(lock).tryLock(0, 5000, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    @DisplayName("watchdog 정책은 lease 를 지정하지 않고 wait-time 만큼 대기한다")
+    void waitsWithWatchdog() throws InterruptedException {
+        // given
+        when(lock.tryLock(3000, TimeUnit.MILLISECONDS)).thenReturn(true);
+        RedissonLockAdapter adapter = new RedissonLockAdapter(
+                redissonClient,
+                LockPolicy.of(Duration.ofSeconds(3), Duration.ofSeconds(5), true)
+        );
+
+        // when
+        adapter.lock("PRODUCT_LOCK:1");
+
+        // then
+        verify(lock).tryLock(3000, TimeUnit.MILLISECONDS);
+        verify(lock, never()).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
+    }
+}
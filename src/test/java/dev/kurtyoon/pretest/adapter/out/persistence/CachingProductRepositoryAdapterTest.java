@@ -0,0 +1,232 @@
+package dev.kurtyoon.pretest.adapter.out.persistence;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import dev.kurtyoon.pretest.adapter.out.cache.LocalProductCacheInvalidationBus;
+import dev.kurtyoon.pretest.adapter.out.cache.ProductCacheInvalidationBus;
+import dev.kurtyoon.pretest.adapter.out.persistence.CachingProductRepositoryAdapter.LoadTimeExpiry;
+import dev.kurtyoon.pretest.application.port.out.ProductRepositoryPort;
+import dev.kurtyoon.pretest.domain.Product;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CachingProductRepositoryAdapterTest {
+
+    private TestProductRepositoryPort database;
+    private CachingProductRepositoryAdapter nodeA;
+    private CachingProductRepositoryAdapter nodeB;
+
+    @BeforeEach
+    void setUp() {
+        database = new TestProductRepositoryPort();
+        database.saveAllProducts(List.of(createProduct(1L, 10, 1000)));
+
+        // 같은 DB 와 같은 무효화 채널을 공유하는 두 노드 (재고 재검증 없이 캐시만으로 응답)
+        LocalProductCacheInvalidationBus busA = new LocalProductCacheInvalidationBus();
+        nodeA = createNode(busA);
+        nodeB = createNode(busA.join());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 저장한 상품은 캐시에서 무효화되어 새 값으로 조회된다")
+    void productSavedOnOtherNodeIsInvalidated() {
+        // given
+        assertEquals(10, nodeA.findById(1L).getQuantity());
+        assertEquals(10, nodeB.findById(1L).getQuantity());
+
+        // when
+        nodeA.saveAllProducts(List.of(createProduct(1L, 7, 1200)));
+
+        // then
+        Product product = nodeB.findById(1L);
+        assertEquals(7, product.getQuantity());
+        assertEquals(1200, product.getPrice());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 저장한 상품은 커밋 후에 다른 노드로 무효화가 전달된다")
+    void invalidationIsPublishedAfterCommit() {
+        // given
+        nodeB.findById(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        nodeA.saveAllProducts(List.of(createProduct(1L, 5, 1000)));
+
+        // then
+        assertEquals(10, nodeB.findById(1L).getQuantity());
+
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        assertEquals(5, nodeB.findById(1L).getQuantity());
+    }
+
+    @Test
+    @DisplayName("롤백된 저장은 다른 노드로 무효화를 전달하지 않는다")
+    void invalidationIsNotPublishedOnRollback() {
+        // given
+        nodeB.findById(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        nodeA.saveAllProducts(List.of(createProduct(1L, 5, 1000)));
+        database.saveAllProducts(List.of(createProduct(1L, 10, 1000)));
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // then
+        assertEquals(10, nodeB.findById(1L).getQuantity());
+        assertEquals(1, database.getFindCount(1L));
+    }
+
+    @Test
+    @DisplayName("저장한 상품은 재고만 캐시에 반영되고 이름 / 가격 / 수정 시각은 DB 에서 읽은 값을 유지한다")
+    void savedProductUpdatesOnlyCachedQuantity() {
+        // given
+        Product loaded = nodeA.findById(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when - 주문 항목으로 만든 스냅샷 Product (생성 / 수정 시각 없음) 저장
+        nodeA.saveAllProducts(List.of(Product.create(1L, "스냅샷", 4, 900, null, null)));
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        // then
+        Product product = nodeA.findById(1L);
+        assertEquals(4, product.getQuantity());
+        assertEquals(loaded.getName(), product.getName());
+        assertEquals(loaded.getPrice(), product.getPrice());
+        assertEquals(loaded.getCreatedAt(), product.getCreatedAt());
+        assertEquals(loaded.getUpdatedAt(), product.getUpdatedAt());
+        assertEquals(1, database.getFindCount(1L));
+    }
+
+    @Test
+    @DisplayName("캐시에 없던 상품을 저장하면 캐시에 넣지 않고 다음 조회에서 DB 를 읽는다")
+    void savedProductIsNotCachedWithoutLoad() {
+        // when
+        nodeA.saveAllProducts(List.of(Product.create(1L, "스냅샷", 4, 900, null, null)));
+
+        // then
+        nodeA.findById(1L);
+        assertEquals(1, database.getFindCount(1L));
+    }
+
+    @Test
+    @DisplayName("재고 저장 / 재고 재조회로 항목이 갱신되어도 DB 에서 읽은 시각부터 ttl 이 지나면 상품 정보를 다시 읽는다")
+    void quantityUpdatesDoNotExtendExpiry() {
+        // given - 재고 재검증을 켠 노드, ttl 60초
+        AtomicLong nanos = new AtomicLong();
+        Ticker ticker = nanos::get;
+        CachingProductRepositoryAdapter node = new CachingProductRepositoryAdapter(
+                database,
+                Caffeine.newBuilder()
+                        .expireAfter(new LoadTimeExpiry(Duration.ofSeconds(60)))
+                        .ticker(ticker)
+                        .executor(Runnable::run)
+                        .build(),
+                true,
+                new LocalProductCacheInvalidationBus(),
+                ticker
+        );
+
+        node.findById(1L);
+
+        // 다른 경로로 가격과 재고가 바뀜
+        database.saveAllProducts(List.of(createProduct(1L, 9, 1500)));
+
+        // when - ttl 안에서 바뀐 재고를 읽고, 재고를 저장
+        nanos.addAndGet(Duration.ofSeconds(40).toNanos());
+        Product beforeWrite = node.findById(1L);
+
+        nanos.addAndGet(Duration.ofSeconds(10).toNanos());
+        node.saveAllProducts(List.of(createProduct(1L, 8, 1500)));
+        Product afterWrite = node.findById(1L);
+
+        nanos.addAndGet(Duration.ofSeconds(15).toNanos());
+        Product afterTtl = node.findById(1L);
+
+        // then - ttl 안에서는 이전 가격, 처음 읽은 시각부터 ttl 이 지나면 새 가격
+        assertEquals(9, beforeWrite.getQuantity());
+        assertEquals(1000, beforeWrite.getPrice());
+        assertEquals(8, afterWrite.getQuantity());
+        assertEquals(1000, afterWrite.getPrice());
+        assertEquals(1500, afterTtl.getPrice());
+    }
+
+    private CachingProductRepositoryAdapter createNode(ProductCacheInvalidationBus invalidationBus) {
+        return new CachingProductRepositoryAdapter(
+                database,
+                Caffeine.newBuilder().build(),
+                false,
+                invalidationBus,
+                Ticker.systemTicker()
+        );
+    }
+
+    private void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizationList = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizationList.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private Product createProduct(Long id, int quantity, int price) {
+        LocalDateTime now = LocalDateTime.now();
+        return Product.create(id, "상품" + id, quantity, price, now, now);
+    }
+
+    static class TestProductRepositoryPort implements ProductRepositoryPort {
+        private final Map<Long, Product> products = new ConcurrentHashMap<>();
+        private final Map<Long, Integer> findCounts = new ConcurrentHashMap<>();
+
+        @Override
+        public Product findById(Long id) {
+            findCounts.merge(id, 1, Integer::sum);
+            return products.get(id);
+        }
+
+        @Override
+        public List<Product> findAllByIdList(List<Long> idList) {
+            return idList.stream()
+                    .map(this::findById)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public Map<Long, Integer> findQuantityMapByIdList(List<Long> idList) {
+            return findAllByIdList(idList).stream()
+                    .collect(Collectors.toMap(Product::getId, Product::getQuantity));
+        }
+
+        @Override
+        public void saveAllProducts(List<Product> productList) {
+            for (Product product : productList) {
+                products.put(product.getId(), product);
+            }
+        }
+
+        public int getFindCount(Long id) {
+            return findCounts.getOrDefault(id, 0);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package dev.kurtyoon.pretest.adapter.out.persistence;
+
+import dev.kurtyoon.pretest.domain.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({ProductRepositoryAdapter.class, ProductStockMigration.class})
+class ProductRepositoryAdapterTest {
+
+    @Autowired
+    private ProductRepositoryAdapter productRepositoryAdapter;
+
+    @Autowired
+    private ProductStockMigration productStockMigration;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        insertProduct(1L, "상품1", 1000);
+        insertProduct(2L, "상품2", 2000);
+        insertProduct(3L, "재고 없는 상품", 3000);
+
+        insertStock(1L, 7);
+        insertStock(2L, 0);
+    }
+
+    @Test
+    @DisplayName("상품 정보는 products 에서, 재고는 product_stock 에서 읽어 합친다")
+    void mergesCatalogAndStock() {
+        // when
+        List<Product> productList = productRepositoryAdapter.findAllByIdList(List.of(2L, 1L, 3L));
+
+        // then - 재고 행이 없는 상품은 조회되지 않음
+        assertThat(productList).hasSize(2);
+
+        Product product1 = productList.stream().filter(product -> product.getId() == 1L).findFirst().orElseThrow();
+        assertThat(product1.getName()).isEqualTo("상품1");
+        assertThat(product1.getPrice()).isEqualTo(1000);
+        assertThat(product1.getQuantity()).isEqualTo(7);
+
+        assertThat(productRepositoryAdapter.findQuantityMapByIdList(List.of(1L, 2L, 3L)))
+                .isEqualTo(Map.of(1L, 7, 2L, 0));
+    }
+
+    @Test
+    @DisplayName("저장한 재고는 product_stock 에만 반영되고 다시 조회된다")
+    void savesStockOnly() {
+        // given
+        Product product = productRepositoryAdapter.findById(1L);
+        product.reduceStock(3);
+
+        // when
+        productRepositoryAdapter.saveAllProducts(List.of(product));
+
+        // then
+        assertThat(productRepositoryAdapter.findById(1L).getQuantity()).isEqualTo(4);
+        assertThat(jdbcTemplate.queryForObject("SELECT version FROM product_stock WHERE product_id = 1", Long.class))
+                .isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("products.quantity 가 남아 있으면 재고 행이 없는 상품의 재고만 product_stock 으로 옮긴다")
+    void migratesLegacyQuantity() {
+        // given - 재고 분리 이전 스키마
+        jdbcTemplate.execute("ALTER TABLE products ADD COLUMN quantity INT");
+
+        try {
+            jdbcTemplate.update("UPDATE products SET quantity = 100");
+            jdbcTemplate.update("UPDATE products SET quantity = 5 WHERE id = 3");
+
+            // when
+            int migratedCount = productStockMigration.migrate();
+
+            // then - 이미 옮긴 재고(상품 1, 2)는 덮어쓰지 않음
+            assertThat(migratedCount).isEqualTo(1);
+            assertThat(productRepositoryAdapter.findQuantityMapByIdList(List.of(1L, 2L, 3L)))
+                    .isEqualTo(Map.of(1L, 7, 2L, 0, 3L, 5));
+            assertThat(productStockMigration.migrate()).isZero();
+        } finally {
+            // DDL 은 테스트 트랜잭션을 커밋하므로 직접 정리
+            jdbcTemplate.update("DELETE FROM product_stock");
+            jdbcTemplate.update("DELETE FROM products");
+            jdbcTemplate.execute("ALTER TABLE products DROP COLUMN quantity");
+        }
+    }
+
+    @Test
+    @DisplayName("products.quantity 가 없으면 아무것도 옮기지 않는다")
+    void skipsWithoutLegacyQuantity() {
+        assertThat(productStockMigration.migrate()).isZero();
+        assertThat(productRepositoryAdapter.findAllByIdList(List.of(3L))).isEmpty();
+    }
+
+    private void insertProduct(Long id, String name, int price) {
+        jdbcTemplate.update(
+                "INSERT INTO products (id, name, price, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+                id, name, price, LocalDateTime.now(), LocalDateTime.now()
+        );
+    }
+
+    private void insertStock(Long productId, int quantity) {
+        jdbcTemplate.update(
+                "INSERT INTO product_stock (product_id, quantity, version, updated_at) VALUES (?, ?, 0, ?)",
+                productId, quantity, LocalDateTime.now()
+        );
+    }
+}
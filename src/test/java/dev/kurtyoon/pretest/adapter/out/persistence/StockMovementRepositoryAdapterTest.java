@@ -0,0 +1,140 @@
+package dev.kurtyoon.pretest.adapter.out.persistence;
+
+import dev.kurtyoon.pretest.domain.StockMovement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 압축은 자체 트랜잭션으로 커밋 / 롤백되어야 하므로 테스트 트랜잭션 없이 실행하고 직접 정리
+ */
+@DataJpaTest
+@Import(StockMovementRepositoryAdapter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StockMovementRepositoryAdapterTest {
+
+    private static final LocalDateTime THRESHOLD = LocalDateTime.of(2026, 1, 2, 0, 0);
+
+    @Autowired
+    private StockMovementRepositoryAdapter stockMovementRepositoryAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM stock_movements");
+        jdbcTemplate.update("DELETE FROM stock_snapshots");
+    }
+
+    @Test
+    @DisplayName("압축 전후로 상품 별 순 변동량(스냅샷 + 남은 이력)이 같다")
+    void compactionPreservesNetDelta() {
+        // given - 기준 시각 이전 / 이후 이력이 섞여 있음
+        stockMovementRepositoryAdapter.appendAll(List.of(
+                StockMovement.create(1L, -3, 10L, THRESHOLD.minusHours(5)),
+                StockMovement.create(1L, -2, 11L, THRESHOLD.minusHours(1)),
+                StockMovement.create(1L, 4, null, THRESHOLD.minusMinutes(1)),
+                StockMovement.create(1L, -1, 12L, THRESHOLD.plusMinutes(1)),
+                StockMovement.create(2L, -7, 13L, THRESHOLD.minusHours(2)),
+                StockMovement.create(3L, -5, 14L, THRESHOLD.plusHours(1))
+        ));
+
+        Map<Long, Long> netDeltaBefore = findNetDeltaMap();
+
+        // when - 스냅샷 생성 후, 기존 스냅샷에 합산
+        int firstCompacted = stockMovementRepositoryAdapter.compactBefore(THRESHOLD);
+
+        stockMovementRepositoryAdapter.appendAll(List.of(
+                StockMovement.create(1L, -6, 15L, THRESHOLD.minusMinutes(30))
+        ));
+        Map<Long, Long> netDeltaBeforeSecond = findNetDeltaMap();
+
+        int secondCompacted = stockMovementRepositoryAdapter.compactBefore(THRESHOLD);
+
+        // then
+        assertThat(firstCompacted).isEqualTo(4);
+        assertThat(secondCompacted).isEqualTo(1);
+
+        assertThat(netDeltaBefore).isEqualTo(Map.of(1L, -2L, 2L, -7L, 3L, -5L));
+        assertThat(netDeltaBeforeSecond).isEqualTo(Map.of(1L, -8L, 2L, -7L, 3L, -5L));
+        assertThat(findNetDeltaMap()).isEqualTo(netDeltaBeforeSecond);
+
+        // 기준 시각 이후 이력은 남아 있음
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM stock_movements", Long.class)).isEqualTo(2L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT movement_count FROM stock_snapshots WHERE product_id = 1", Long.class)).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("집계 이후 기준 시각 이전 이력이 추가되어 삭제 건수가 다르면 스냅샷까지 롤백한다")
+    void rollsBackWhenDeletedCountDiffers() {
+        // given - 삭제 직전에 기준 시각 이전 이력이 하나 더 들어오는 상황
+        stockMovementRepositoryAdapter.appendAll(List.of(
+                StockMovement.create(1L, -3, 10L, THRESHOLD.minusHours(1)),
+                StockMovement.create(2L, -2, 11L, THRESHOLD.minusHours(1))
+        ));
+
+        JdbcTemplate racingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource()) {
+            @Override
+            public int update(String sql, Object... args) {
+                if (sql.startsWith("DELETE FROM stock_movements")) {
+                    super.update(
+                            "INSERT INTO stock_movements (id, product_id, delta, order_id, occurred_at) VALUES (?, ?, ?, ?, ?)",
+                            999L, 1L, -1, 12L, THRESHOLD.minusMinutes(1)
+                    );
+                }
+
+                return super.update(sql, args);
+            }
+        };
+
+        StockMovementRepositoryAdapter racingAdapter = new StockMovementRepositoryAdapter(racingJdbcTemplate, 1000);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> transactionTemplate.execute(status -> racingAdapter.compactBefore(THRESHOLD)));
+
+        // then - 스냅샷, 삭제, 끼어든 이력까지 모두 롤백
+        assertThat(exception.getMessage()).contains("aggregated = 2", "deleted = 3");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM stock_snapshots", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM stock_movements", Long.class)).isEqualTo(2L);
+        assertThat(findNetDeltaMap()).isEqualTo(Map.of(1L, -3L, 2L, -2L));
+    }
+
+    /**
+     * 상품 별 스냅샷 net_delta + 남은 이력 delta 합계
+     */
+    private Map<Long, Long> findNetDeltaMap() {
+        Map<Long, Long> netDeltaMap = new HashMap<>();
+
+        jdbcTemplate.query("SELECT product_id, net_delta FROM stock_snapshots", resultSet -> {
+            netDeltaMap.merge(resultSet.getLong("product_id"), resultSet.getLong("net_delta"), Long::sum);
+        });
+        jdbcTemplate.query("SELECT product_id, delta FROM stock_movements", resultSet -> {
+            netDeltaMap.merge(resultSet.getLong("product_id"), resultSet.getLong("delta"), Long::sum);
+        });
+
+        return netDeltaMap;
+    }
+}
@@ -0,0 +1,399 @@
+package dev.kurtyoon.pretest.application.service;
+
+import dev.kurtyoon.pretest.application.dto.request.OrderCommand;
+import dev.kurtyoon.pretest.application.dto.request.OrderItemCommand;
+import dev.kurtyoon.pretest.application.dto.response.SingleOrderResult;
+import dev.kurtyoon.pretest.application.port.out.LockPort;
+import dev.kurtyoon.pretest.application.port.out.OrderRepositoryPort;
+import dev.kurtyoon.pretest.application.port.out.ProductRepositoryPort;
+import dev.kurtyoon.pretest.application.port.out.StockMovementPort;
+import dev.kurtyoon.pretest.application.port.out.TransactionPort;
+import dev.kurtyoon.pretest.application.service.support.ProductAvailabilityRegistry;
+import dev.kurtyoon.pretest.core.exception.CommonException;
+import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
+import dev.kurtyoon.pretest.domain.Order;
+import dev.kurtyoon.pretest.domain.Product;
+import dev.kurtyoon.pretest.domain.StockMovement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BatchingCreateSingleOrderServiceTest {
+
+    private TestLockPort lockPort;
+    private TestOrderRepositoryPort orderRepositoryPort;
+    private TestProductRepositoryPort productRepositoryPort;
+    private TestStockMovementPort stockMovementPort;
+
+    @BeforeEach
+    void setUp() {
+        lockPort = new TestLockPort();
+        orderRepositoryPort = new TestOrderRepositoryPort();
+        productRepositoryPort = new TestProductRepositoryPort();
+        stockMovementPort = new TestStockMovementPort();
+
+        productRepositoryPort.saveProduct(Product.create(1L, "상품1", 30, 1000, LocalDateTime.now(), LocalDateTime.now()));
+        productRepositoryPort.saveProduct(Product.create(2L, "상품2", 5, 2000, LocalDateTime.now(), LocalDateTime.now()));
+    }
+
+    @Test
+    @DisplayName("동시성 테스트 - 동일 상품 주문은 묶음으로 Lock 을 한 번씩 획득하여 처리")
+    void concurrentOrdersForSameProductAreBatched() throws InterruptedException {
+
+        // Given
+        BatchingCreateSingleOrderService service = createService(Duration.ofMillis(20), 64);
+
+        int threadCount = 40;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+        Map<ErrorCode, AtomicInteger> failCountMap = new ConcurrentHashMap<>();
+
+        OrderCommand command = new OrderCommand("고객", "서울시",
+                List.of(new OrderItemCommand(1L, "상품1", 1)));
+
+        // When
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    service.execute(command);
+                    successCount.incrementAndGet();
+                } catch (CommonException e) {
+                    failCountMap.computeIfAbsent(e.getErrorCode(), k -> new AtomicInteger()).incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        latch.await();
+        executorService.shutdown();
+
+        // Then
+        assertThat(successCount.get()).isEqualTo(30);
+        assertThat(failCountMap.get(ErrorCode.OUT_OF_STOCK).get()).isEqualTo(10);
+        assertThat(productRepositoryPort.findById(1L).getQuantity()).isEqualTo(0);
+        assertThat(orderRepositoryPort.getSavedOrders()).hasSize(30);
+        assertThat(stockMovementPort.getNetDelta(1L)).isEqualTo(-30);
+
+        // 주문 수보다 적은 횟수로 Lock 획득 / 저장
+        assertThat(lockPort.getLockCount("PRODUCT_LOCK:1")).isLessThan(threadCount);
+        assertThat(lockPort.getUnlockCount("PRODUCT_LOCK:1")).isEqualTo(lockPort.getLockCount("PRODUCT_LOCK:1"));
+        assertThat(orderRepositoryPort.getSaveCount()).isLessThan(30);
+    }
+
+    @Test
+    @DisplayName("묶음 안의 실패는 해당 주문에만 전달되고 나머지는 성공")
+    void failureIsDeliveredOnlyToFailedOrder() throws Exception {
+
+        // Given - 두 주문이 모이면 바로 처리 (가장 작은 상품 ID 가 1 로 같음)
+        BatchingCreateSingleOrderService service = createService(Duration.ofSeconds(5), 2);
+
+        OrderCommand successCommand = new OrderCommand("고객1", "서울시",
+                List.of(new OrderItemCommand(1L, "상품1", 2)));
+        OrderCommand failCommand = new OrderCommand("고객2", "부산시",
+                List.of(
+                        new OrderItemCommand(1L, "상품1", 1),
+                        new OrderItemCommand(2L, "상품2", 6)
+                ));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        // When
+        Future<SingleOrderResult> successFuture = executorService.submit(() -> service.execute(successCommand));
+        Future<SingleOrderResult> failFuture = executorService.submit(() -> service.execute(failCommand));
+
+        // Then
+        assertThat(successFuture.get(3, TimeUnit.SECONDS).getOrderId()).isNotNull();
+
+        ExecutionException exception = assertThrows(
+                ExecutionException.class, () -> failFuture.get(3, TimeUnit.SECONDS));
+        assertThat(((CommonException) exception.getCause()).getErrorCode()).isEqualTo(ErrorCode.OUT_OF_STOCK);
+
+        executorService.shutdown();
+
+        assertThat(productRepositoryPort.findById(1L).getQuantity()).isEqualTo(28);
+        assertThat(productRepositoryPort.findById(2L).getQuantity()).isEqualTo(5);
+        assertThat(lockPort.getLockCount("PRODUCT_LOCK:1")).isEqualTo(1);
+        assertThat(orderRepositoryPort.getSaveCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("묶음 저장 실패 시 모든 주문이 실패하고 재고 복구")
+    void saveFailureIsDeliveredToAllOrders() throws Exception {
+
+        // Given
+        BatchingCreateSingleOrderService service = createService(Duration.ofSeconds(5), 2);
+        orderRepositoryPort.failOnSave();
+
+        OrderCommand command = new OrderCommand("고객1", "서울시",
+                List.of(new OrderItemCommand(1L, "상품1", 1)));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        // When
+        List<Future<SingleOrderResult>> futureList = List.of(
+                executorService.submit(() -> service.execute(command)),
+                executorService.submit(() -> service.execute(command))
+        );
+
+        // Then
+        for (Future<SingleOrderResult> future : futureList) {
+            ExecutionException exception = assertThrows(
+                    ExecutionException.class, () -> future.get(3, TimeUnit.SECONDS));
+            assertThat(exception.getCause()).hasMessage("DB 저장 실패");
+        }
+
+        executorService.shutdown();
+
+        assertThat(productRepositoryPort.findById(1L).getQuantity()).isEqualTo(30);
+        assertThat(lockPort.getUnlockCount("PRODUCT_LOCK:1")).isEqualTo(lockPort.getLockCount("PRODUCT_LOCK:1"));
+    }
+
+    @Test
+    @DisplayName("커밋 이후 단계가 실패해도 저장된 주문은 성공 결과를 받는다")
+    void savedOrdersSucceedWhenPostCommitStepFails() throws Exception {
+
+        // Given - 커밋 후 품절 상품 갱신이 실패
+        ProductAvailabilityRegistry failingRegistry = new ProductAvailabilityRegistry(true, Duration.ofSeconds(2), 1000) {
+            @Override
+            public void update(Collection<Product> productList) {
+                throw new IllegalStateException("품절 상품 갱신 실패");
+            }
+        };
+        BatchingCreateSingleOrderService service = createService(Duration.ofSeconds(5), 2, failingRegistry);
+
+        OrderCommand command = new OrderCommand("고객1", "서울시",
+                List.of(new OrderItemCommand(1L, "상품1", 1)));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        // When
+        List<Future<SingleOrderResult>> futureList = List.of(
+                executorService.submit(() -> service.execute(command)),
+                executorService.submit(() -> service.execute(command))
+        );
+
+        // Then
+        for (Future<SingleOrderResult> future : futureList) {
+            assertThat(future.get(3, TimeUnit.SECONDS).getOrderId()).isNotNull();
+        }
+
+        executorService.shutdown();
+
+        assertThat(orderRepositoryPort.getSavedOrders()).hasSize(2);
+        assertThat(productRepositoryPort.findById(1L).getQuantity()).isEqualTo(28);
+        assertThat(lockPort.getUnlockCount("PRODUCT_LOCK:1")).isEqualTo(lockPort.getLockCount("PRODUCT_LOCK:1"));
+    }
+
+    private BatchingCreateSingleOrderService createService(Duration window, int maxSize) {
+        return createService(window, maxSize, new ProductAvailabilityRegistry(false, Duration.ofSeconds(2), 1000));
+    }
+
+    private BatchingCreateSingleOrderService createService(
+            Duration window,
+            int maxSize,
+            ProductAvailabilityRegistry productAvailabilityRegistry
+    ) {
+        return new BatchingCreateSingleOrderService(
+                lockPort,
+                orderRepositoryPort,
+                productRepositoryPort,
+                new TestTransactionPort(productRepositoryPort),
+                stockMovementPort,
+                productAvailabilityRegistry,
+                window,
+                maxSize
+        );
+    }
+
+    static class TestLockPort implements LockPort {
+        private final Map<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+        private final Map<String, AtomicInteger> lockCounts = new ConcurrentHashMap<>();
+        private final Map<String, AtomicInteger> unlockCounts = new ConcurrentHashMap<>();
+
+        @Override
+        public void lock(String key) {
+            locks.computeIfAbsent(key, k -> new ReentrantLock()).lock();
+            lockCounts.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+        }
+
+        @Override
+        public void unlock(String key) {
+            ReentrantLock lock = locks.get(key);
+            if (lock != null && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+                unlockCounts.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+            }
+        }
+
+        public int getLockCount(String key) {
+            return lockCounts.getOrDefault(key, new AtomicInteger()).get();
+        }
+
+        public int getUnlockCount(String key) {
+            return unlockCounts.getOrDefault(key, new AtomicInteger()).get();
+        }
+    }
+
+    static class TestOrderRepositoryPort implements OrderRepositoryPort {
+        private final List<Order> orders = new CopyOnWriteArrayList<>();
+        private final AtomicLong orderIdGenerator = new AtomicLong(1);
+        private final AtomicInteger saveCount = new AtomicInteger(0);
+        private volatile boolean failOnSave = false;
+
+        @Override
+        public Order saveOrder(Order order) {
+            return saveAllOrder(List.of(order)).get(0);
+        }
+
+        @Override
+        public List<Order> saveAllOrder(List<Order> orderList) {
+            if (failOnSave) {
+                throw new RuntimeException("DB 저장 실패");
+            }
+
+            saveCount.incrementAndGet();
+
+            List<Order> savedOrders = new ArrayList<>();
+            for (Order order : orderList) {
+                Order savedOrder = Order.create(
+                        orderIdGenerator.getAndIncrement(),
+                        order.getCustomerName(),
+                        order.getCustomerAddress(),
+                        order.getItems()
+                );
+                orders.add(savedOrder);
+                savedOrders.add(savedOrder);
+            }
+            return savedOrders;
+        }
+
+        public void failOnSave() {
+            this.failOnSave = true;
+        }
+
+        public int getSaveCount() {
+            return saveCount.get();
+        }
+
+        public List<Order> getSavedOrders() {
+            return Collections.unmodifiableList(orders);
+        }
+    }
+
+    static class TestProductRepositoryPort implements ProductRepositoryPort {
+        private final Map<Long, Product> products = new ConcurrentHashMap<>();
+
+        @Override
+        public Product findById(Long id) {
+            Product original = products.get(id);
+            if (original == null) return null;
+
+            return Product.create(
+                    original.getId(),
+                    original.getName(),
+                    original.getQuantity(),
+                    original.getPrice(),
+                    original.getCreatedAt(),
+                    original.getUpdatedAt()
+            );
+        }
+
+        @Override
+        public List<Product> findAllByIdList(List<Long> idList) {
+            return idList.stream()
+                    .map(this::findById)
+                    .filter(Objects::nonNull)
+                    .toList();
+        }
+
+        @Override
+        public Map<Long, Integer> findQuantityMapByIdList(List<Long> idList) {
+            return findAllByIdList(idList).stream()
+                    .collect(Collectors.toMap(Product::getId, Product::getQuantity));
+        }
+
+        @Override
+        public void saveAllProducts(List<Product> productList) {
+            productList.forEach(this::saveProduct);
+        }
+
+        public void saveProduct(Product product) {
+            products.put(product.getId(), product);
+        }
+
+        public synchronized Map<Long, Product> snapshot() {
+            return new HashMap<>(products);
+        }
+
+        public synchronized void restore(Map<Long, Product> snapshot) {
+            products.clear();
+            products.putAll(snapshot);
+        }
+    }
+
+    /**
+     * 작업 중 예외가 발생하면 상품 저장소를 작업 전 상태로 되돌려 DB 롤백을 흉내냄
+     */
+    static class TestTransactionPort implements TransactionPort {
+        private final TestProductRepositoryPort productRepositoryPort;
+
+        TestTransactionPort(TestProductRepositoryPort productRepositoryPort) {
+            this.productRepositoryPort = productRepositoryPort;
+        }
+
+        @Override
+        public <T> T execute(Supplier<T> action) {
+            Map<Long, Product> snapshot = productRepositoryPort.snapshot();
+
+            try {
+                return action.get();
+            } catch (RuntimeException e) {
+                productRepositoryPort.restore(snapshot);
+                throw e;
+            }
+        }
+    }
+
+    static class TestStockMovementPort implements StockMovementPort {
+        private final List<StockMovement> movements = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void appendAll(List<StockMovement> movementList) {
+            movements.addAll(movementList);
+        }
+
+        @Override
+        public int compactBefore(LocalDateTime threshold) {
+            return 0;
+        }
+
+        public int getNetDelta(Long productId) {
+            synchronized (movements) {
+                return movements.stream()
+                        .filter(movement -> movement.getProductId().equals(productId))
+                        .mapToInt(StockMovement::getDelta)
+                        .sum();
+            }
+        }
+    }
+}
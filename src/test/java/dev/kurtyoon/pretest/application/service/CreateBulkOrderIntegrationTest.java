@@ -7,12 +7,20 @@ import dev.kurtyoon.pretest.application.port.out.ExcelParserPort;
 import dev.kurtyoon.pretest.application.port.out.LockPort;
 import dev.kurtyoon.pretest.application.port.out.OrderRepositoryPort;
 import dev.kurtyoon.pretest.application.port.out.ProductRepositoryPort;
+import dev.kurtyoon.pretest.application.port.out.StockMovementPort;
+import dev.kurtyoon.pretest.application.port.out.TransactionPort;
+import dev.kurtyoon.pretest.application.service.support.ProductAvailabilityRegistry;
+import dev.kurtyoon.pretest.application.service.support.ProductCatalog;
+import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
 import dev.kurtyoon.pretest.domain.Order;
 import dev.kurtyoon.pretest.domain.Product;
+import dev.kurtyoon.pretest.domain.StockMovement;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.function.Supplier;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -34,6 +42,7 @@ public class CreateBulkOrderIntegrationTest {
     private TestLockPort lockPort;
     private TestOrderRepositoryPort orderRepositoryPort;
     private TestProductRepositoryPort productRepositoryPort;
+    private TestStockMovementPort stockMovementPort;
 
     @BeforeEach
     void setUp() {
@@ -41,12 +50,17 @@ public class CreateBulkOrderIntegrationTest {
         lockPort = new TestLockPort();
         orderRepositoryPort = new TestOrderRepositoryPort();
         productRepositoryPort = new TestProductRepositoryPort();
+        stockMovementPort = new TestStockMovementPort();
 
         createBulkOrderService = new CreateBulkOrderService(
                 excelParserPort,
                 productRepositoryPort,
                 orderRepositoryPort,
-                lockPort
+                lockPort,
+                new TestTransactionPort(),
+                stockMovementPort,
+                new ProductCatalog(Duration.ofMinutes(1), 1000),
+                new ProductAvailabilityRegistry(true, Duration.ofSeconds(2), 1000)
         );
 
         // 테스트용 상품 데이터 초기화
@@ -97,6 +111,11 @@ public class CreateBulkOrderIntegrationTest {
         assertThat(product2.getQuantity()).isEqualTo(3); // 5 - 1 - 1
         assertThat(product3.getQuantity()).isEqualTo(5); // 8 - 3
 
+        // 재고 변동 이력이 차감량과 일치하는지 검증
+        assertThat(stockMovementPort.getNetDelta(1L)).isEqualTo(-2);
+        assertThat(stockMovementPort.getNetDelta(2L)).isEqualTo(-2);
+        assertThat(stockMovementPort.getNetDelta(3L)).isEqualTo(-3);
+
         // 락이 획득되고 해제되었는지 검증
         assertThat(lockPort.getLockCount("PRODUCT_LOCK:1")).isEqualTo(1);
         assertThat(lockPort.getLockCount("PRODUCT_LOCK:2")).isEqualTo(1);
@@ -142,9 +161,9 @@ public class CreateBulkOrderIntegrationTest {
         executorService.shutdown();
 
         // Then
-        // 각 스레드가 락을 올바르게 획득하고 해제했는지 검증
-        assertThat(lockPort.getLockCount("PRODUCT_LOCK:1")).isEqualTo(threadCount);
-        assertThat(lockPort.getUnlockCount("PRODUCT_LOCK:1")).isEqualTo(threadCount);
+        // 각 스레드가 락을 올바르게 획득하고 해제했는지 검증 (품절 이후 시작한 스레드는 락 없이 거절될 수 있음)
+        assertThat(lockPort.getLockCount("PRODUCT_LOCK:1")).isBetween(2, threadCount);
+        assertThat(lockPort.getUnlockCount("PRODUCT_LOCK:1")).isEqualTo(lockPort.getLockCount("PRODUCT_LOCK:1"));
 
         // 재고가 정확히 차감되었는지 검증
         Product product = productRepositoryPort.findById(1L);
@@ -321,6 +340,38 @@ public class CreateBulkOrderIntegrationTest {
         assertThat(lockPort.getLockCount("PRODUCT_LOCK:3")).isEqualTo(lockPort.getUnlockCount("PRODUCT_LOCK:3"));
     }
 
+    @Test
+    @DisplayName("통합 테스트 - 품절된 상품 주문은 락 획득 없이 실패")
+    void soldOutProductOrderIsRejectedBeforeLock() {
+        // Given
+        byte[] soldOutExcelData = "sold-out".getBytes();
+        excelParserPort.setParseResult(soldOutExcelData, List.of(
+                new OrderCommand("고객1", "서울시", List.of(new OrderItemCommand(2L, "상품2", 5)))
+        ));
+        createBulkOrderService.execute(soldOutExcelData);
+
+        byte[] excelData = "after-sold-out".getBytes();
+        excelParserPort.setParseResult(excelData, List.of(
+                new OrderCommand("고객2", "부산시", List.of(new OrderItemCommand(2L, "상품2", 1))),
+                new OrderCommand("고객3", "대구시", List.of(new OrderItemCommand(3L, "상품3", 1)))
+        ));
+
+        // When
+        BulkOrderResult result = createBulkOrderService.execute(excelData);
+
+        // Then
+        assertThat(result.getSuccessOrders()).hasSize(1);
+        assertThat(result.getFailedOrders()).hasSize(1);
+        assertThat(result.getFailedOrders().get(0).getCustomerName()).isEqualTo("고객2");
+        assertThat(result.getFailedOrders().get(0).getReason()).isEqualTo(ErrorCode.OUT_OF_STOCK.getMessage());
+
+        // 품절 상품은 처음 주문에서만 락을 획득
+        assertThat(lockPort.getLockCount("PRODUCT_LOCK:2")).isEqualTo(1);
+        assertThat(lockPort.getLockCount("PRODUCT_LOCK:3")).isEqualTo(1);
+        assertThat(productRepositoryPort.findById(2L).getQuantity()).isEqualTo(0);
+        assertThat(productRepositoryPort.findById(3L).getQuantity()).isEqualTo(7);
+    }
+
     // 테스트용 구현체
     static class TestExcelParserPort implements ExcelParserPort {
         private final Map<String, List<OrderCommand>> parseResults = new HashMap<>();
@@ -411,6 +462,12 @@ public class CreateBulkOrderIntegrationTest {
                     .collect(Collectors.toList());
         }
 
+        @Override
+        public Map<Long, Integer> findQuantityMapByIdList(List<Long> idList) {
+            return findAllByIdList(idList).stream()
+                    .collect(Collectors.toMap(Product::getId, Product::getQuantity));
+        }
+
         @Override
         public void saveAllProducts(List<Product> productList) {
             for (Product product : productList) {
@@ -427,4 +484,34 @@ public class CreateBulkOrderIntegrationTest {
             products.put(product.getId(), product);
         }
     }
+
+    static class TestTransactionPort implements TransactionPort {
+        @Override
+        public <T> T execute(Supplier<T> action) {
+            return action.get();
+        }
+    }
+
+    static class TestStockMovementPort implements StockMovementPort {
+        private final List<StockMovement> movements = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void appendAll(List<StockMovement> movementList) {
+            movements.addAll(movementList);
+        }
+
+        @Override
+        public int compactBefore(LocalDateTime threshold) {
+            return 0;
+        }
+
+        public int getNetDelta(Long productId) {
+            synchronized (movements) {
+                return movements.stream()
+                        .filter(movement -> movement.getProductId().equals(productId))
+                        .mapToInt(StockMovement::getDelta)
+                        .sum();
+            }
+        }
+    }
 }
@@ -7,6 +7,10 @@ import dev.kurtyoon.pretest.application.port.out.ExcelParserPort;
 import dev.kurtyoon.pretest.application.port.out.LockPort;
 import dev.kurtyoon.pretest.application.port.out.OrderRepositoryPort;
 import dev.kurtyoon.pretest.application.port.out.ProductRepositoryPort;
+import dev.kurtyoon.pretest.application.port.out.StockMovementPort;
+import dev.kurtyoon.pretest.application.port.out.TransactionPort;
+import dev.kurtyoon.pretest.application.service.support.ProductAvailabilityRegistry;
+import dev.kurtyoon.pretest.application.service.support.ProductCatalog;
 import dev.kurtyoon.pretest.core.exception.CommonException;
 import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
 import dev.kurtyoon.pretest.domain.Order;
@@ -20,6 +24,8 @@ import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.function.Supplier;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -42,6 +48,9 @@ class CreateBulkOrderServiceTest {
     @Mock
     private ProductRepositoryPort productRepositoryPort;
 
+    @Mock
+    private StockMovementPort stockMovementPort;
+
     private CreateBulkOrderService createBulkOrderService;
 
     private byte[] mockExcelData;
@@ -52,7 +61,11 @@ class CreateBulkOrderServiceTest {
                 excelParserPort,
                 productRepositoryPort,
                 orderRepositoryPort,
-                lockPort
+                lockPort,
+                new TestTransactionPort(),
+                stockMovementPort,
+                new ProductCatalog(Duration.ofMinutes(1), 1000),
+                new ProductAvailabilityRegistry(true, Duration.ofSeconds(2), 1000)
         );
         mockExcelData = "test-excel-data".getBytes();
     }
@@ -557,4 +570,11 @@ class CreateBulkOrderServiceTest {
         // 각 스레드가 주문을 저장했는지 검증
         verify(orderRepositoryPort, times(2)).saveAllOrder(anyList());
     }
-}
\ No newline at end of file
+
+    static class TestTransactionPort implements TransactionPort {
+        @Override
+        public <T> T execute(Supplier<T> action) {
+            return action.get();
+        }
+    }
+}
@@ -5,15 +5,24 @@ import dev.kurtyoon.pretest.application.dto.request.OrderItemCommand;
 import dev.kurtyoon.pretest.application.port.out.LockPort;
 import dev.kurtyoon.pretest.application.port.out.OrderRepositoryPort;
 import dev.kurtyoon.pretest.application.port.out.ProductRepositoryPort;
+import dev.kurtyoon.pretest.application.port.out.StockMovementPort;
+import dev.kurtyoon.pretest.application.port.out.TransactionPort;
+import dev.kurtyoon.pretest.application.service.support.ProductAvailabilityRegistry;
+import dev.kurtyoon.pretest.application.service.support.ProductCatalog;
+import dev.kurtyoon.pretest.application.service.support.ShardedStockCounter;
 import dev.kurtyoon.pretest.core.exception.CommonException;
+import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
 import dev.kurtyoon.pretest.domain.Order;
 import dev.kurtyoon.pretest.domain.Product;
+import dev.kurtyoon.pretest.domain.StockMovement;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -24,6 +33,7 @@ import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class CreateSingleOrderIntegrationTest {
 
@@ -33,17 +43,26 @@ public class CreateSingleOrderIntegrationTest {
     private TestLockPort lockPort;
     private TestOrderRepositoryPort orderRepositoryPort;
     private TestProductRepositoryPort productRepositoryPort;
+    private TestStockMovementPort stockMovementPort;
+    private ProductCatalog productCatalog;
 
     @BeforeEach
     void setUp() {
         lockPort = new TestLockPort();
         orderRepositoryPort = new TestOrderRepositoryPort();
         productRepositoryPort = new TestProductRepositoryPort();
+        stockMovementPort = new TestStockMovementPort();
+        productCatalog = new ProductCatalog(Duration.ofMinutes(1), 1000);
 
         createSingleOrderService = new CreateSingleOrderService(
                 lockPort,
                 orderRepositoryPort,
-                productRepositoryPort
+                productRepositoryPort,
+                new TestTransactionPort(),
+                stockMovementPort,
+                productCatalog,
+                new ProductAvailabilityRegistry(true, Duration.ofSeconds(2), 1000),
+                new ShardedStockCounter(null, productRepositoryPort, new TestTransactionPort(), lockPort, false, List.of(), 8, 100, "random")
         );
 
         // 테스트용 상품 데이터 초기화
@@ -97,6 +116,9 @@ public class CreateSingleOrderIntegrationTest {
         Product product = productRepositoryPort.findById(1L);
         assertThat(product.getQuantity()).isEqualTo(0);
 
+        // 성공한 주문의 차감량만 재고 변동 이력에 남았는지 검증
+        assertThat(stockMovementPort.getNetDelta(1L)).isEqualTo(-10);
+
         // Lock 이 모두 해제되었는지 검증
         assertThat(lockPort.getActiveLocks()).isEmpty();
 
@@ -139,6 +161,39 @@ public class CreateSingleOrderIntegrationTest {
         assertThat(lockPort.getActiveLocks()).isEmpty();
     }
 
+    @Test
+    @DisplayName("통합 테스트 - 상품 정보 스냅샷은 첫 주문에서 채워지고 이후 주문에서 재사용")
+    void productCatalogIsPublishedAndReused() {
+
+        // Given
+        OrderCommand command = new OrderCommand("고객1", "서울시",
+                List.of(
+                        new OrderItemCommand(1L, "상품1", 1),
+                        new OrderItemCommand(2L, "상품2", 1)
+                ));
+
+        // When
+        createSingleOrderService.execute(command);
+        long versionAfterFirstOrder = productCatalog.getVersion();
+
+        createSingleOrderService.execute(command);
+
+        // Then
+        // 스냅샷에 상품 정보가 적재되었는지 검증
+        assertThat(productCatalog.findAll(List.of(1L, 2L))).hasSize(2);
+        assertThat(productCatalog.findAll(List.of(1L, 2L)).get(2L).getPrice()).isEqualTo(2000);
+
+        // 상품 정보가 바뀌지 않았으므로 두 번째 주문은 스냅샷을 교체하지 않아야 함
+        assertThat(versionAfterFirstOrder).isEqualTo(1L);
+        assertThat(productCatalog.getVersion()).isEqualTo(versionAfterFirstOrder);
+
+        // 두 주문 모두 스냅샷과 같은 이름 / 가격으로 생성되었는지 검증
+        List<Order> savedOrders = orderRepositoryPort.getSavedOrders();
+        assertThat(savedOrders).hasSize(2);
+        assertThat(savedOrders.get(1).getTotalPrice()).isEqualTo(savedOrders.get(0).getTotalPrice());
+        assertThat(savedOrders.get(1).getItems().get(0).getProductName()).isEqualTo("상품1");
+    }
+
     @Test
     @DisplayName("통합 테스트 - 재고 부족으로 주문 실패")
     void orderFailsDueToInsufficientStock() {
@@ -170,15 +225,51 @@ public class CreateSingleOrderIntegrationTest {
         }
     }
 
+    @Test
+    @DisplayName("통합 테스트 - 품절 / 존재하지 않는 상품 주문은 락 획득 없이 실패")
+    void unavailableProductOrderIsRejectedBeforeLock() {
+
+        // Given
+        createSingleOrderService.execute(new OrderCommand("고객1", "서울시",
+                List.of(new OrderItemCommand(2L, "상품2", 5))));
+
+        CommonException notFound = assertThrows(CommonException.class, () -> createSingleOrderService.execute(
+                new OrderCommand("고객2", "서울시", List.of(new OrderItemCommand(99L, "상품99", 1)))));
+        assertThat(notFound.getErrorCode()).isEqualTo(ErrorCode.NOT_FOUND_PRODUCT);
+
+        int soldOutLockCount = lockPort.getLockCount("PRODUCT_LOCK:2");
+        int notFoundLockCount = lockPort.getLockCount("PRODUCT_LOCK:99");
+
+        // When
+        CommonException outOfStock = assertThrows(CommonException.class, () -> createSingleOrderService.execute(
+                new OrderCommand("고객3", "부산시", List.of(
+                        new OrderItemCommand(1L, "상품1", 1),
+                        new OrderItemCommand(2L, "상품2", 1)
+                ))));
+        CommonException stillNotFound = assertThrows(CommonException.class, () -> createSingleOrderService.execute(
+                new OrderCommand("고객4", "부산시", List.of(new OrderItemCommand(99L, "상품99", 1)))));
+
+        // Then
+        assertThat(outOfStock.getErrorCode()).isEqualTo(ErrorCode.OUT_OF_STOCK);
+        assertThat(stillNotFound.getErrorCode()).isEqualTo(ErrorCode.NOT_FOUND_PRODUCT);
+
+        // 두 번째 실패부터는 락을 획득하지 않음
+        assertThat(lockPort.getLockCount("PRODUCT_LOCK:2")).isEqualTo(soldOutLockCount);
+        assertThat(lockPort.getLockCount("PRODUCT_LOCK:99")).isEqualTo(notFoundLockCount);
+        assertThat(productRepositoryPort.findById(1L).getQuantity()).isEqualTo(10);
+    }
+
     // 테스트를 위한 인메모리 구현체들
     static class TestLockPort implements LockPort {
         private final Map<String, ReentrantLock> locks = new ConcurrentHashMap<>();
         private final Set<String> activeLocks = ConcurrentHashMap.newKeySet();
+        private final Map<String, AtomicInteger> lockCounts = new ConcurrentHashMap<>();
 
         @Override
         public void lock(String key) {
             locks.computeIfAbsent(key, k -> new ReentrantLock()).lock();
             activeLocks.add(key);
+            lockCounts.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
         }
 
         @Override
@@ -193,6 +284,10 @@ public class CreateSingleOrderIntegrationTest {
         public Set<String> getActiveLocks() {
             return Collections.unmodifiableSet(activeLocks);
         }
+
+        public int getLockCount(String key) {
+            return lockCounts.getOrDefault(key, new AtomicInteger()).get();
+        }
     }
 
     static class TestOrderRepositoryPort implements OrderRepositoryPort {
@@ -236,6 +331,12 @@ public class CreateSingleOrderIntegrationTest {
                     .collect(Collectors.toList());
         }
 
+        @Override
+        public Map<Long, Integer> findQuantityMapByIdList(List<Long> idList) {
+            return findAllByIdList(idList).stream()
+                    .collect(Collectors.toMap(Product::getId, Product::getQuantity));
+        }
+
         @Override
         public void saveAllProducts(List<Product> productList) {
             for (Product product : productList) {
@@ -262,4 +363,34 @@ public class CreateSingleOrderIntegrationTest {
             products.put(product.getId(), product);
         }
     }
+
+    static class TestTransactionPort implements TransactionPort {
+        @Override
+        public <T> T execute(Supplier<T> action) {
+            return action.get();
+        }
+    }
+
+    static class TestStockMovementPort implements StockMovementPort {
+        private final List<StockMovement> movements = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void appendAll(List<StockMovement> movementList) {
+            movements.addAll(movementList);
+        }
+
+        @Override
+        public int compactBefore(LocalDateTime threshold) {
+            return 0;
+        }
+
+        public int getNetDelta(Long productId) {
+            synchronized (movements) {
+                return movements.stream()
+                        .filter(movement -> movement.getProductId().equals(productId))
+                        .mapToInt(StockMovement::getDelta)
+                        .sum();
+            }
+        }
+    }
 }
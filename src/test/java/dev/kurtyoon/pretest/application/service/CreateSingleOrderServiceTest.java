@@ -6,6 +6,11 @@ import dev.kurtyoon.pretest.application.dto.response.SingleOrderResult;
 import dev.kurtyoon.pretest.application.port.out.LockPort;
 import dev.kurtyoon.pretest.application.port.out.OrderRepositoryPort;
 import dev.kurtyoon.pretest.application.port.out.ProductRepositoryPort;
+import dev.kurtyoon.pretest.application.port.out.StockMovementPort;
+import dev.kurtyoon.pretest.application.port.out.TransactionPort;
+import dev.kurtyoon.pretest.application.service.support.ProductAvailabilityRegistry;
+import dev.kurtyoon.pretest.application.service.support.ProductCatalog;
+import dev.kurtyoon.pretest.application.service.support.ShardedStockCounter;
 import dev.kurtyoon.pretest.core.exception.CommonException;
 import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
 import dev.kurtyoon.pretest.domain.Order;
@@ -15,15 +20,20 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.function.Supplier;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -49,6 +59,9 @@ class CreateSingleOrderServiceTest {
     @Mock
     private ProductRepositoryPort productRepositoryPort;
 
+    @Mock
+    private StockMovementPort stockMovementPort;
+
     private CreateSingleOrderService createSingleOrderService;
 
     @BeforeEach
@@ -56,7 +69,12 @@ class CreateSingleOrderServiceTest {
         createSingleOrderService = new CreateSingleOrderService(
                 lockPort,
                 orderRepositoryPort,
-                productRepositoryPort
+                productRepositoryPort,
+                new TestTransactionPort(),
+                stockMovementPort,
+                new ProductCatalog(Duration.ofMinutes(1), 1000),
+                new ProductAvailabilityRegistry(true, Duration.ofSeconds(2), 1000),
+                new ShardedStockCounter(null, productRepositoryPort, new TestTransactionPort(), lockPort, false, List.of(), 8, 100, "random")
         );
     }
 
@@ -107,6 +125,44 @@ class CreateSingleOrderServiceTest {
         verify(productRepositoryPort).saveAllProducts(anyList());
     }
 
+    @Test
+    @DisplayName("상품 정보 스냅샷이 있으면 Lock 안에서는 재고만 조회")
+    void readOnlyStockUnderLockWhenCatalogHit() {
+
+        // Given
+        OrderCommand command = createTestOrderCommand("고객1", "서울시",
+                List.of(new OrderItemCommand(1L, "상품 1", 2)));
+
+        Product product1 = Product.create(1L, "상품 1", 10, 1000, LocalDateTime.now(), LocalDateTime.now());
+
+        when(productRepositoryPort.findAllByIdList(List.of(1L))).thenReturn(List.of(product1));
+        when(productRepositoryPort.findQuantityMapByIdList(List.of(1L))).thenReturn(Map.of(1L, 8));
+        when(orderRepositoryPort.saveOrder(any(Order.class))).thenAnswer(invocation -> {
+            Order order = invocation.getArgument(0);
+            return Order.create(1L, order.getCustomerName(), order.getCustomerAddress(), order.getItems());
+        });
+
+        // When - 첫 주문이 스냅샷을 채우고, 두 번째 주문은 스냅샷으로 생성
+        createSingleOrderService.execute(command);
+        createSingleOrderService.execute(command);
+
+        // Then
+        verify(productRepositoryPort, times(1)).findAllByIdList(anyList());
+        verify(productRepositoryPort, times(1)).findQuantityMapByIdList(List.of(1L));
+
+        // 두 번째 주문의 이름 / 가격은 스냅샷에서 가져옴
+        ArgumentCaptor<Order> orderCaptor = ArgumentCaptor.forClass(Order.class);
+        verify(orderRepositoryPort, times(2)).saveOrder(orderCaptor.capture());
+        assertThat(orderCaptor.getAllValues().get(1).getItems().get(0).getProductName()).isEqualTo("상품 1");
+        assertThat(orderCaptor.getAllValues().get(1).getTotalPrice()).isEqualTo(2000);
+
+        // 두 번째 주문은 조회한 재고(8)에서 차감하여 저장
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Product>> productCaptor = ArgumentCaptor.forClass(List.class);
+        verify(productRepositoryPort, times(2)).saveAllProducts(productCaptor.capture());
+        assertThat(productCaptor.getAllValues().get(1).get(0).getQuantity()).isEqualTo(6);
+    }
+
     @Test
     @DisplayName("주문 실패 - 중복 상품")
     void failWithDuplicatedProducts() {
@@ -184,8 +240,8 @@ class CreateSingleOrderServiceTest {
         verify(lockPort).unlock("PRODUCT_LOCK:2");
         verify(lockPort).unlock("PRODUCT_LOCK:1");
 
-        // 재고 복구 로직으로 인하여 상품 정보 저장은 한 번 호출되어야 함
-        verify(productRepositoryPort, times(1)).saveAllProducts(anyList());
+        // 차감된 재고가 없으므로 상품 정보는 저장되지 않아야 함
+        verify(productRepositoryPort, never()).saveAllProducts(anyList());
 
         // 주문은 저장되지 않아야 함
         verify(orderRepositoryPort, never()).saveOrder(any(Order.class));
@@ -450,8 +506,8 @@ class CreateSingleOrderServiceTest {
         verify(product1).updateQuantity(10);
         verify(product2).updateQuantity(5);
 
-        // 재고 차감 후와 복구 후 두 번 상품이 저장되었는지 검증
-        verify(productRepositoryPort, times(2)).saveAllProducts(anyList());
+        // 재고 저장은 한 번만 호출되고, DB 복구는 트랜잭션 롤백에 맡기므로 보상 저장은 없어야 함
+        verify(productRepositoryPort, times(1)).saveAllProducts(anyList());
 
         // 락이 해제되었는지 검증
         verify(lockPort).unlock("PRODUCT_LOCK:2");
@@ -566,7 +622,10 @@ class CreateSingleOrderServiceTest {
     void lockAcquisitionFailure() {
         // Given
         CreateSingleOrderService service = new CreateSingleOrderService(
-                lockPort, orderRepositoryPort, productRepositoryPort);
+                lockPort, orderRepositoryPort, productRepositoryPort, new TestTransactionPort(), stockMovementPort,
+                new ProductCatalog(Duration.ofMinutes(1), 1000),
+                new ProductAvailabilityRegistry(true, Duration.ofSeconds(2), 1000),
+                new ShardedStockCounter(null, productRepositoryPort, new TestTransactionPort(), lockPort, false, List.of(), 8, 100, "random"));
 
         OrderCommand command = new OrderCommand("고객", "서울시",
                 List.of(
@@ -629,6 +688,18 @@ class CreateSingleOrderServiceTest {
             return matched;
         }).when(productRepositoryPort).findAllByIdList(anyList());
 
+        // findQuantityMapByIdList Mock - 상품 정보 스냅샷으로 주문을 만든 뒤에는 재고만 조회
+        // (스레드 순서에 따라 스냅샷이 한 번도 쓰이지 않을 수 있으므로 lenient)
+        lenient().doAnswer((InvocationOnMock invocation) -> {
+            @SuppressWarnings("unchecked")
+            List<Long> ids = (List<Long>) invocation.getArgument(0);
+            Map<Long, Integer> quantityMap = new HashMap<>();
+            for (Product product : List.of(product1, product2, product3, product4, product5)) {
+                if (ids.contains(product.getId())) quantityMap.put(product.getId(), product.getQuantity());
+            }
+            return quantityMap;
+        }).when(productRepositoryPort).findQuantityMapByIdList(anyList());
+
         // saveOrder Mock - 주문 ID 자동 증가
         AtomicLong orderIdGen = new AtomicLong(1000);
         when(orderRepositoryPort.saveOrder(any(Order.class)))
@@ -730,7 +801,10 @@ class CreateSingleOrderServiceTest {
     void resourceLeakPreventionTest() {
         // Given
         CreateSingleOrderService service = new CreateSingleOrderService(
-                lockPort, orderRepositoryPort, productRepositoryPort);
+                lockPort, orderRepositoryPort, productRepositoryPort, new TestTransactionPort(), stockMovementPort,
+                new ProductCatalog(Duration.ofMinutes(1), 1000),
+                new ProductAvailabilityRegistry(true, Duration.ofSeconds(2), 1000),
+                new ShardedStockCounter(null, productRepositoryPort, new TestTransactionPort(), lockPort, false, List.of(), 8, 100, "random"));
 
         OrderCommand command = new OrderCommand("고객", "서울시",
                 List.of(
@@ -763,4 +837,10 @@ class CreateSingleOrderServiceTest {
         return new OrderCommand(customerName, address, items);
     }
 
-}
\ No newline at end of file
+    static class TestTransactionPort implements TransactionPort {
+        @Override
+        public <T> T execute(Supplier<T> action) {
+            return action.get();
+        }
+    }
+}
@@ -0,0 +1,428 @@
+package dev.kurtyoon.pretest.application.service;
+
+import dev.kurtyoon.pretest.application.dto.request.OrderCommand;
+import dev.kurtyoon.pretest.application.dto.request.OrderItemCommand;
+import dev.kurtyoon.pretest.application.port.out.LockPort;
+import dev.kurtyoon.pretest.application.port.out.OrderRepositoryPort;
+import dev.kurtyoon.pretest.application.port.out.ProductRepositoryPort;
+import dev.kurtyoon.pretest.application.port.out.ProductStockShardPort;
+import dev.kurtyoon.pretest.application.port.out.StockMovementPort;
+import dev.kurtyoon.pretest.application.port.out.TransactionPort;
+import dev.kurtyoon.pretest.application.service.support.ProductAvailabilityRegistry;
+import dev.kurtyoon.pretest.application.service.support.ProductCatalog;
+import dev.kurtyoon.pretest.application.service.support.ShardedStockCounter;
+import dev.kurtyoon.pretest.core.exception.CommonException;
+import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
+import dev.kurtyoon.pretest.domain.Order;
+import dev.kurtyoon.pretest.domain.Product;
+import dev.kurtyoon.pretest.domain.StockMovement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CreateSingleOrderShardedStockTest {
+
+    private static final int SHARD_COUNT = 4;
+    private static final int REFILL_SIZE = 10;
+
+    private TestLockPort lockPort;
+    private TestProductRepositoryPort productRepositoryPort;
+    private TestProductStockShardPort productStockShardPort;
+    private TestOrderRepositoryPort orderRepositoryPort;
+    private TestStockMovementPort stockMovementPort;
+
+    private CreateSingleOrderService createSingleOrderService;
+    private ReadProductStockService readProductStockService;
+
+    @BeforeEach
+    void setUp() {
+        lockPort = new TestLockPort();
+        productRepositoryPort = new TestProductRepositoryPort();
+        productStockShardPort = new TestProductStockShardPort(productRepositoryPort);
+        orderRepositoryPort = new TestOrderRepositoryPort();
+        stockMovementPort = new TestStockMovementPort();
+
+        TestTransactionPort transactionPort = new TestTransactionPort(productStockShardPort);
+
+        ShardedStockCounter shardedStockCounter = new ShardedStockCounter(
+                productStockShardPort,
+                productRepositoryPort,
+                transactionPort,
+                lockPort,
+                true,
+                List.of(1L),
+                SHARD_COUNT,
+                REFILL_SIZE,
+                "random"
+        );
+
+        createSingleOrderService = new CreateSingleOrderService(
+                lockPort,
+                orderRepositoryPort,
+                productRepositoryPort,
+                transactionPort,
+                stockMovementPort,
+                new ProductCatalog(Duration.ofMinutes(1), 1000),
+                new ProductAvailabilityRegistry(true, Duration.ofSeconds(2), 1000),
+                shardedStockCounter
+        );
+        readProductStockService = new ReadProductStockService(productStockShardPort);
+
+        // 1번 상품만 샤드 상품
+        productRepositoryPort.saveProduct(Product.create(1L, "인기상품", 30, 1000, LocalDateTime.now(), LocalDateTime.now()));
+        productRepositoryPort.saveProduct(Product.create(2L, "일반상품", 10, 2000, LocalDateTime.now(), LocalDateTime.now()));
+    }
+
+    @Test
+    @DisplayName("샤드 상품은 상품 Lock 없이 차감되고, 샤드가 빌 때만 Lock 을 잡고 공용 풀에서 채운다")
+    void shardedProductRefillsFromPoolOnlyWhenShardIsEmpty() {
+        // Given & When
+        for (int i = 0; i < 30; i++) {
+            createSingleOrderService.execute(createOrderCommand("고객" + i, 1L, 1));
+
+            if (i == 4) {
+                assertThat(readProductStockService.execute(1L).getQuantity()).isEqualTo(25);
+            }
+        }
+
+        CommonException exception = assertThrows(CommonException.class, () ->
+                createSingleOrderService.execute(createOrderCommand("고객", 1L, 1)));
+
+        // Then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.OUT_OF_STOCK);
+        assertThat(orderRepositoryPort.getSavedOrders()).hasSize(30);
+        assertThat(lockPort.getLockCount("PRODUCT_LOCK:1")).isEqualTo(30 / REFILL_SIZE);
+        assertThat(readProductStockService.execute(1L).getQuantity()).isZero();
+        assertThat(stockMovementPort.getNetDelta(1L)).isEqualTo(-30);
+    }
+
+    @Test
+    @DisplayName("선택한 샤드의 재고가 부족하면 다른 샤드에서 나누어 차감한다")
+    void stealsFromOtherShardsWhenChosenShardIsShort() {
+        // Given
+        productRepositoryPort.saveProduct(Product.create(1L, "인기상품", 0, 1000, LocalDateTime.now(), LocalDateTime.now()));
+        productStockShardPort.initialize(1L, SHARD_COUNT);
+        for (int shardIndex = 0; shardIndex < SHARD_COUNT; shardIndex++) {
+            productStockShardPort.add(1L, shardIndex, 1);
+        }
+        productStockShardPort.commit();
+
+        // When
+        createSingleOrderService.execute(new OrderCommand(
+                "고객",
+                "주소",
+                List.of(new OrderItemCommand(1L, "인기상품", 3), new OrderItemCommand(2L, "일반상품", 2))
+        ));
+
+        // Then
+        assertThat(lockPort.getLockCount("PRODUCT_LOCK:1")).isZero();
+        assertThat(lockPort.getLockCount("PRODUCT_LOCK:2")).isEqualTo(1);
+        assertThat(readProductStockService.execute(1L).getQuantity()).isEqualTo(1);
+        assertThat(readProductStockService.execute(2L).getQuantity()).isEqualTo(8);
+
+        // 선택한 샤드를 포함해 실패한 갱신까지 샤드 번호 오름차순으로 한 번씩만 시도 (샤드 행 Lock 순서 고정)
+        assertThat(productStockShardPort.getReducedShardIndexList()).hasSize(3);
+        assertThat(productStockShardPort.getAttemptedShardIndexList())
+                .isEqualTo(productStockShardPort.getReducedShardIndexList())
+                .isSorted()
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("선택한 샤드의 재고가 충분하면 그 샤드 행 하나만 갱신한다")
+    void reducesOnlyChosenShardWhenEnough() {
+        // Given
+        productRepositoryPort.saveProduct(Product.create(1L, "인기상품", 0, 1000, LocalDateTime.now(), LocalDateTime.now()));
+        productStockShardPort.initialize(1L, SHARD_COUNT);
+        for (int shardIndex = 0; shardIndex < SHARD_COUNT; shardIndex++) {
+            productStockShardPort.add(1L, shardIndex, 5);
+        }
+        productStockShardPort.commit();
+
+        // When
+        createSingleOrderService.execute(createOrderCommand("고객", 1L, 3));
+
+        // Then
+        assertThat(productStockShardPort.getAttemptedShardIndexList()).hasSize(1);
+        assertThat(readProductStockService.execute(1L).getQuantity()).isEqualTo(SHARD_COUNT * 5 - 3);
+    }
+
+    @Test
+    @DisplayName("동시 주문에서도 샤드 상품은 재고만큼만 판매되고 전체 재고가 맞는다")
+    void concurrentOrdersOnShardedProductSellExactlyStock() throws InterruptedException {
+        // Given
+        int threadCount = 60;
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger outOfStockCount = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < threadCount; i++) {
+            int index = i;
+            executorService.submit(() -> {
+                try {
+                    createSingleOrderService.execute(createOrderCommand("고객" + index, 1L, 1));
+                    successCount.incrementAndGet();
+                } catch (CommonException e) {
+                    if (e.getErrorCode() == ErrorCode.OUT_OF_STOCK) {
+                        outOfStockCount.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // Then
+        assertThat(successCount.get()).isEqualTo(30);
+        assertThat(outOfStockCount.get()).isEqualTo(threadCount - 30);
+        assertThat(orderRepositoryPort.getSavedOrders()).hasSize(30);
+        assertThat(readProductStockService.execute(1L).getQuantity()).isZero();
+        assertThat(stockMovementPort.getNetDelta(1L)).isEqualTo(-30);
+    }
+
+    private OrderCommand createOrderCommand(String customerName, Long productId, int quantity) {
+        return new OrderCommand(customerName, "주소", List.of(new OrderItemCommand(productId, "상품" + productId, quantity)));
+    }
+
+    // 테스트를 위한 인메모리 구현체들
+    static class TestLockPort implements LockPort {
+        private final Map<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+        private final Map<String, AtomicInteger> lockCounts = new ConcurrentHashMap<>();
+
+        @Override
+        public void lock(String key) {
+            locks.computeIfAbsent(key, k -> new ReentrantLock()).lock();
+            lockCounts.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+        }
+
+        @Override
+        public void unlock(String key) {
+            ReentrantLock lock = locks.get(key);
+            if (lock != null && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+
+        public int getLockCount(String key) {
+            return lockCounts.getOrDefault(key, new AtomicInteger()).get();
+        }
+    }
+
+    static class TestProductRepositoryPort implements ProductRepositoryPort {
+        private final Map<Long, Product> products = new ConcurrentHashMap<>();
+
+        @Override
+        public Product findById(Long id) {
+            Product original = products.get(id);
+            if (original == null) return null;
+
+            return Product.create(
+                    original.getId(),
+                    original.getName(),
+                    original.getQuantity(),
+                    original.getPrice(),
+                    original.getCreatedAt(),
+                    original.getUpdatedAt()
+            );
+        }
+
+        @Override
+        public List<Product> findAllByIdList(List<Long> idList) {
+            return idList.stream()
+                    .map(this::findById)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public Map<Long, Integer> findQuantityMapByIdList(List<Long> idList) {
+            return findAllByIdList(idList).stream()
+                    .collect(Collectors.toMap(Product::getId, Product::getQuantity));
+        }
+
+        @Override
+        public void saveAllProducts(List<Product> productList) {
+            for (Product product : productList) {
+                saveProduct(product);
+            }
+        }
+
+        public void saveProduct(Product product) {
+            products.put(product.getId(), product);
+        }
+    }
+
+    /**
+     * 샤드 변경을 스레드 별로 기록해 두었다가 트랜잭션 롤백 시 되돌림
+     */
+    static class TestProductStockShardPort implements ProductStockShardPort {
+        private final TestProductRepositoryPort productRepositoryPort;
+        private final Map<Long, Map<Integer, Integer>> shards = new HashMap<>();
+        private final ThreadLocal<Deque<Runnable>> undoLog = ThreadLocal.withInitial(ArrayDeque::new);
+        private final List<Integer> reducedShardIndexList = new ArrayList<>();
+        private final List<Integer> attemptedShardIndexList = new ArrayList<>();
+
+        TestProductStockShardPort(TestProductRepositoryPort productRepositoryPort) {
+            this.productRepositoryPort = productRepositoryPort;
+        }
+
+        @Override
+        public synchronized void initialize(Long productId, int shardCount) {
+            Map<Integer, Integer> shardMap = shards.computeIfAbsent(productId, k -> new HashMap<>());
+            for (int shardIndex = 0; shardIndex < shardCount; shardIndex++) {
+                shardMap.putIfAbsent(shardIndex, 0);
+            }
+        }
+
+        @Override
+        public synchronized boolean reduce(Long productId, int shardIndex, int quantity) {
+            Map<Integer, Integer> shardMap = shards.get(productId);
+            attemptedShardIndexList.add(shardIndex);
+            if (shardMap == null || shardMap.getOrDefault(shardIndex, -1) < quantity) {
+                return false;
+            }
+
+            shardMap.merge(shardIndex, -quantity, Integer::sum);
+            undoLog.get().push(() -> shardMap.merge(shardIndex, quantity, Integer::sum));
+            reducedShardIndexList.add(shardIndex);
+            return true;
+        }
+
+        @Override
+        public synchronized void add(Long productId, int shardIndex, int quantity) {
+            Map<Integer, Integer> shardMap = shards.get(productId);
+            shardMap.merge(shardIndex, quantity, Integer::sum);
+            undoLog.get().push(() -> shardMap.merge(shardIndex, -quantity, Integer::sum));
+        }
+
+        @Override
+        public synchronized Map<Integer, Integer> findQuantityMap(Long productId) {
+            return new HashMap<>(shards.getOrDefault(productId, Map.of()));
+        }
+
+        @Override
+        public synchronized Map<Long, Integer> findTotalQuantityMap(List<Long> productIdList) {
+            Map<Long, Integer> quantityMap = new HashMap<>();
+            for (Product product : productRepositoryPort.findAllByIdList(productIdList)) {
+                int shardQuantity = shards.getOrDefault(product.getId(), Map.of()).values().stream()
+                        .mapToInt(Integer::intValue)
+                        .sum();
+                quantityMap.put(product.getId(), product.getQuantity() + shardQuantity);
+            }
+            return quantityMap;
+        }
+
+        public synchronized List<Integer> getReducedShardIndexList() {
+            return new ArrayList<>(reducedShardIndexList);
+        }
+
+        public synchronized List<Integer> getAttemptedShardIndexList() {
+            return new ArrayList<>(attemptedShardIndexList);
+        }
+
+        public void commit() {
+            undoLog.get().clear();
+        }
+
+        public synchronized void rollback() {
+            Deque<Runnable> log = undoLog.get();
+            while (!log.isEmpty()) {
+                log.pop().run();
+            }
+        }
+    }
+
+    static class TestTransactionPort implements TransactionPort {
+        private final TestProductStockShardPort productStockShardPort;
+
+        TestTransactionPort(TestProductStockShardPort productStockShardPort) {
+            this.productStockShardPort = productStockShardPort;
+        }
+
+        @Override
+        public <T> T execute(Supplier<T> action) {
+            try {
+                T result = action.get();
+                productStockShardPort.commit();
+                return result;
+            } catch (RuntimeException e) {
+                productStockShardPort.rollback();
+                throw e;
+            }
+        }
+    }
+
+    static class TestOrderRepositoryPort implements OrderRepositoryPort {
+        private final List<Order> orders = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicLong orderIdGenerator = new AtomicLong(1);
+
+        @Override
+        public Order saveOrder(Order order) {
+            Order savedOrder = Order.create(
+                    orderIdGenerator.getAndIncrement(),
+                    order.getCustomerName(),
+                    order.getCustomerAddress(),
+                    order.getItems()
+            );
+            orders.add(savedOrder);
+            return savedOrder;
+        }
+
+        @Override
+        public List<Order> saveAllOrder(List<Order> orderList) {
+            List<Order> savedOrders = new ArrayList<>();
+            for (Order order : orderList) {
+                savedOrders.add(saveOrder(order));
+            }
+            return savedOrders;
+        }
+
+        public List<Order> getSavedOrders() {
+            return Collections.unmodifiableList(orders);
+        }
+    }
+
+    static class TestStockMovementPort implements StockMovementPort {
+        private final List<StockMovement> movements = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void appendAll(List<StockMovement> movementList) {
+            movements.addAll(movementList);
+        }
+
+        @Override
+        public int compactBefore(LocalDateTime threshold) {
+            return 0;
+        }
+
+        public int getNetDelta(Long productId) {
+            synchronized (movements) {
+                return movements.stream()
+                        .filter(movement -> movement.getProductId().equals(productId))
+                        .mapToInt(StockMovement::getDelta)
+                        .sum();
+            }
+        }
+    }
+}
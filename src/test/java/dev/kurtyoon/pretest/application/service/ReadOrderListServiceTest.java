@@ -0,0 +1,113 @@
+package dev.kurtyoon.pretest.application.service;
+
+import dev.kurtyoon.pretest.application.dto.response.OrderListResult;
+import dev.kurtyoon.pretest.application.port.out.OrderQueryPort;
+import dev.kurtyoon.pretest.application.service.support.OrderCursor;
+import dev.kurtyoon.pretest.core.exception.CommonException;
+import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
+import dev.kurtyoon.pretest.domain.OrderSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReadOrderListServiceTest {
+
+    @Mock
+    private OrderQueryPort orderQueryPort;
+
+    private ReadOrderListService readOrderListService;
+
+    @BeforeEach
+    void setUp() {
+        readOrderListService = new ReadOrderListService(orderQueryPort);
+    }
+
+    @Test
+    @DisplayName("첫 페이지 조회 - 다음 페이지가 있으면 마지막 주문으로 커서 생성")
+    void firstPageWithNextCursor() {
+
+        // Given
+        LocalDateTime now = LocalDateTime.of(2025, 3, 1, 12, 0, 0);
+        List<OrderSummary> summaryList = List.of(
+                OrderSummary.create(3L, "고객1", "서울시", 3000, now),
+                OrderSummary.create(2L, "고객1", "서울시", 2000, now.minusMinutes(1)),
+                OrderSummary.create(1L, "고객1", "서울시", 1000, now.minusMinutes(2))
+        );
+
+        // 페이지 크기 + 1 건 조회
+        when(orderQueryPort.findOrderSummaryList("고객1", null, null, 3))
+                .thenReturn(summaryList);
+
+        // When
+        OrderListResult result = readOrderListService.execute("고객1", null, 2);
+
+        // Then
+        assertThat(result.getOrders()).hasSize(2);
+        assertThat(result.isHasNext()).isTrue();
+
+        OrderCursor nextCursor = OrderCursor.decode(result.getNextCursor());
+        assertThat(nextCursor.id()).isEqualTo(2L);
+        assertThat(nextCursor.orderedAt()).isEqualTo(now.minusMinutes(1));
+    }
+
+    @Test
+    @DisplayName("커서 이후 페이지 조회 - 마지막 페이지는 커서가 없음")
+    void lastPageAfterCursor() {
+
+        // Given
+        LocalDateTime orderedAt = LocalDateTime.of(2025, 3, 1, 12, 0, 0, 123456000);
+        String cursor = new OrderCursor(orderedAt, 10L).encode();
+
+        when(orderQueryPort.findOrderSummaryList("고객1", orderedAt, 10L, 21))
+                .thenReturn(List.of(OrderSummary.create(9L, "고객1", "서울시", 1000, orderedAt)));
+
+        // When
+        OrderListResult result = readOrderListService.execute("고객1", cursor, 20);
+
+        // Then
+        assertThat(result.getOrders()).hasSize(1);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("페이지 크기는 최대 100 으로 제한")
+    void pageSizeIsCapped() {
+
+        // Given
+        when(orderQueryPort.findOrderSummaryList("고객1", null, null, 101))
+                .thenReturn(List.of());
+
+        // When
+        OrderListResult result = readOrderListService.execute("고객1", null, 1000);
+
+        // Then
+        assertThat(result.getOrders()).isEmpty();
+        assertThat(result.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 조회하지 않고 실패")
+    void failWithInvalidCursor() {
+
+        // When & Then
+        CommonException exception = assertThrows(CommonException.class,
+                () -> readOrderListService.execute("고객1", "invalid-cursor", 20));
+
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_PARAMETER_FORMAT);
+        verify(orderQueryPort, never()).findOrderSummaryList(anyString(), any(), any(), anyInt());
+    }
+}
@@ -0,0 +1,443 @@
+package dev.kurtyoon.pretest.application.service;
+
+import dev.kurtyoon.pretest.application.dto.request.OrderCommand;
+import dev.kurtyoon.pretest.application.dto.request.OrderItemCommand;
+import dev.kurtyoon.pretest.application.dto.response.BulkOrderResult;
+import dev.kurtyoon.pretest.application.dto.response.SingleOrderResult;
+import dev.kurtyoon.pretest.application.port.out.OrderRepositoryPort;
+import dev.kurtyoon.pretest.application.port.out.ProductRepositoryPort;
+import dev.kurtyoon.pretest.application.port.out.StockMovementPort;
+import dev.kurtyoon.pretest.application.port.out.TransactionPort;
+import dev.kurtyoon.pretest.core.exception.CommonException;
+import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
+import dev.kurtyoon.pretest.domain.Order;
+import dev.kurtyoon.pretest.domain.Product;
+import dev.kurtyoon.pretest.domain.StockMovement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ShardedCreateSingleOrderServiceTest {
+
+    private ShardedCreateSingleOrderService shardedCreateSingleOrderService;
+
+    private TestOrderRepositoryPort orderRepositoryPort;
+    private TestProductRepositoryPort productRepositoryPort;
+
+    @BeforeEach
+    void setUp() {
+        orderRepositoryPort = new TestOrderRepositoryPort();
+        productRepositoryPort = new TestProductRepositoryPort();
+
+        // 상품 1, 2 가 서로 다른 샤드에 배치되도록 샤드 2개 사용
+        shardedCreateSingleOrderService = new ShardedCreateSingleOrderService(
+                orderRepositoryPort,
+                productRepositoryPort,
+                new TestTransactionPort(productRepositoryPort),
+                new TestStockMovementPort(),
+                2,
+                100
+        );
+
+        productRepositoryPort.saveProduct(Product.create(1L, "상품1", 10, 1000, LocalDateTime.now(), LocalDateTime.now()));
+        productRepositoryPort.saveProduct(Product.create(2L, "상품2", 5, 2000, LocalDateTime.now(), LocalDateTime.now()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        shardedCreateSingleOrderService.shutdown();
+    }
+
+    @Test
+    @DisplayName("동시성 테스트 - 동일 상품에 대한 주문은 샤드에서 순차 처리")
+    void concurrentOrdersForSameProduct() throws InterruptedException {
+
+        // Given
+        int threadCount = 15;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+
+        OrderCommand command = new OrderCommand("고객", "서울시",
+                List.of(new OrderItemCommand(1L, "상품1", 1)));
+
+        // When
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    shardedCreateSingleOrderService.execute(command);
+                    successCount.incrementAndGet();
+                } catch (CommonException e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // Then
+        assertThat(successCount.get()).isEqualTo(10);
+        assertThat(failCount.get()).isEqualTo(5);
+        assertThat(productRepositoryPort.findById(1L).getQuantity()).isEqualTo(0);
+        assertThat(orderRepositoryPort.getSavedOrders()).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("여러 샤드에 걸친 주문 성공")
+    void orderAcrossShardsSuccessfully() {
+
+        // Given
+        OrderCommand command = new OrderCommand("고객1", "서울시",
+                List.of(
+                        new OrderItemCommand(2L, "상품2", 3),
+                        new OrderItemCommand(1L, "상품1", 2)
+                ));
+
+        // When
+        SingleOrderResult result = shardedCreateSingleOrderService.execute(command);
+
+        // Then
+        assertThat(result.getOrderId()).isNotNull();
+        assertThat(productRepositoryPort.findById(1L).getQuantity()).isEqualTo(8);
+        assertThat(productRepositoryPort.findById(2L).getQuantity()).isEqualTo(2);
+
+        // 주문 항목은 요청 순서를 유지
+        Order savedOrder = orderRepositoryPort.getSavedOrders().get(0);
+        assertThat(savedOrder.getItems().get(0).getProductId()).isEqualTo(2L);
+        assertThat(savedOrder.getItems().get(1).getProductId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("여러 샤드에 걸친 주문 실패 시 먼저 확보한 샤드의 재고 반환")
+    void releaseReservedShardsWhenLaterShardFails() {
+
+        // Given - 상품 1 은 충분하지만 상품 2 는 재고 부족
+        OrderCommand command = new OrderCommand("고객1", "서울시",
+                List.of(
+                        new OrderItemCommand(1L, "상품1", 2),
+                        new OrderItemCommand(2L, "상품2", 6)
+                ));
+
+        // When & Then
+        CommonException exception = assertThrows(CommonException.class,
+                () -> shardedCreateSingleOrderService.execute(command));
+
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.OUT_OF_STOCK);
+        assertThat(productRepositoryPort.findById(1L).getQuantity()).isEqualTo(10);
+        assertThat(productRepositoryPort.findById(2L).getQuantity()).isEqualTo(5);
+        assertThat(orderRepositoryPort.getSavedOrders()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("주문 저장 실패 시 재고 반환")
+    void releaseStockWhenOrderSaveFails() {
+
+        // Given
+        orderRepositoryPort.failOnSave();
+
+        OrderCommand command = new OrderCommand("고객1", "서울시",
+                List.of(new OrderItemCommand(1L, "상품1", 2)));
+
+        // When & Then
+        assertThrows(RuntimeException.class, () -> shardedCreateSingleOrderService.execute(command));
+
+        assertThat(productRepositoryPort.findById(1L).getQuantity()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품 주문 실패")
+    void failWithProductNotFound() {
+
+        // Given
+        OrderCommand command = new OrderCommand("고객1", "서울시",
+                List.of(new OrderItemCommand(999L, "상품999", 1)));
+
+        // When & Then
+        CommonException exception = assertThrows(CommonException.class,
+                () -> shardedCreateSingleOrderService.execute(command));
+
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.NOT_FOUND_PRODUCT);
+    }
+
+    @Test
+    @DisplayName("샤드에 적재된 상품은 이후 주문에서 DB 를 다시 읽지 않고 메모리 재고로 판단한다")
+    void loadedProductIsNotReadAgain() {
+
+        // Given
+        OrderCommand command = new OrderCommand("고객1", "서울시",
+                List.of(new OrderItemCommand(1L, "상품1", 1)));
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            shardedCreateSingleOrderService.execute(command);
+        }
+
+        // Then
+        assertThat(productRepositoryPort.getReadCount()).isEqualTo(1);
+        assertThat(productRepositoryPort.findById(1L).getQuantity()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("샤드 모드의 대량 주문은 샤드를 거치므로 이후 단건 주문이 대량 주문의 차감을 덮어쓰지 않음")
+    void bulkOrderInShardedMode() {
+
+        // Given - 단건 주문으로 샤드에 상품 1 을 적재
+        ShardedCreateBulkOrderService createBulkOrderService = createBulkOrderService(
+                List.of(new OrderCommand("고객2", "부산시", List.of(new OrderItemCommand(1L, "상품1", 3))))
+        );
+        OrderCommand singleCommand = new OrderCommand("고객1", "서울시",
+                List.of(new OrderItemCommand(1L, "상품1", 1)));
+
+        shardedCreateSingleOrderService.execute(singleCommand);
+
+        // When
+        BulkOrderResult bulkResult = createBulkOrderService.execute("bulk".getBytes());
+        shardedCreateSingleOrderService.execute(singleCommand);
+
+        // Then - 10 - 1 - 3 - 1
+        assertThat(bulkResult.getSuccessOrders()).hasSize(1);
+        assertThat(productRepositoryPort.findById(1L).getQuantity()).isEqualTo(5);
+
+        // 대량 주문 이전의 재고(8)로 판단했다면 성공했을 주문
+        CommonException exception = assertThrows(CommonException.class,
+                () -> shardedCreateSingleOrderService.execute(new OrderCommand("고객1", "서울시",
+                        List.of(new OrderItemCommand(1L, "상품1", 6)))));
+
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.OUT_OF_STOCK);
+        assertThat(productRepositoryPort.findById(1L).getQuantity()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("샤드 모드의 대량 주문은 실패한 주문을 실패 사유와 함께 반환한다")
+    void bulkOrderCollectsFailures() {
+
+        // Given
+        ShardedCreateBulkOrderService createBulkOrderService = createBulkOrderService(List.of(
+                new OrderCommand("고객1", "서울시", List.of(new OrderItemCommand(2L, "상품2", 4))),
+                new OrderCommand("고객2", "부산시", List.of(new OrderItemCommand(2L, "상품2", 4))),
+                new OrderCommand("고객3", "대구시", List.of(new OrderItemCommand(999L, "상품999", 1)))
+        ));
+
+        // When
+        BulkOrderResult bulkResult = createBulkOrderService.execute("bulk".getBytes());
+
+        // Then
+        assertThat(bulkResult.getSuccessOrders()).hasSize(1);
+        assertThat(bulkResult.getFailedOrders()).hasSize(2);
+        assertThat(productRepositoryPort.findById(2L).getQuantity()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시성 테스트 - 샤드 단건 주문과 대량 주문이 동시에 같은 상품을 주문해도 초과 판매하지 않음")
+    void concurrentBulkAndShardedOrders() throws InterruptedException {
+
+        // Given - 단건 10개 + 대량 2건(각 3개 주문) = 16개 주문, 재고 10개
+        ShardedCreateBulkOrderService createBulkOrderService = createBulkOrderService(List.of(
+                new OrderCommand("대량1", "부산시", List.of(new OrderItemCommand(1L, "상품1", 1))),
+                new OrderCommand("대량2", "부산시", List.of(new OrderItemCommand(1L, "상품1", 1))),
+                new OrderCommand("대량3", "부산시", List.of(new OrderItemCommand(1L, "상품1", 1)))
+        ));
+        OrderCommand singleCommand = new OrderCommand("고객", "서울시",
+                List.of(new OrderItemCommand(1L, "상품1", 1)));
+
+        int singleCount = 10;
+        int bulkCount = 2;
+        ExecutorService executorService = Executors.newFixedThreadPool(singleCount + bulkCount);
+        CountDownLatch latch = new CountDownLatch(singleCount + bulkCount);
+
+        // When
+        for (int i = 0; i < singleCount + bulkCount; i++) {
+            boolean bulk = i < bulkCount;
+
+            executorService.submit(() -> {
+                try {
+                    if (bulk) {
+                        createBulkOrderService.execute("bulk".getBytes());
+                    } else {
+                        shardedCreateSingleOrderService.execute(singleCommand);
+                    }
+                } catch (CommonException e) {
+                    // 재고 부족
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // Then - 저장된 주문 수량의 합과 차감된 재고가 같음
+        int orderedQuantity = orderRepositoryPort.getSavedOrders().stream()
+                .flatMap(order -> order.getItems().stream())
+                .mapToInt(item -> item.getQuantity())
+                .sum();
+
+        assertThat(orderedQuantity).isEqualTo(10);
+        assertThat(productRepositoryPort.findById(1L).getQuantity()).isEqualTo(0);
+    }
+
+    private ShardedCreateBulkOrderService createBulkOrderService(List<OrderCommand> commandList) {
+        return new ShardedCreateBulkOrderService(
+                excelData -> commandList,
+                shardedCreateSingleOrderService
+        );
+    }
+
+    static class TestOrderRepositoryPort implements OrderRepositoryPort {
+        private final List<Order> orders = new CopyOnWriteArrayList<>();
+        private final AtomicLong orderIdGenerator = new AtomicLong(1);
+        private volatile boolean failOnSave = false;
+
+        @Override
+        public Order saveOrder(Order order) {
+            if (failOnSave) {
+                throw new RuntimeException("DB 저장 실패");
+            }
+
+            Order savedOrder = Order.create(
+                    orderIdGenerator.getAndIncrement(),
+                    order.getCustomerName(),
+                    order.getCustomerAddress(),
+                    order.getItems()
+            );
+            orders.add(savedOrder);
+            return savedOrder;
+        }
+
+        @Override
+        public List<Order> saveAllOrder(List<Order> orderList) {
+            return orderList.stream().map(this::saveOrder).toList();
+        }
+
+        public void failOnSave() {
+            this.failOnSave = true;
+        }
+
+        public List<Order> getSavedOrders() {
+            return Collections.unmodifiableList(orders);
+        }
+    }
+
+    static class TestProductRepositoryPort implements ProductRepositoryPort {
+        private final Map<Long, Product> products = new ConcurrentHashMap<>();
+        private final AtomicInteger readCount = new AtomicInteger();
+
+        @Override
+        public Product findById(Long id) {
+            Product original = products.get(id);
+            if (original == null) return null;
+
+            return Product.create(
+                    original.getId(),
+                    original.getName(),
+                    original.getQuantity(),
+                    original.getPrice(),
+                    original.getCreatedAt(),
+                    original.getUpdatedAt()
+            );
+        }
+
+        @Override
+        public List<Product> findAllByIdList(List<Long> idList) {
+            readCount.incrementAndGet();
+            return idList.stream()
+                    .map(this::findById)
+                    .filter(Objects::nonNull)
+                    .toList();
+        }
+
+        @Override
+        public Map<Long, Integer> findQuantityMapByIdList(List<Long> idList) {
+            readCount.incrementAndGet();
+            return idList.stream()
+                    .map(this::findById)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toMap(Product::getId, Product::getQuantity));
+        }
+
+        @Override
+        public void saveAllProducts(List<Product> productList) {
+            productList.forEach(this::saveProduct);
+        }
+
+        public void saveProduct(Product product) {
+            products.put(product.getId(), product);
+        }
+
+        public int getReadCount() {
+            return readCount.get();
+        }
+
+        public synchronized Map<Long, Product> snapshot() {
+            return new HashMap<>(products);
+        }
+
+        public synchronized void restore(Map<Long, Product> snapshot) {
+            products.clear();
+            products.putAll(snapshot);
+        }
+    }
+
+    /**
+     * 작업 중 예외가 발생하면 상품 저장소를 작업 전 상태로 되돌려 DB 롤백을 흉내냄
+     */
+    static class TestTransactionPort implements TransactionPort {
+        private final TestProductRepositoryPort productRepositoryPort;
+
+        TestTransactionPort(TestProductRepositoryPort productRepositoryPort) {
+            this.productRepositoryPort = productRepositoryPort;
+        }
+
+        @Override
+        public <T> T execute(Supplier<T> action) {
+            Map<Long, Product> snapshot = productRepositoryPort.snapshot();
+
+            try {
+                return action.get();
+            } catch (RuntimeException e) {
+                productRepositoryPort.restore(snapshot);
+                throw e;
+            }
+        }
+    }
+
+    static class TestStockMovementPort implements StockMovementPort {
+        private final List<StockMovement> movements = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void appendAll(List<StockMovement> movementList) {
+            movements.addAll(movementList);
+        }
+
+        @Override
+        public int compactBefore(LocalDateTime threshold) {
+            return 0;
+        }
+
+        public int getNetDelta(Long productId) {
+            synchronized (movements) {
+                return movements.stream()
+                        .filter(movement -> movement.getProductId().equals(productId))
+                        .mapToInt(StockMovement::getDelta)
+                        .sum();
+            }
+        }
+    }
+}
@@ -0,0 +1,389 @@
+package dev.kurtyoon.pretest.application.service;
+
+import dev.kurtyoon.pretest.application.dto.request.OrderCommand;
+import dev.kurtyoon.pretest.application.dto.request.OrderItemCommand;
+import dev.kurtyoon.pretest.application.dto.response.SingleOrderResult;
+import dev.kurtyoon.pretest.application.dto.response.StockReservationResult;
+import dev.kurtyoon.pretest.application.port.out.LockPort;
+import dev.kurtyoon.pretest.application.port.out.OrderRepositoryPort;
+import dev.kurtyoon.pretest.application.port.out.ProductRepositoryPort;
+import dev.kurtyoon.pretest.application.port.out.StockMovementPort;
+import dev.kurtyoon.pretest.application.port.out.StockReservationPort;
+import dev.kurtyoon.pretest.application.port.out.TransactionPort;
+import dev.kurtyoon.pretest.application.service.support.ProductAvailabilityRegistry;
+import dev.kurtyoon.pretest.core.exception.CommonException;
+import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
+import dev.kurtyoon.pretest.domain.Order;
+import dev.kurtyoon.pretest.domain.Product;
+import dev.kurtyoon.pretest.domain.StockMovement;
+import dev.kurtyoon.pretest.domain.StockReservation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StockReservationServiceTest {
+
+    private TestLockPort lockPort;
+    private TestProductRepositoryPort productRepositoryPort;
+    private TestStockReservationPort stockReservationPort;
+    private TestOrderRepositoryPort orderRepositoryPort;
+    private TestStockMovementPort stockMovementPort;
+    private ProductAvailabilityRegistry productAvailabilityRegistry;
+
+    private ConfirmStockReservationService confirmStockReservationService;
+    private ReleaseStockReservationService releaseStockReservationService;
+
+    @BeforeEach
+    void setUp() {
+        lockPort = new TestLockPort();
+        productRepositoryPort = new TestProductRepositoryPort();
+        stockReservationPort = new TestStockReservationPort();
+        orderRepositoryPort = new TestOrderRepositoryPort();
+        stockMovementPort = new TestStockMovementPort();
+        productAvailabilityRegistry = new ProductAvailabilityRegistry(true, Duration.ofSeconds(2), 1000);
+
+        confirmStockReservationService = new ConfirmStockReservationService(
+                stockReservationPort,
+                orderRepositoryPort,
+                new TestTransactionPort()
+        );
+        releaseStockReservationService = new ReleaseStockReservationService(
+                lockPort,
+                productRepositoryPort,
+                stockReservationPort,
+                new TestTransactionPort(),
+                stockMovementPort,
+                productAvailabilityRegistry,
+                100
+        );
+
+        productRepositoryPort.saveProduct(Product.create(1L, "상품1", 10, 1000, LocalDateTime.now(), LocalDateTime.now()));
+        productRepositoryPort.saveProduct(Product.create(2L, "상품2", 5, 2000, LocalDateTime.now(), LocalDateTime.now()));
+    }
+
+    @Test
+    @DisplayName("재고 예약 후 확정하면 Lock 없이 주문이 저장된다")
+    void reserveAndConfirm() {
+
+        // Given
+        ReserveStockService reserveStockService = createReserveStockService(Duration.ofMinutes(5));
+        OrderCommand command = new OrderCommand("고객1", "서울시",
+                List.of(
+                        new OrderItemCommand(2L, "상품2", 2),
+                        new OrderItemCommand(1L, "상품1", 3)
+                ));
+
+        // When
+        StockReservationResult reservation = reserveStockService.execute(command);
+
+        // Then - 예약 시점에 재고 차감
+        assertThat(productRepositoryPort.findById(1L).getQuantity()).isEqualTo(7);
+        assertThat(productRepositoryPort.findById(2L).getQuantity()).isEqualTo(3);
+        assertThat(stockMovementPort.getNetDelta(1L)).isEqualTo(-3);
+        assertThat(lockPort.getActiveLockCount()).isZero();
+
+        int lockCount = lockPort.getLockCount();
+        SingleOrderResult result = confirmStockReservationService.execute(reservation.getReservationId());
+
+        // 확정은 Lock 을 잡지 않고 재고도 다시 차감하지 않음
+        assertThat(result.getOrderId()).isNotNull();
+        assertThat(lockPort.getLockCount()).isEqualTo(lockCount);
+        assertThat(productRepositoryPort.findById(1L).getQuantity()).isEqualTo(7);
+        assertThat(orderRepositoryPort.getSavedOrders()).hasSize(1);
+        assertThat(orderRepositoryPort.getSavedOrders().get(0).getTotalPrice()).isEqualTo(7000);
+        assertThat(stockReservationPort.findById(reservation.getReservationId())).isNull();
+
+        // 이미 확정된 예약은 다시 확정할 수 없음
+        CommonException exception = assertThrows(CommonException.class,
+                () -> confirmStockReservationService.execute(reservation.getReservationId()));
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.NOT_FOUND_RESERVATION);
+    }
+
+    @Test
+    @DisplayName("재고가 부족하면 예약에 실패하고 재고는 변하지 않는다")
+    void reserveFailsWhenOutOfStock() {
+
+        // Given
+        ReserveStockService reserveStockService = createReserveStockService(Duration.ofMinutes(5));
+        OrderCommand command = new OrderCommand("고객1", "서울시",
+                List.of(
+                        new OrderItemCommand(1L, "상품1", 3),
+                        new OrderItemCommand(2L, "상품2", 6)
+                ));
+
+        // When & Then
+        CommonException exception = assertThrows(CommonException.class, () -> reserveStockService.execute(command));
+
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.OUT_OF_STOCK);
+        assertThat(productRepositoryPort.findById(1L).getQuantity()).isEqualTo(10);
+        assertThat(productRepositoryPort.findById(2L).getQuantity()).isEqualTo(5);
+        assertThat(stockReservationPort.size()).isZero();
+        assertThat(lockPort.getActiveLockCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("예약을 취소하면 재고가 반환되고 품절 상품도 다시 주문할 수 있다")
+    void releaseRestoresStock() {
+
+        // Given - 상품 2 를 모두 예약하여 품절
+        ReserveStockService reserveStockService = createReserveStockService(Duration.ofMinutes(5));
+        StockReservationResult reservation = reserveStockService.execute(new OrderCommand("고객1", "서울시",
+                List.of(new OrderItemCommand(2L, "상품2", 5))));
+
+        assertThat(productAvailabilityRegistry.findRejection(List.of(new OrderItemCommand(2L, "상품2", 1))))
+                .isEqualTo(ErrorCode.OUT_OF_STOCK);
+
+        // When
+        releaseStockReservationService.execute(reservation.getReservationId());
+
+        // Then
+        assertThat(productRepositoryPort.findById(2L).getQuantity()).isEqualTo(5);
+        assertThat(stockMovementPort.getNetDelta(2L)).isZero();
+        assertThat(productAvailabilityRegistry.findRejection(List.of(new OrderItemCommand(2L, "상품2", 1)))).isNull();
+
+        // 이미 반환된 예약은 다시 반환할 수 없음
+        assertThrows(CommonException.class, () -> releaseStockReservationService.execute(reservation.getReservationId()));
+        assertThat(productRepositoryPort.findById(2L).getQuantity()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("만료된 예약은 확정할 수 없고 주기 실행 시 재고가 반환된다")
+    void expiredReservationIsSwept() {
+
+        // Given
+        ReserveStockService reserveStockService = createReserveStockService(Duration.ZERO);
+        StockReservationResult expired = reserveStockService.execute(new OrderCommand("고객1", "서울시",
+                List.of(new OrderItemCommand(1L, "상품1", 4))));
+
+        CommonException exception = assertThrows(CommonException.class,
+                () -> confirmStockReservationService.execute(expired.getReservationId()));
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.EXPIRED_RESERVATION);
+        assertThat(productRepositoryPort.findById(1L).getQuantity()).isEqualTo(6);
+
+        // When
+        int releasedCount = releaseStockReservationService.execute();
+
+        // Then
+        assertThat(releasedCount).isEqualTo(1);
+        assertThat(productRepositoryPort.findById(1L).getQuantity()).isEqualTo(10);
+        assertThat(stockReservationPort.size()).isZero();
+        assertThat(orderRepositoryPort.getSavedOrders()).isEmpty();
+        assertThat(releaseStockReservationService.execute()).isZero();
+    }
+
+    @Test
+    @DisplayName("샤드 모드에서는 재고 예약 / 반환 요청을 거절하고 재고를 건드리지 않는다")
+    void shardedModeRejectsReservation() {
+
+        // Given
+        RejectingStockReservationService rejectingService = new RejectingStockReservationService();
+
+        // When
+        CommonException reserveException = assertThrows(CommonException.class,
+                () -> rejectingService.execute(new OrderCommand("고객1", "서울시",
+                        List.of(new OrderItemCommand(1L, "상품1", 4)))));
+        CommonException releaseException = assertThrows(CommonException.class,
+                () -> rejectingService.execute(1L));
+
+        // Then
+        assertThat(reserveException.getErrorCode()).isEqualTo(ErrorCode.UNSUPPORTED_IN_EXECUTION_MODE);
+        assertThat(releaseException.getErrorCode()).isEqualTo(ErrorCode.UNSUPPORTED_IN_EXECUTION_MODE);
+        assertThat(rejectingService.execute()).isZero();
+        assertThat(productRepositoryPort.findById(1L).getQuantity()).isEqualTo(10);
+    }
+
+    private ReserveStockService createReserveStockService(Duration ttl) {
+        return new ReserveStockService(
+                lockPort,
+                productRepositoryPort,
+                stockReservationPort,
+                new TestTransactionPort(),
+                stockMovementPort,
+                productAvailabilityRegistry,
+                ttl
+        );
+    }
+
+    static class TestLockPort implements LockPort {
+        private final Map<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+        private final Set<String> activeLocks = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger lockCount = new AtomicInteger(0);
+
+        @Override
+        public void lock(String key) {
+            locks.computeIfAbsent(key, k -> new ReentrantLock()).lock();
+            activeLocks.add(key);
+            lockCount.incrementAndGet();
+        }
+
+        @Override
+        public void unlock(String key) {
+            ReentrantLock lock = locks.get(key);
+            if (lock != null && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+                activeLocks.remove(key);
+            }
+        }
+
+        public int getLockCount() {
+            return lockCount.get();
+        }
+
+        public int getActiveLockCount() {
+            return activeLocks.size();
+        }
+    }
+
+    static class TestProductRepositoryPort implements ProductRepositoryPort {
+        private final Map<Long, Product> products = new ConcurrentHashMap<>();
+
+        @Override
+        public Product findById(Long id) {
+            Product original = products.get(id);
+            if (original == null) return null;
+
+            return Product.create(
+                    original.getId(),
+                    original.getName(),
+                    original.getQuantity(),
+                    original.getPrice(),
+                    original.getCreatedAt(),
+                    original.getUpdatedAt()
+            );
+        }
+
+        @Override
+        public List<Product> findAllByIdList(List<Long> idList) {
+            return idList.stream()
+                    .map(this::findById)
+                    .filter(Objects::nonNull)
+                    .toList();
+        }
+
+        @Override
+        public Map<Long, Integer> findQuantityMapByIdList(List<Long> idList) {
+            return findAllByIdList(idList).stream()
+                    .collect(Collectors.toMap(Product::getId, Product::getQuantity));
+        }
+
+        @Override
+        public void saveAllProducts(List<Product> productList) {
+            productList.forEach(this::saveProduct);
+        }
+
+        public void saveProduct(Product product) {
+            products.put(product.getId(), product);
+        }
+    }
+
+    static class TestStockReservationPort implements StockReservationPort {
+        private final Map<Long, StockReservation> reservations = new ConcurrentHashMap<>();
+        private final AtomicLong idGenerator = new AtomicLong(1);
+
+        @Override
+        public StockReservation save(StockReservation reservation) {
+            StockReservation saved = StockReservation.create(
+                    idGenerator.getAndIncrement(),
+                    reservation.getCustomerName(),
+                    reservation.getCustomerAddress(),
+                    reservation.getItems(),
+                    reservation.getReservedAt(),
+                    reservation.getExpiresAt()
+            );
+            reservations.put(saved.getId(), saved);
+            return saved;
+        }
+
+        @Override
+        public StockReservation findById(Long reservationId) {
+            return reservations.get(reservationId);
+        }
+
+        @Override
+        public List<StockReservation> findExpiredList(LocalDateTime now, int limit) {
+            return reservations.values().stream()
+                    .filter(reservation -> reservation.isExpired(now))
+                    .sorted(Comparator.comparing(StockReservation::getExpiresAt))
+                    .limit(limit)
+                    .toList();
+        }
+
+        @Override
+        public boolean delete(Long reservationId) {
+            return reservations.remove(reservationId) != null;
+        }
+
+        public int size() {
+            return reservations.size();
+        }
+    }
+
+    static class TestOrderRepositoryPort implements OrderRepositoryPort {
+        private final List<Order> orders = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicLong orderIdGenerator = new AtomicLong(1);
+
+        @Override
+        public Order saveOrder(Order order) {
+            Order savedOrder = Order.create(
+                    orderIdGenerator.getAndIncrement(),
+                    order.getCustomerName(),
+                    order.getCustomerAddress(),
+                    order.getItems()
+            );
+            orders.add(savedOrder);
+            return savedOrder;
+        }
+
+        @Override
+        public List<Order> saveAllOrder(List<Order> orderList) {
+            return orderList.stream().map(this::saveOrder).toList();
+        }
+
+        public List<Order> getSavedOrders() {
+            return Collections.unmodifiableList(orders);
+        }
+    }
+
+    static class TestTransactionPort implements TransactionPort {
+        @Override
+        public <T> T execute(Supplier<T> action) {
+            return action.get();
+        }
+    }
+
+    static class TestStockMovementPort implements StockMovementPort {
+        private final List<StockMovement> movements = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void appendAll(List<StockMovement> movementList) {
+            movements.addAll(movementList);
+        }
+
+        @Override
+        public int compactBefore(LocalDateTime threshold) {
+            return 0;
+        }
+
+        public int getNetDelta(Long productId) {
+            synchronized (movements) {
+                return movements.stream()
+                        .filter(movement -> movement.getProductId().equals(productId))
+                        .mapToInt(StockMovement::getDelta)
+                        .sum();
+            }
+        }
+    }
+}
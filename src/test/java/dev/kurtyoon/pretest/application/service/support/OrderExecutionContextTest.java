@@ -0,0 +1,98 @@
+package dev.kurtyoon.pretest.application.service.support;
+
+import dev.kurtyoon.pretest.core.exception.error.ErrorCode;
+import dev.kurtyoon.pretest.domain.OrderItem;
+import dev.kurtyoon.pretest.domain.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderExecutionContextTest {
+
+    @Test
+    @DisplayName("여러 상품을 일부만 차감한 뒤 복구하면 모든 상품의 재고가 원래대로 돌아온다")
+    void restoreStateAfterPartialReductions() {
+        // given
+        Product product1 = createProduct(1L, 10);
+        Product product2 = createProduct(2L, 5);
+        Product product3 = createProduct(3L, 7);
+        Map<Long, Product> productMap = Map.of(1L, product1, 2L, product2, 3L, product3);
+
+        OrderExecutionContext context = new OrderExecutionContext(List.of(1L, 2L, 3L));
+
+        // 같은 상품을 여러 번 차감하는 주문, 다른 상품 조합의 주문, 재고 부족으로 실패한 주문
+        ErrorCode firstResult = context.validateAndReduceStock(List.of(
+                createItem(1L, 3),
+                createItem(2L, 2),
+                createItem(1L, 4)
+        ), productMap);
+        ErrorCode secondResult = context.validateAndReduceStock(List.of(
+                createItem(2L, 1),
+                createItem(3L, 6)
+        ), productMap);
+        ErrorCode failedResult = context.validateAndReduceStock(List.of(
+                createItem(3L, 1),
+                createItem(1L, 5)
+        ), productMap);
+
+        assertNull(firstResult);
+        assertNull(secondResult);
+        assertEquals(ErrorCode.OUT_OF_STOCK, failedResult);
+        assertEquals(3, product1.getQuantity());
+        assertEquals(2, product2.getQuantity());
+        assertEquals(1, product3.getQuantity());
+        assertEquals(List.of(product1, product2, product3), context.getChangedProductList(productMap));
+
+        // when
+        context.restoreState();
+
+        // then
+        assertEquals(10, product1.getQuantity());
+        assertEquals(5, product2.getQuantity());
+        assertEquals(7, product3.getQuantity());
+        assertTrue(context.getChangedProductList(productMap).isEmpty());
+
+        // 이미 복구한 변경은 다시 되돌리지 않음
+        context.restoreState();
+        assertEquals(10, product1.getQuantity());
+        assertEquals(5, product2.getQuantity());
+        assertEquals(7, product3.getQuantity());
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 주문은 어떤 상품의 재고도 차감하지 않는다")
+    void validationFailureReducesNothing() {
+        // given
+        Product product1 = createProduct(1L, 10);
+        Product product2 = createProduct(2L, 1);
+        Map<Long, Product> productMap = Map.of(1L, product1, 2L, product2);
+
+        OrderExecutionContext context = new OrderExecutionContext(List.of(1L, 2L));
+
+        // when
+        ErrorCode result = context.validateAndReduceStock(List.of(
+                createItem(1L, 3),
+                createItem(2L, 2)
+        ), productMap);
+
+        // then
+        assertEquals(ErrorCode.OUT_OF_STOCK, result);
+        assertEquals(10, product1.getQuantity());
+        assertEquals(1, product2.getQuantity());
+        assertTrue(context.getChangedProductList(productMap).isEmpty());
+    }
+
+    private Product createProduct(Long id, int quantity) {
+        LocalDateTime now = LocalDateTime.now();
+        return Product.create(id, "상품" + id, quantity, 1000, now, now);
+    }
+
+    private OrderItem createItem(Long productId, int quantity) {
+        return OrderItem.create(productId, "상품" + productId, quantity, 1000);
+    }
+}
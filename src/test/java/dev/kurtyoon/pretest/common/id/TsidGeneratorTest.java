@@ -0,0 +1,49 @@
+package dev.kurtyoon.pretest.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TsidGeneratorTest {
+
+    @Test
+    @DisplayName("노드 번호를 지정하지 않으면 호스트 이름으로 항상 같은 번호를 정한다")
+    void derivesNodeIdFromHostName() {
+        long nodeId = TsidGenerator.deriveNodeId("order-api-0");
+
+        assertThat(TsidGenerator.deriveNodeId("order-api-0")).isEqualTo(nodeId);
+        assertThat(nodeId).isBetween(0L, 1023L);
+        assertThat(TsidGenerator.deriveNodeId("")).isBetween(0L, 1023L);
+    }
+
+    @Test
+    @DisplayName("ID 는 중복 없이 증가하고 노드 번호를 포함한다")
+    void generatesIncreasingIdsWithNodeId() {
+        TsidGenerator tsidGenerator = new TsidGenerator(7);
+        Set<Long> idSet = new HashSet<>();
+
+        long previous = 0L;
+        for (int i = 0; i < 10_000; i++) {
+            long id = tsidGenerator.nextId();
+
+            assertThat(id).isGreaterThan(previous);
+            assertThat((id >> 12) & 1023).isEqualTo(7L);
+            idSet.add(id);
+            previous = id;
+        }
+
+        assertThat(idSet).hasSize(10_000);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 노드 번호는 거부한다")
+    void rejectsOutOfRangeNodeId() {
+        assertThrows(IllegalArgumentException.class, () -> new TsidGenerator(1024));
+        assertThrows(IllegalArgumentException.class, () -> new TsidGenerator(-1));
+    }
+}